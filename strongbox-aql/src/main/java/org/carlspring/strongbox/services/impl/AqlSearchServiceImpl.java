@@ -11,6 +11,7 @@ import javax.transaction.Transactional;
 
 import org.carlspring.strongbox.data.criteria.DetachQueryTemplate;
 import org.carlspring.strongbox.data.criteria.OQueryTemplate;
+import org.carlspring.strongbox.data.criteria.Paginator;
 import org.carlspring.strongbox.data.criteria.QueryTemplate;
 import org.carlspring.strongbox.data.criteria.Selector;
 import org.carlspring.strongbox.dependency.snippet.CodeSnippet;
@@ -46,7 +47,15 @@ public class AqlSearchServiceImpl implements AqlSearchService
 
         QueryTemplate<List<ArtifactEntry>, ArtifactEntry> queryTemplate = new DetachQueryTemplate<>(
                 new OQueryTemplate<>(entityManager));
-        for (ArtifactEntry artifactEntry : queryTemplate.select(selector))
+        Paginator paginator = selector.getPaginator();
+
+        List<ArtifactEntry> artifactEntries = queryTemplate.select(selector);
+        if (paginator.getCursor() != null && artifactEntries.size() == paginator.getLimit())
+        {
+            result.setCursor(Paginator.toCursor(artifactEntries.get(artifactEntries.size() - 1)));
+        }
+
+        for (ArtifactEntry artifactEntry : artifactEntries)
         {
             SearchResult r = new SearchResult();
             result.getResults().add(r);
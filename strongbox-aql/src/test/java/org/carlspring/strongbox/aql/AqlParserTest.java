@@ -2,6 +2,7 @@ package org.carlspring.strongbox.aql;
 
 import org.carlspring.strongbox.aql.grammar.AqlQueryParser;
 import org.carlspring.strongbox.data.criteria.OQueryTemplate;
+import org.carlspring.strongbox.data.criteria.Paginator;
 import org.carlspring.strongbox.data.criteria.Predicate;
 import org.carlspring.strongbox.data.criteria.QueryParserException;
 import org.carlspring.strongbox.data.criteria.Selector;
@@ -18,6 +19,7 @@ import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 public class AqlParserTest
 {
@@ -197,6 +199,48 @@ public class AqlParserTest
                 );
     }
 
+    @Test
+    public void testCursorPagination()
+    {
+        String query = "storage:storage-common-proxies +repository:carlspring skip: 12";
+
+        AqlQueryParser aqlParser = new AqlQueryParser(query);
+        Selector<ArtifactEntry> selector = aqlParser.parseQuery();
+
+        ArtifactEntry lastEntry = new ArtifactEntry();
+        lastEntry.setUuid("storage-common-proxies-carlspring-org/carlspring/1.0/carlspring-1.0.jar");
+
+        Paginator paginator = selector.getPaginator();
+        paginator.setCursor(Paginator.toCursor(lastEntry));
+
+        assertThat(paginator.getCursorUuid()).isEqualTo(lastEntry.getUuid());
+
+        OQueryTemplate<Object, ArtifactEntry> queryTemplate = new OQueryTemplate<>(null);
+
+        String sqlQuery = queryTemplate.calculateQueryString(selector);
+
+        logger.debug("Query [{}] parse result:\n[{}]", query, sqlQuery);
+
+        // the cursor replaces the skip
+        assertThat(sqlQuery).endsWith(") AND uuid > :cursor_uuid ORDER BY uuid ASC LIMIT 25");
+        assertThat(sqlQuery).doesNotContain("SKIP");
+
+        // the empty cursor selects the first page
+        paginator.setCursor("");
+
+        assertThat(paginator.getCursorUuid()).isEmpty();
+        assertThat(queryTemplate.calculateQueryString(selector)).endsWith(") AND uuid > :cursor_uuid ORDER BY uuid ASC LIMIT 25");
+
+        // without cursor the order is left as is
+        paginator.setCursor(null);
+
+        assertThat(queryTemplate.calculateQueryString(selector)).doesNotContain("ORDER BY").contains("SKIP 12");
+
+        paginator.setCursor("not a cursor");
+
+        assertThatExceptionOfType(QueryParserException.class).isThrownBy(paginator::getCursorUuid);
+    }
+
     @Test
     public void testInvalidQuery()
     {
@@ -13,6 +13,12 @@ public interface ProxyRepositoryConnectionPoolConfigurationService
 
     Client getRestClient();
 
+    /**
+     * @return `true` if the clients returned by {@link #getRestClient()} log
+     *         the requests and responses
+     */
+    boolean isRestClientLoggingEnabled();
+
     CloseableHttpClient getHttpClient();
 
     void setMaxTotal(int max);
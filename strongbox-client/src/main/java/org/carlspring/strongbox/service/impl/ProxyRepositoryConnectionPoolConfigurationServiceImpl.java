@@ -39,6 +39,8 @@ public class ProxyRepositoryConnectionPoolConfigurationServiceImpl
     private static final Logger logger = LoggerFactory.getLogger(
             ProxyRepositoryConnectionPoolConfigurationServiceImpl.class);
 
+    private static final String REST_CLIENT_LOGGER = "org.carlspring.strongbox.RestClient";
+
     private PoolingHttpClientConnectionManager poolingHttpClientConnectionManager;
     private IdleConnectionMonitorThread idleConnectionMonitorThread;
 
@@ -78,19 +80,29 @@ public class ProxyRepositoryConnectionPoolConfigurationServiceImpl
         // property to prevent closing connection manager when client is closed
         config.property(ApacheClientProperties.CONNECTION_MANAGER_SHARED, true);
 
-        java.util.logging.Logger logger = java.util.logging.Logger.getLogger("org.carlspring.strongbox.RestClient");
-
         // TODO set basic authentication here instead of setting it always in client?
         /* CredentialsProvider credentialsProvider = new BasicCredentialsProvider();
         credentialsProvider.setCredentials(AuthScope.ANY, new UsernamePasswordCredentials(username, password));
         config.property(ApacheClientProperties.CREDENTIALS_PROVIDER, credentialsProvider); */
 
-        return ClientBuilder.newBuilder()
-                            .register(new LoggingFeature(logger, Verbosity.PAYLOAD_TEXT))
-                            .withConfig(config)
+        ClientBuilder clientBuilder = ClientBuilder.newBuilder();
+        // Payload logging buffers the entities, so it's registered only when it's needed.
+        if (isRestClientLoggingEnabled())
+        {
+            java.util.logging.Logger logger = java.util.logging.Logger.getLogger(REST_CLIENT_LOGGER);
+            clientBuilder.register(new LoggingFeature(logger, Verbosity.PAYLOAD_TEXT));
+        }
+
+        return clientBuilder.withConfig(config)
                             .build();
     }
 
+    @Override
+    public boolean isRestClientLoggingEnabled()
+    {
+        return LoggerFactory.getLogger(REST_CLIENT_LOGGER).isDebugEnabled();
+    }
+
     @Override
     public CloseableHttpClient getHttpClient()
     {
@@ -0,0 +1,39 @@
+package org.carlspring.strongbox.cron.jobs;
+
+import org.carlspring.strongbox.cron.domain.CronTaskConfigurationDto;
+import org.carlspring.strongbox.providers.repository.proxied.LocalStorageProxyRepositoryExpiredArtifactsCleaner;
+
+import javax.inject.Inject;
+import java.util.Collections;
+
+/**
+ * Evicts the least recently used artifacts of the proxy repositories which
+ * exceed their cache quota.
+ */
+public class EvictProxyRepositoriesCacheCronJob
+        extends JavaCronJob
+{
+
+    @Inject
+    private LocalStorageProxyRepositoryExpiredArtifactsCleaner proxyRepositoryObsoleteArtifactsCleaner;
+
+    @Override
+    public void executeTask(final CronTaskConfigurationDto config)
+            throws Throwable
+    {
+        proxyRepositoryObsoleteArtifactsCleaner.evictOverQuota();
+    }
+
+    @Override
+    public CronJobDefinition getCronJobDefinition()
+    {
+        return CronJobDefinition.newBuilder()
+                                .jobClass(EvictProxyRepositoriesCacheCronJob.class.getName())
+                                .name("Evict Proxy Repositories Cache Cron Job")
+                                .description("Evict the least recently used artifacts of the proxy repositories " +
+                                             "which exceed their cache quota")
+                                .fields(Collections.emptySet())
+                                .build();
+    }
+
+}
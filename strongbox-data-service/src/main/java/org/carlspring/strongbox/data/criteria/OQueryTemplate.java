@@ -25,6 +25,8 @@ public class OQueryTemplate<R, T extends GenericEntity> implements QueryTemplate
 {
     private static final Logger logger = LoggerFactory.getLogger(OQueryTemplate.class);
 
+    private static final String CURSOR_PARAMETER = "cursor_uuid";
+
     protected EntityManager entityManager;
 
     public OQueryTemplate()
@@ -49,6 +51,10 @@ public class OQueryTemplate<R, T extends GenericEntity> implements QueryTemplate
 
         OSQLSynchQuery<T> oQuery = new OSQLSynchQuery<>(sQuery);
         Map<String, Object> parameterMap = exposeParameterMap(s.getPredicate());
+        if (isKeysetPagination(s.getPaginator()))
+        {
+            parameterMap.put(CURSOR_PARAMETER, s.getPaginator().getCursorUuid());
+        }
 
         logger.debug("Executing SQL query:\n" +
                      "\t[{}]\n" +
@@ -106,21 +112,39 @@ public class OQueryTemplate<R, T extends GenericEntity> implements QueryTemplate
         sb.append(" FROM ").append(selector.getTargetClass().getSimpleName());
 
         Predicate p = selector.getPredicate();
-        if (p.isEmpty())
+        Paginator paginator = selector.getPaginator();
+        boolean keyset = isKeysetPagination(paginator);
+        if (p.isEmpty() && !keyset)
         {
             return sb.toString();
         }
 
         sb.append(" WHERE ");
-        sb.append(predicateToken(p, 0));
+        String predicateToken = predicateToken(p, 0);
+        if (!keyset)
+        {
+            sb.append(predicateToken);
+        }
+        else if (predicateToken.isEmpty())
+        {
+            sb.append(String.format("uuid > :%s", CURSOR_PARAMETER));
+        }
+        else
+        {
+            sb.append(String.format("(%s) AND uuid > :%s", predicateToken, CURSOR_PARAMETER));
+        }
 
-        Paginator paginator = selector.getPaginator();
-        if (paginator != null && paginator.getProperty() != null && !paginator.getProperty().trim().isEmpty())
+        if (keyset)
+        {
+            // the order has to match the cursor
+            sb.append(String.format(" ORDER BY uuid %s", Paginator.Order.ASC));
+        }
+        else if (paginator != null && paginator.getProperty() != null && !paginator.getProperty().trim().isEmpty())
         {
             sb.append(String.format(" ORDER BY %s %s", paginator.getProperty(), paginator.getOrder()));
         }
 
-        if (paginator != null && paginator.getSkip() > 0)
+        if (!keyset && paginator != null && paginator.getSkip() > 0)
         {
             sb.append(String.format(" SKIP %s", paginator.getSkip()));
         }
@@ -137,6 +161,11 @@ public class OQueryTemplate<R, T extends GenericEntity> implements QueryTemplate
         return sb.toString();
     }
 
+    private boolean isKeysetPagination(Paginator paginator)
+    {
+        return paginator != null && paginator.getCursor() != null;
+    }
+
     protected String predicateToken(Predicate p,
                                     int tokenCount)
     {
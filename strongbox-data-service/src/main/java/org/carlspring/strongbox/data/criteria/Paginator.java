@@ -1,5 +1,10 @@
 package org.carlspring.strongbox.data.criteria;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.carlspring.strongbox.data.domain.GenericEntity;
+
 public class Paginator
 {
 
@@ -8,6 +13,15 @@ public class Paginator
     private Integer skip;
     private Integer limit;
 
+    /**
+     * Opaque continuation token, which points to the last entity of the
+     * previous page. The next page is selected by `uuid` greater than the
+     * entity one (keyset pagination), so that the deep pages are as cheap as
+     * the first one. An empty cursor selects the first page in the `uuid`
+     * order, without the cursor the results are ordered by `property`.
+     */
+    private String cursor;
+
     private String property;
     private Order order = Order.ASC;
 
@@ -31,6 +45,49 @@ public class Paginator
         this.limit = limit;
     }
 
+    public String getCursor()
+    {
+        return cursor;
+    }
+
+    public void setCursor(String cursor)
+    {
+        this.cursor = cursor;
+    }
+
+    /**
+     * @return the `uuid` of the last entity of the previous page, or `null` if
+     *         there is no cursor
+     */
+    public String getCursorUuid()
+    {
+        if (cursor == null)
+        {
+            return null;
+        }
+
+        try
+        {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        }
+        catch (IllegalArgumentException e)
+        {
+            throw new QueryParserException(String.format("Invalid cursor [%s].", cursor));
+        }
+    }
+
+    public static String toCursor(GenericEntity lastEntity)
+    {
+        return toCursor(lastEntity.getUuid());
+    }
+
+    public static String toCursor(String lastUuid)
+    {
+        return Base64.getUrlEncoder()
+                     .withoutPadding()
+                     .encodeToString(lastUuid.getBytes(StandardCharsets.UTF_8));
+    }
+
     public String getProperty()
     {
         return property;
@@ -15,9 +15,11 @@ import javax.persistence.OneToOne;
 import javax.persistence.PersistenceContext;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
 import java.util.*;
 import java.util.stream.Collectors;
 
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.id.ORecordId;
 import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.core.sql.OCommandSQL;
@@ -35,25 +37,32 @@ public abstract class CommonCrudService<T extends GenericEntity>
 
     private static final Logger logger = LoggerFactory.getLogger(CommonCrudService.class);
 
+    protected static final int IDENTIFY_BATCH_SIZE = 1000;
+
     @PersistenceContext
     protected EntityManager entityManager;
 
     @Inject
     private EntityServiceRegistry entityServiceRegistry;
 
+    /**
+     * Fields which are saved along with the entity, resolved once per entity
+     * class instead of on each save.
+     */
+    private List<Field> cascadeFields;
+
     @PostConstruct
     public void postConstruct()
     {
         entityServiceRegistry.register(this.getEntityClass(), this);
+
+        cascadeFields = exposeCascadeFields(getEntityClass());
     }
 
-    protected <S extends T> S cascadeEntitySave(T entity)
+    private static List<Field> exposeCascadeFields(Class<?> entityClass)
     {
-        identifyEntity(entity);
-        
-        ReflectionUtils.doWithFields(getEntityClass(), (field) -> {
-            ReflectionUtils.makeAccessible(field);
-
+        List<Field> result = new ArrayList<>();
+        ReflectionUtils.doWithFields(entityClass, (field) -> {
             Set<CascadeType> cascadeTypeSet = Arrays.stream(field.getAnnotations())
                                                     .map(a -> exposeCascadeType(a))
                                                     .reduce((c1,
@@ -62,27 +71,59 @@ public abstract class CommonCrudService<T extends GenericEntity>
                                                         return c1;
                                                     })
                                                     .orElse(Collections.emptySet());
-            
+
             if (!cascadeTypeSet.stream().anyMatch(c -> CascadeType.ALL.equals(c) || CascadeType.MERGE.equals(c)
                     || CascadeType.PERSIST.equals(c)))
             {
                 return;
             }
-            
-            Class<?> fieldType = field.getType();
+
+            ReflectionUtils.makeAccessible(field);
+            result.add(field);
+        });
+
+        return Collections.unmodifiableList(result);
+    }
+
+    protected <S extends T> S cascadeEntitySave(T entity)
+    {
+        return cascadeEntitySave(entity, newIdentifiedSet());
+    }
+
+    /**
+     * @param identified
+     *            the entities which were already identified with
+     *            {@link #identifyEntities(Collection, Set)}
+     */
+    protected <S extends T> S cascadeEntitySave(T entity,
+                                                Set<GenericEntity> identified)
+    {
+        if (!identified.contains(entity))
+        {
+            identifyEntity(entity);
+        }
+        else if (entity.getUuid() == null)
+        {
+            entity.setUuid(UUID.randomUUID().toString());
+        }
+
+        for (Field field : cascadeFields)
+        {
             Object fieldValue = ReflectionUtils.getField(field, entity);
 
             if (fieldValue == null)
             {
-                return;
+                continue;
             }
 
-            if (Collection.class.isAssignableFrom(fieldType))
+            if (Collection.class.isAssignableFrom(field.getType()))
             {
                 Collection<Object> collection = (Collection<Object>) fieldValue;
+                identifyAll(collection, identified);
+
                 List<Object> replaceCollection = new LinkedList<>();
                 collection.removeIf(a -> {
-                    Object b = tryToCascadeEntitySave(a);
+                    Object b = tryToCascadeEntitySave(a, identified);
                     if (b != a)
                     {
                         replaceCollection.add(b);
@@ -94,19 +135,18 @@ public abstract class CommonCrudService<T extends GenericEntity>
             }
             else
             {
-                Object newFieldValue = tryToCascadeEntitySave(fieldValue);
+                Object newFieldValue = tryToCascadeEntitySave(fieldValue, identified);
                 if (newFieldValue != fieldValue)
                 {
                     ReflectionUtils.setField(field, entity, newFieldValue);
                 }
             }
-
-        });
+        }
 
         return getDelegate().save(entity);
     }
 
-    private Set<CascadeType> exposeCascadeType(Annotation a)
+    private static Set<CascadeType> exposeCascadeType(Annotation a)
     {
         Set<CascadeType> result = new HashSet<>();
         if (a instanceof OneToMany)
@@ -129,6 +169,12 @@ public abstract class CommonCrudService<T extends GenericEntity>
     }
 
     protected Object tryToCascadeEntitySave(Object entityCandidate)
+    {
+        return tryToCascadeEntitySave(entityCandidate, newIdentifiedSet());
+    }
+
+    private Object tryToCascadeEntitySave(Object entityCandidate,
+                                          Set<GenericEntity> identified)
     {
         if (!(entityCandidate instanceof GenericEntity))
         {
@@ -136,10 +182,15 @@ public abstract class CommonCrudService<T extends GenericEntity>
         }
 
         GenericEntity entity = (GenericEntity) entityCandidate;
-        CommonCrudService<GenericEntity> entityService = (CommonCrudService<GenericEntity>) entityServiceRegistry.getEntityService(entity.getClass());
-        return entityService.cascadeEntitySave(entity);
+        CommonCrudService<GenericEntity> entityService = getEntityService(entity);
+        return entityService.cascadeEntitySave(entity, identified);
     }
-    
+
+    private CommonCrudService<GenericEntity> getEntityService(GenericEntity entity)
+    {
+        return (CommonCrudService<GenericEntity>) entityServiceRegistry.getEntityService(entity.getClass());
+    }
+
     protected boolean identifyEntity(T entity)
     {
         if (entity.getObjectId() != null)
@@ -174,6 +225,119 @@ public abstract class CommonCrudService<T extends GenericEntity>
         return true;
     }
 
+    /**
+     * Bulk version of {@link #identifyEntity(GenericEntity)}, the entities are
+     * looked up with one query per {@link #IDENTIFY_BATCH_SIZE} `uuid`s.
+     * <br>
+     * The `uuid` of the new entities is not assigned here, but only once they
+     * are saved.
+     *
+     * @param identified
+     *            the identified entities are added here
+     */
+    protected void identifyEntities(Collection<? extends T> entities,
+                                    Set<GenericEntity> identified)
+    {
+        Map<String, List<T>> entitiesByUuid = new HashMap<>();
+        for (T entity : entities)
+        {
+            if (entity.getObjectId() == null && entity.getUuid() != null)
+            {
+                entitiesByUuid.computeIfAbsent(entity.getUuid(), k -> new ArrayList<>()).add(entity);
+            }
+            identified.add(entity);
+        }
+
+        List<String> uuids = new ArrayList<>(entitiesByUuid.keySet());
+        for (int i = 0; i < uuids.size(); i += IDENTIFY_BATCH_SIZE)
+        {
+            String sQuery = String.format("SELECT @rid AS objectId, uuid FROM %s WHERE uuid IN :uuids",
+                                          getEntityClass().getSimpleName());
+
+            OSQLSynchQuery<ODocument> oQuery = new OSQLSynchQuery<>(sQuery);
+
+            HashMap<String, Object> params = new HashMap<>();
+            params.put("uuids", uuids.subList(i, Math.min(i + IDENTIFY_BATCH_SIZE, uuids.size())));
+
+            List<ODocument> resultList = getDelegate().command(oQuery).execute(params);
+            for (ODocument record : resultList)
+            {
+                OIdentifiable value = record.field("objectId");
+                String uuid = record.field("uuid");
+
+                entitiesByUuid.getOrDefault(uuid, Collections.emptyList())
+                              .forEach(e -> e.setObjectId(value.getIdentity().toString()));
+            }
+        }
+    }
+
+    /**
+     * Identifies the values of the cascade fields of all the given entities
+     * at once.
+     */
+    private void identifyCascadeFieldValues(Collection<? extends T> entities,
+                                            Set<GenericEntity> identified)
+    {
+        List<Object> values = new ArrayList<>();
+        for (Field field : cascadeFields)
+        {
+            for (T entity : entities)
+            {
+                Object fieldValue = ReflectionUtils.getField(field, entity);
+                if (fieldValue instanceof Collection)
+                {
+                    values.addAll((Collection<?>) fieldValue);
+                }
+                else if (fieldValue != null)
+                {
+                    values.add(fieldValue);
+                }
+            }
+        }
+
+        identifyAll(values, identified);
+    }
+
+    /**
+     * Identifies the entity candidates grouped by entity service.
+     */
+    private void identifyAll(Collection<?> entityCandidates,
+                             Set<GenericEntity> identified)
+    {
+        Map<CommonCrudService<GenericEntity>, List<GenericEntity>> entitiesByService = new HashMap<>();
+        entityCandidates.stream()
+                        .filter(c -> c instanceof GenericEntity)
+                        .map(c -> (GenericEntity) c)
+                        .filter(e -> !identified.contains(e))
+                        .forEach(e -> entitiesByService.computeIfAbsent(getEntityService(e), k -> new ArrayList<>())
+                                                       .add(e));
+
+        entitiesByService.forEach((entityService,
+                                   entities) -> entityService.identifyEntities(entities, identified));
+    }
+
+    private static Set<GenericEntity> newIdentifiedSet()
+    {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    @Override
+    public <S extends T> List<S> saveAll(Collection<S> entities)
+    {
+        Set<GenericEntity> identified = newIdentifiedSet();
+
+        identifyEntities(entities, identified);
+        identifyCascadeFieldValues(entities, identified);
+
+        List<S> result = new ArrayList<>(entities.size());
+        for (S entity : entities)
+        {
+            result.add(cascadeEntitySave(entity, identified));
+        }
+
+        return result;
+    }
+
     @Override
     public <S extends T> S save(S entity)
     {
@@ -329,9 +493,52 @@ public abstract class CommonCrudService<T extends GenericEntity>
         return simpleName;
     }
 
+    /**
+     * @return the `a = :a AND b = :b` condition of the non-null values, or an
+     *         empty string if there is no such values
+     */
+    protected String buildCondition(Map<String, String> map)
+    {
+        if (map == null)
+        {
+            return "";
+        }
+
+        return map.entrySet()
+                  .stream()
+                  .filter(entry -> entry.getValue() != null)
+                  .map(entry -> String.format("%s = :%s", entry.getKey(), entry.getKey()))
+                  .collect(Collectors.joining(" AND "));
+    }
+
+    /**
+     * Appends the `WHERE` clause of the query `condition` along with the
+     * `uuid` condition of the keyset pagination, whose parameter is added with
+     * {@link #appendPagingParameters(Map, PagingCriteria)}, and then the
+     * `ORDER BY`, `SKIP` and `LIMIT` clauses.
+     *
+     * @param queryBuilder
+     *            the query without `WHERE` clause
+     * @param condition
+     *            the query condition, may be empty
+     */
     protected void appendPagingCriteria(StringBuilder queryBuilder,
+                                        String condition,
                                         PagingCriteria pagingCriteria)
     {
+        List<String> conditions = new ArrayList<>();
+        if (condition != null && !condition.trim().isEmpty())
+        {
+            conditions.add(String.format("(%s)", condition.trim()));
+        }
+        if (pagingCriteria.getAfter() != null)
+        {
+            conditions.add("uuid > :after");
+        }
+        if (!conditions.isEmpty())
+        {
+            queryBuilder.append(" WHERE ").append(String.join(" AND ", conditions));
+        }
 
         queryBuilder.append(String.format(" ORDER BY %s", pagingCriteria.getSort()));
 
@@ -345,6 +552,15 @@ public abstract class CommonCrudService<T extends GenericEntity>
         }
     }
 
+    protected void appendPagingParameters(Map<String, ? super String> parameterMap,
+                                          PagingCriteria pagingCriteria)
+    {
+        if (pagingCriteria.getAfter() != null)
+        {
+            parameterMap.put("after", pagingCriteria.getAfter());
+        }
+    }
+
     /**
      * We can get an internal OrientDB transaction API with this, which can be
      * needed to execute some OrientDB queries,
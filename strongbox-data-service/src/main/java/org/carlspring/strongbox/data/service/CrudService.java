@@ -1,6 +1,7 @@
 package org.carlspring.strongbox.data.service;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,6 +17,13 @@ public interface CrudService<T extends GenericEntity, ID extends Serializable>
 
     <S extends T> S save(S entity);
 
+    /**
+     * Saves the entities within the current transaction, the existing
+     * entities (and the entities they cascade to) are identified in bulk
+     * rather than one by one.
+     */
+    <S extends T> List<S> saveAll(Collection<S> entities);
+
     T lockOne(ID id);
 
     Optional<T> findOne(ID id);
@@ -1,6 +1,7 @@
 package org.carlspring.strongbox.data.service.support.search;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 import java.util.Objects;
 
@@ -19,6 +20,12 @@ public class PagingCriteria
 
     private final Sort sort;
 
+    /**
+     * The `uuid` of the last entity of the previous page, see
+     * {@link #PagingCriteria(String, int)}.
+     */
+    private final String after;
+
     public PagingCriteria(final int skip,
                           final int limit,
                           @Nonnull final Sort sort)
@@ -28,6 +35,25 @@ public class PagingCriteria
         this.skip = skip;
         this.limit = limit;
         this.sort = sort;
+        this.after = null;
+    }
+
+    /**
+     * Keyset pagination, the page starts right after the entity with the given
+     * `uuid` instead of skipping the previous pages, the entities are sorted by
+     * `uuid`.
+     *
+     * @param after
+     *            the `uuid` of the last entity of the previous page, `null` for
+     *            the first page
+     */
+    public PagingCriteria(@Nullable final String after,
+                          final int limit)
+    {
+        this.skip = 0;
+        this.limit = limit;
+        this.sort = Sort.byUuid();
+        this.after = after;
     }
 
     public PagingCriteria(final int skip,
@@ -51,4 +77,10 @@ public class PagingCriteria
     {
         return sort;
     }
+
+    @Nullable
+    public String getAfter()
+    {
+        return after;
+    }
 }
@@ -1,13 +1,19 @@
 package org.carlspring.strongbox.authentication.api;
 
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
-public interface AuthenticationCache extends PasswordEncoder
+public interface AuthenticationCache
 {
 
     public UsernamePasswordAuthenticationToken getAuthenticationToken(String userName);
 
     public UsernamePasswordAuthenticationToken putAuthenticationToken(UsernamePasswordAuthenticationToken authentication);
 
+    public String encode(String userName,
+                         CharSequence rawPassword);
+
+    public boolean matches(String userName,
+                           CharSequence rawPassword,
+                           String encodedPassword);
+
 }
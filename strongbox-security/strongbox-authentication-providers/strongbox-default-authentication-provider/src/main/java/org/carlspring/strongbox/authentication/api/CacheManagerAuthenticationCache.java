@@ -1,15 +1,61 @@
 package org.carlspring.strongbox.authentication.api;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import javax.inject.Inject;
+
 import org.carlspring.strongbox.data.CacheName;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.IMap;
+
+/**
+ * Cached credentials are kept as an HMAC-SHA256 of the user name and the
+ * password. Unlike a password hash, it's cheap to check on each request, and
+ * it's still useless outside of the cluster as the key is never stored.
+ * <br>
+ * The cache is shared by the cluster nodes, so is the key: the first node
+ * generates it and the other ones take it from the cluster, see {@link #KEYS}.
+ */
 public class CacheManagerAuthenticationCache implements AuthenticationCache
 {
 
-    @SuppressWarnings("deprecation")
-    private org.springframework.security.crypto.password.StandardPasswordEncoder standardPasswordEncoder = new
-            org.springframework.security.crypto.password.StandardPasswordEncoder();
+    /**
+     * The cluster wide map the HMAC key is shared with.
+     */
+    public static final String KEYS = "authenticationCacheKeys";
+
+    private static final String HMAC_KEY = "hmacKey";
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final SecretKeySpec key;
+
+    /**
+     * `Mac` instances are not thread safe.
+     */
+    private final ThreadLocal<Mac> mac = ThreadLocal.withInitial(this::createMac);
+
+    @Inject
+    public CacheManagerAuthenticationCache(HazelcastInstance hazelcastInstance)
+    {
+        byte[] keyBytes = new byte[32];
+        new SecureRandom().nextBytes(keyBytes);
+
+        IMap<String, byte[]> keys = hazelcastInstance.getMap(KEYS);
+        byte[] sharedKeyBytes = keys.putIfAbsent(HMAC_KEY, keyBytes);
+
+        key = new SecretKeySpec(sharedKeyBytes != null ? sharedKeyBytes : keyBytes, HMAC_ALGORITHM);
+    }
 
     @Cacheable(cacheNames = CacheName.User.AUTHENTICATIONS, key = "#p0", unless = "true")
     public UsernamePasswordAuthenticationToken getAuthenticationToken(String userName)
@@ -25,20 +71,61 @@ public class CacheManagerAuthenticationCache implements AuthenticationCache
 
     public UsernamePasswordAuthenticationToken createCachableAuthentication(UsernamePasswordAuthenticationToken authentication)
     {
-        String encodedPassword = encode(authentication.getCredentials().toString());
+        String encodedPassword = encode(authentication.getName(), authentication.getCredentials().toString());
 
         return new UsernamePasswordAuthenticationToken(authentication.getPrincipal(), encodedPassword);
     }
 
-    public String encode(CharSequence rawPassword)
+    public String encode(String userName,
+                         CharSequence rawPassword)
     {
-        return standardPasswordEncoder.encode(rawPassword);
+        return Base64.getEncoder().encodeToString(hmac(userName, rawPassword));
     }
 
-    public boolean matches(CharSequence rawPassword,
+    public boolean matches(String userName,
+                           CharSequence rawPassword,
                            String encodedPassword)
     {
-        return standardPasswordEncoder.matches(rawPassword, encodedPassword);
+        byte[] expected;
+        try
+        {
+            expected = Base64.getDecoder().decode(encodedPassword);
+        }
+        catch (IllegalArgumentException e)
+        {
+            return false;
+        }
+
+        // Constant time comparison.
+        return MessageDigest.isEqual(hmac(userName, rawPassword), expected);
+    }
+
+    private byte[] hmac(String userName,
+                        CharSequence rawPassword)
+    {
+        byte[] userNameBytes = userName.getBytes(StandardCharsets.UTF_8);
+
+        Mac result = mac.get();
+        // Length prefixed, so that `ab` + `c` differs from `a` + `bc`.
+        result.update(ByteBuffer.allocate(Integer.BYTES).putInt(userNameBytes.length).array());
+        result.update(userNameBytes);
+
+        return result.doFinal(rawPassword.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Mac createMac()
+    {
+        try
+        {
+            Mac result = Mac.getInstance(HMAC_ALGORITHM);
+            result.init(key);
+
+            return result;
+        }
+        catch (GeneralSecurityException e)
+        {
+            throw new IllegalStateException(e);
+        }
     }
 
 }
@@ -71,7 +71,8 @@ public class PasswordAuthenticationProvider extends DaoAuthenticationProvider
 
         if (Optional.ofNullable(cachedAuthentication)
                     .filter(c -> authentication.getCredentials() != null && c.getCredentials() != null)
-                    .filter(c -> authenticationCache.matches(authentication.getCredentials()
+                    .filter(c -> authenticationCache.matches(authentication.getName(),
+                                                             authentication.getCredentials()
                                                                            .toString(),
                                                              c.getCredentials()
                                                               .toString()))
@@ -0,0 +1,91 @@
+package org.carlspring.strongbox.authentication.api;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.IMap;
+
+public class CacheManagerAuthenticationCacheTest
+{
+
+    private static final String USER_NAME = "user";
+
+    private static final String PASSWORD = "password";
+
+    @Test
+    public void encodedPasswordShouldMatch()
+    {
+        CacheManagerAuthenticationCache cache = new CacheManagerAuthenticationCache(createCluster());
+
+        String encodedPassword = cache.encode(USER_NAME, PASSWORD);
+
+        assertThat(encodedPassword).isNotEqualTo(PASSWORD);
+        assertThat(cache.matches(USER_NAME, PASSWORD, encodedPassword)).isTrue();
+    }
+
+    @Test
+    public void cachableAuthenticationShouldMatch()
+    {
+        CacheManagerAuthenticationCache cache = new CacheManagerAuthenticationCache(createCluster());
+
+        UsernamePasswordAuthenticationToken authentication = cache.createCachableAuthentication(
+                new UsernamePasswordAuthenticationToken(USER_NAME, PASSWORD));
+
+        assertThat(authentication.getPrincipal()).isEqualTo(USER_NAME);
+        assertThat(cache.matches(USER_NAME, PASSWORD, authentication.getCredentials().toString())).isTrue();
+    }
+
+    @Test
+    public void mismatchesShouldBeRejected()
+    {
+        CacheManagerAuthenticationCache cache = new CacheManagerAuthenticationCache(createCluster());
+
+        String encodedPassword = cache.encode(USER_NAME, PASSWORD);
+
+        assertThat(cache.matches(USER_NAME, "wrong-password", encodedPassword)).isFalse();
+        // The same password of another user.
+        assertThat(cache.matches("other-user", PASSWORD, encodedPassword)).isFalse();
+        // The user name and the password are not just concatenated.
+        assertThat(cache.matches("use", "r" + PASSWORD, encodedPassword)).isFalse();
+        assertThat(cache.matches(USER_NAME, PASSWORD, "not base64!")).isFalse();
+        assertThat(cache.matches(USER_NAME, PASSWORD, "")).isFalse();
+    }
+
+    @Test
+    public void keyShouldBeSharedByClusterNodes()
+    {
+        HazelcastInstance cluster = createCluster();
+        CacheManagerAuthenticationCache node1 = new CacheManagerAuthenticationCache(cluster);
+        CacheManagerAuthenticationCache node2 = new CacheManagerAuthenticationCache(cluster);
+
+        assertThat(node2.matches(USER_NAME, PASSWORD, node1.encode(USER_NAME, PASSWORD))).isTrue();
+
+        // Another cluster has its own key.
+        CacheManagerAuthenticationCache otherCluster = new CacheManagerAuthenticationCache(createCluster());
+
+        assertThat(otherCluster.matches(USER_NAME, PASSWORD, node1.encode(USER_NAME, PASSWORD))).isFalse();
+    }
+
+    @SuppressWarnings("unchecked")
+    private HazelcastInstance createCluster()
+    {
+        Map<String, byte[]> keys = new ConcurrentHashMap<>();
+
+        IMap<String, byte[]> keysMap = Mockito.mock(IMap.class);
+        Mockito.when(keysMap.putIfAbsent(ArgumentMatchers.anyString(), ArgumentMatchers.any(byte[].class)))
+               .thenAnswer(invocation -> keys.putIfAbsent(invocation.getArgument(0), invocation.getArgument(1)));
+
+        HazelcastInstance result = Mockito.mock(HazelcastInstance.class);
+        Mockito.when(result.<String, byte[]>getMap(CacheManagerAuthenticationCache.KEYS)).thenReturn(keysMap);
+
+        return result;
+    }
+
+}
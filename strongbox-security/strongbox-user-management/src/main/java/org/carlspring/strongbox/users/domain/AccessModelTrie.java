@@ -0,0 +1,129 @@
+package org.carlspring.strongbox.users.domain;
+
+import java.io.Serializable;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.carlspring.strongbox.users.dto.PathPrivileges;
+import org.carlspring.strongbox.users.dto.RepositoryPrivileges;
+import org.carlspring.strongbox.users.dto.StoragePrivileges;
+
+/**
+ * The storage privileges of an access model compiled into a trie of the
+ * `/storages/{storageId}/{repositoryId}/{path}` segments, so that the
+ * privileges of an URL are resolved with a single walk down the URL segments
+ * instead of matching every path privilege against it.
+ * <br>
+ * The repository privileges and the wildcard path privileges are granted to
+ * the whole subtree of their node, the other path privileges are granted to
+ * their node only. So neither a storage, nor a repository, nor a wildcard
+ * path matches a sibling which only shares its name prefix (`releases` doesn't
+ * match `releases-old`).
+ *
+ * @see AccessModelData#getPathAuthorities(String, Set)
+ */
+@Immutable
+class AccessModelTrie
+        implements Serializable
+{
+
+    private static final String STORAGES = "storages";
+
+    private final Node root = new Node();
+
+    AccessModelTrie(Set<? extends StoragePrivileges> storages)
+    {
+        for (StoragePrivileges storage : storages)
+        {
+            Node storageNode = root.getOrCreateChild(storage.getStorageId());
+            for (RepositoryPrivileges repository : storage.getRepositoryPrivileges())
+            {
+                Node repositoryNode = storageNode.getOrCreateChild(repository.getRepositoryId());
+                repositoryNode.subtreePrivileges.addAll(repository.getRepositoryPrivileges());
+
+                for (PathPrivileges pathPrivilege : repository.getPathPrivileges())
+                {
+                    Node pathNode = repositoryNode;
+                    for (String segment : pathPrivilege.getPath().split("/"))
+                    {
+                        if (!segment.isEmpty())
+                        {
+                            pathNode = pathNode.getOrCreateChild(segment);
+                        }
+                    }
+
+                    if (pathPrivilege.isWildcard())
+                    {
+                        pathNode.subtreePrivileges.addAll(pathPrivilege.getPrivileges());
+                    }
+                    else
+                    {
+                        pathNode.privileges.addAll(pathPrivilege.getPrivileges());
+                    }
+                }
+            }
+        }
+    }
+
+    Set<Privileges> getPathAuthorities(String url)
+    {
+        Set<Privileges> result = new HashSet<>();
+
+        Node node = null;
+        for (String segment : url.split("/"))
+        {
+            if (segment.isEmpty())
+            {
+                continue;
+            }
+            if (node == null)
+            {
+                if (!STORAGES.equals(segment))
+                {
+                    return result;
+                }
+
+                node = root;
+                continue;
+            }
+
+            node = node.children.get(segment);
+            if (node == null)
+            {
+                return result;
+            }
+
+            result.addAll(node.subtreePrivileges);
+        }
+
+        if (node != null)
+        {
+            result.addAll(node.privileges);
+        }
+
+        return result;
+    }
+
+    private static class Node
+            implements Serializable
+    {
+
+        private final Map<String, Node> children = new HashMap<>();
+
+        private final Set<Privileges> privileges = EnumSet.noneOf(Privileges.class);
+
+        private final Set<Privileges> subtreePrivileges = EnumSet.noneOf(Privileges.class);
+
+        private Node getOrCreateChild(String segment)
+        {
+            return children.computeIfAbsent(segment, s -> new Node());
+        }
+
+    }
+
+}
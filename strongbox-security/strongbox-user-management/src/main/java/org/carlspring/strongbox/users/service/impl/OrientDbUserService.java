@@ -4,6 +4,7 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
 
 import java.lang.annotation.Documented;
 import java.lang.annotation.Retention;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -141,10 +142,9 @@ public class OrientDbUserService extends CommonCrudService<UserEntry> implements
         OSQLSynchQuery<ODocument> oQuery = new OSQLSynchQuery<>(sQuery);
         List<UserEntry> resultList = getDelegate().command(oQuery).execute(params);
 
-        resultList.stream().forEach(user -> {
-            detach(user).getRoles().remove(roleToRevoke);
-            save(user);
-        });
+        resultList.stream().forEach(user -> detach(user).getRoles().remove(roleToRevoke));
+
+        saveAll(resultList);
     }
 
     @Override
@@ -178,6 +178,18 @@ public class OrientDbUserService extends CommonCrudService<UserEntry> implements
         return super.save(entity);
     }
 
+    @Override
+    @CacheEvict(cacheNames = CacheName.User.AUTHENTICATIONS, allEntries = true)
+    public <S extends UserEntry> List<S> saveAll(Collection<S> entities)
+    {
+        if (entities.stream().anyMatch(e -> StringUtils.isNotBlank(e.getSourceId())))
+        {
+            throw new IllegalStateException("Can't modify external users.");
+        }
+
+        return super.saveAll(entities);
+    }
+
     public void expireUser(String username, boolean clearSourceId)
     {
         UserEntry externalUserEntry = (UserEntry) detach(findByUsername(username));
@@ -0,0 +1,120 @@
+package org.carlspring.strongbox.users.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.carlspring.strongbox.users.dto.AccessModel;
+import org.carlspring.strongbox.users.dto.AccessModelDto;
+import org.carlspring.strongbox.users.dto.PathPrivilegesDto;
+import org.carlspring.strongbox.users.dto.RepositoryPrivilegesDto;
+import org.carlspring.strongbox.users.dto.StoragePrivilegesDto;
+
+import java.util.EnumSet;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The compiled access model and the access model DTO should resolve the
+ * privileges of an URL with the same, per segment, rule.
+ */
+public class AccessModelDataTest
+{
+
+    private static final int PATH_PRIVILEGES = 1000;
+
+    @Test
+    public void pathAuthoritiesShouldMatchDto()
+    {
+        AccessModelDto accessModelDto = new AccessModelDto();
+
+        StoragePrivilegesDto storage = new StoragePrivilegesDto("storage0");
+        accessModelDto.getStorageAuthorities().add(storage);
+
+        RepositoryPrivilegesDto repository = new RepositoryPrivilegesDto("releases");
+        repository.getRepositoryPrivileges().add(Privileges.ARTIFACTS_VIEW);
+        storage.getRepositoryPrivileges().add(repository);
+
+        for (int i = 0; i < PATH_PRIVILEGES; i++)
+        {
+            PathPrivilegesDto pathPrivilege = new PathPrivilegesDto(String.format("org/carlspring/group%s/", i));
+            pathPrivilege.setWildcard(i % 2 == 0);
+            pathPrivilege.setPrivileges(i % 3 == 0 ? EnumSet.of(Privileges.ARTIFACTS_RESOLVE)
+                                                   : EnumSet.of(Privileges.ARTIFACTS_DEPLOY));
+            repository.getPathPrivileges().add(pathPrivilege);
+        }
+
+        AccessModelData accessModel = new AccessModelData(accessModelDto);
+
+        String[] urls = new String[]{ "/storages/storage0/releases",
+                                      "/storages/storage0/releases/org/carlspring",
+                                      "/storages/storage0/releases/org/carlspring/group3",
+                                      "/storages/storage0/releases/org/carlspring/group3/artifact/1.0",
+                                      "/storages/storage0/releases/org/carlspring/group4/",
+                                      "/storages/storage0/releases/org/carlspring/group4/artifact/1.0",
+                                      "/storages/storage0/releases/org/carlspring/group999",
+                                      "/storages/storage0/releases/org/carlspring/group40/artifact/1.0",
+                                      "/storages/storage0/releases-old/org/carlspring/group4",
+                                      "/storages/storage0/snapshots/org/carlspring/group4",
+                                      "/storages/storage1/releases/org/carlspring/group4",
+                                      "/api/configuration" };
+        for (String url : urls)
+        {
+            assertThat(accessModel.getPathAuthorities(url))
+                    .as(url)
+                    .isEqualTo(accessModelDto.getPathAuthorities(url));
+        }
+
+        assertThat(accessModel.getPathAuthorities("/storages/storage0/releases/org/carlspring/group4/artifact/1.0"))
+                .containsExactlyInAnyOrder(Privileges.ARTIFACTS_VIEW, Privileges.ARTIFACTS_DEPLOY);
+        assertThat(accessModel.getPathAuthorities("/storages/storage0/releases/org/carlspring/group3/artifact/1.0"))
+                .containsExactly(Privileges.ARTIFACTS_VIEW);
+    }
+
+    @Test
+    public void siblingsSharingNamePrefixShouldNotMatch()
+    {
+        AccessModelDto accessModelDto = new AccessModelDto();
+
+        StoragePrivilegesDto storage = new StoragePrivilegesDto("storage0");
+        accessModelDto.getStorageAuthorities().add(storage);
+
+        RepositoryPrivilegesDto repository = new RepositoryPrivilegesDto("releases");
+        repository.getRepositoryPrivileges().add(Privileges.ARTIFACTS_VIEW);
+        storage.getRepositoryPrivileges().add(repository);
+
+        PathPrivilegesDto wildcardPathPrivilege = new PathPrivilegesDto("org/carlspring");
+        wildcardPathPrivilege.setWildcard(true);
+        wildcardPathPrivilege.setPrivileges(EnumSet.of(Privileges.ARTIFACTS_DEPLOY));
+        repository.getPathPrivileges().add(wildcardPathPrivilege);
+
+        PathPrivilegesDto pathPrivilege = new PathPrivilegesDto("com/foo/");
+        pathPrivilege.setPrivileges(EnumSet.of(Privileges.ARTIFACTS_RESOLVE));
+        repository.getPathPrivileges().add(pathPrivilege);
+
+        AccessModelData accessModel = new AccessModelData(accessModelDto);
+
+        for (AccessModel model : new AccessModel[]{ accessModel,
+                                                    accessModelDto })
+        {
+            // Storage, repository and wildcard path siblings.
+            assertThat(model.getPathAuthorities("/storages/storage01/releases/org/carlspring")).isEmpty();
+            assertThat(model.getPathAuthorities("/storages/storage0/releases-old/org/carlspring")).isEmpty();
+            assertThat(model.getPathAuthorities("/storages/storage0/releases/org/carlspring-old/artifact"))
+                    .containsExactly(Privileges.ARTIFACTS_VIEW);
+
+            // The exact path and its trailing slash, but not its sibling.
+            assertThat(model.getPathAuthorities("/storages/storage0/releases/com/foo"))
+                    .containsExactlyInAnyOrder(Privileges.ARTIFACTS_VIEW, Privileges.ARTIFACTS_RESOLVE);
+            assertThat(model.getPathAuthorities("/storages/storage0/releases/com/foo/"))
+                    .containsExactlyInAnyOrder(Privileges.ARTIFACTS_VIEW, Privileges.ARTIFACTS_RESOLVE);
+            assertThat(model.getPathAuthorities("/storages/storage0/releases/com/foobar"))
+                    .containsExactly(Privileges.ARTIFACTS_VIEW);
+
+            // The matching ones.
+            assertThat(model.getPathAuthorities("/storages/storage0/releases"))
+                    .containsExactly(Privileges.ARTIFACTS_VIEW);
+            assertThat(model.getPathAuthorities("/storages/storage0/releases/org/carlspring/artifact/1.0"))
+                    .containsExactlyInAnyOrder(Privileges.ARTIFACTS_VIEW, Privileges.ARTIFACTS_DEPLOY);
+        }
+    }
+
+}
@@ -0,0 +1,89 @@
+package org.carlspring.strongbox.cron.jobs;
+
+import org.carlspring.strongbox.configuration.ConfigurationManager;
+import org.carlspring.strongbox.cron.domain.CronTaskConfigurationDto;
+import org.carlspring.strongbox.cron.jobs.fields.*;
+import org.carlspring.strongbox.providers.layout.NpmLayoutProvider;
+import org.carlspring.strongbox.providers.layout.NpmPackageFeedService;
+import org.carlspring.strongbox.storage.Storage;
+import org.carlspring.strongbox.storage.repository.Repository;
+
+import javax.inject.Inject;
+import java.io.IOException;
+import java.util.Set;
+
+import com.google.common.collect.ImmutableSet;
+
+/**
+ * Rebuilds the materialized npm packuments, for example of the repositories
+ * which were populated before the packuments were materialized.
+ */
+public class RebuildNpmPackageFeedsCronJob
+        extends JavaCronJob
+{
+
+    private static final String PROPERTY_STORAGE_ID = "storageId";
+
+    private static final String PROPERTY_REPOSITORY_ID = "repositoryId";
+
+    private static final Set<CronJobField> FIELDS = ImmutableSet.of(
+            new CronJobStorageIdAutocompleteField(new CronJobStringTypeField(
+                    new CronJobOptionalField(new CronJobNamedField(PROPERTY_STORAGE_ID)))),
+            new CronJobRepositoryIdAutocompleteField(new CronJobStringTypeField(
+                    new CronJobOptionalField(new CronJobNamedField(PROPERTY_REPOSITORY_ID)))));
+
+    @Inject
+    private NpmPackageFeedService npmPackageFeedService;
+
+    @Inject
+    private ConfigurationManager configurationManager;
+
+    @Override
+    public void executeTask(CronTaskConfigurationDto config)
+            throws Throwable
+    {
+        String storageId = config.getProperty(PROPERTY_STORAGE_ID);
+        String repositoryId = config.getProperty(PROPERTY_REPOSITORY_ID);
+
+        for (Storage storage : configurationManager.getConfiguration().getStorages().values())
+        {
+            if (storageId != null && !storageId.equals(storage.getId()))
+            {
+                continue;
+            }
+
+            for (Repository repository : storage.getRepositories().values())
+            {
+                if (repositoryId != null && !repositoryId.equals(repository.getId()))
+                {
+                    continue;
+                }
+
+                rebuildRepository(repository);
+            }
+        }
+    }
+
+    private void rebuildRepository(Repository repository)
+            throws IOException
+    {
+        if (!NpmLayoutProvider.ALIAS.equals(repository.getLayout()))
+        {
+            return;
+        }
+
+        npmPackageFeedService.materialize(repository);
+    }
+
+    @Override
+    public CronJobDefinition getCronJobDefinition()
+    {
+        return CronJobDefinition.newBuilder()
+                                .jobClass(RebuildNpmPackageFeedsCronJob.class.getName())
+                                .name("Rebuild npm Package Feeds Cron Job")
+                                .description("Rebuild the materialized npm package documents (packuments)")
+                                .fields(FIELDS)
+                                .build();
+    }
+
+}
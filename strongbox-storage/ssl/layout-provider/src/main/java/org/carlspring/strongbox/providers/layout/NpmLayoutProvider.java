@@ -68,7 +68,8 @@ public class NpmLayoutProvider
     public boolean isNpmMetadata(RepositoryPath path)
     {
         return path.getFileName().toString().endsWith("package-lock.json") ||
-               path.getFileName().toString().endsWith("npm-shrinkwrap.json");
+               path.getFileName().toString().endsWith("npm-shrinkwrap.json") ||
+               NpmPackageFeedService.isPackageFeed(path);
     }
 
     @Override
@@ -0,0 +1,375 @@
+package org.carlspring.strongbox.providers.layout;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.inject.Inject;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.codec.digest.MessageDigestAlgorithms;
+import org.carlspring.strongbox.artifact.coordinates.NpmArtifactCoordinates;
+import org.carlspring.strongbox.config.NpmLayoutProviderConfig.NpmObjectMapper;
+import org.carlspring.strongbox.data.criteria.Expression.ExpOperator;
+import org.carlspring.strongbox.data.criteria.Paginator;
+import org.carlspring.strongbox.data.criteria.Predicate;
+import org.carlspring.strongbox.event.artifact.ArtifactEvent;
+import org.carlspring.strongbox.npm.metadata.DistTags;
+import org.carlspring.strongbox.npm.metadata.PackageFeed;
+import org.carlspring.strongbox.npm.metadata.PackageVersion;
+import org.carlspring.strongbox.npm.metadata.Time;
+import org.carlspring.strongbox.npm.metadata.Versions;
+import org.carlspring.strongbox.providers.io.MaterializedIndex;
+import org.carlspring.strongbox.providers.io.RepositoryFiles;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.providers.io.RepositoryPathResolver;
+import org.carlspring.strongbox.providers.repository.RepositoryProvider;
+import org.carlspring.strongbox.providers.repository.RepositoryProviderRegistry;
+import org.carlspring.strongbox.storage.repository.Repository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Builds the npm package documents (packuments), and materializes them for
+ * the hosted repositories.
+ * <br>
+ * The materialized packuments, full and abbreviated
+ * (`application/vnd.npm.install-v1+json`), are stored next to the package
+ * versions, see {@link MaterializedIndex}. They are deleted once a package file
+ * was stored or deleted (which also changes the `latest` dist-tag), and stored
+ * again on publish, unpublish and on the next request.
+ */
+@Component
+public class NpmPackageFeedService
+{
+
+    private static final Logger logger = LoggerFactory.getLogger(NpmPackageFeedService.class);
+
+    public static final String PACKAGE_FEED_FILE_NAME = "package-feed.json";
+
+    public static final String ABBREVIATED_PACKAGE_FEED_FILE_NAME = "package-feed-install-v1.json";
+
+    public static final String ABBREVIATED_PACKAGE_FEED_MEDIA_TYPE = "application/vnd.npm.install-v1+json";
+
+    /**
+     * The version properties, which are kept in the abbreviated packument.
+     */
+    private static final Set<String> ABBREVIATED_VERSION_PROPERTIES = Stream.of("name",
+                                                                                "version",
+                                                                                "deprecated",
+                                                                                "dependencies",
+                                                                                "optionalDependencies",
+                                                                                "devDependencies",
+                                                                                "bundleDependencies",
+                                                                                "peerDependencies",
+                                                                                "peerDependenciesMeta",
+                                                                                "bin",
+                                                                                "directories",
+                                                                                "dist",
+                                                                                "engines",
+                                                                                "cpu",
+                                                                                "os",
+                                                                                "_hasShrinkwrap",
+                                                                                "hasInstallScript")
+                                                                            .collect(Collectors.toSet());
+
+    @Inject
+    @NpmObjectMapper
+    private ObjectMapper npmJacksonMapper;
+
+    @Inject
+    private RepositoryProviderRegistry repositoryProviderRegistry;
+
+    @Inject
+    private RepositoryPathResolver repositoryPathResolver;
+
+    @Inject
+    private NpmPackageSupplier npmPackageSupplier;
+
+    private final MaterializedIndex materializedIndex = new MaterializedIndex(MessageDigestAlgorithms.SHA_1, ".sha1");
+
+    public boolean isMaterialized(Repository repository)
+    {
+        return repository.isHostedRepository();
+    }
+
+    /**
+     * @return the materialized packument, which is stored first if needed, or
+     *         `null` if the repository packuments are not materialized or the
+     *         package doesn't have versions
+     */
+    public RepositoryPath resolvePackageFeed(Repository repository,
+                                             String packageScope,
+                                             String packageName,
+                                             boolean abbreviated)
+            throws IOException
+    {
+        if (!isMaterialized(repository))
+        {
+            return null;
+        }
+
+        RepositoryPath packageFeedPath = resolvePackageFeedPath(repository, packageScope, packageName, abbreviated);
+        if (Files.exists(packageFeedPath))
+        {
+            return packageFeedPath;
+        }
+
+        materialize(repository, packageScope, packageName);
+
+        return Files.exists(packageFeedPath) ? packageFeedPath : null;
+    }
+
+    /**
+     * Stores the full and abbreviated packuments of the package, or deletes
+     * them if the package doesn't have versions.
+     */
+    public void materialize(Repository repository,
+                            String packageScope,
+                            String packageName)
+            throws IOException
+    {
+        if (!isMaterialized(repository))
+        {
+            return;
+        }
+
+        RepositoryPath abbreviatedPackageFeedPath = resolvePackageFeedPath(repository, packageScope, packageName,
+                                                                           true);
+        RepositoryPath packageFeedPath = resolvePackageFeedPath(repository, packageScope, packageName, false);
+
+        long expectedVersion = materializedIndex.getVersion(abbreviatedPackageFeedPath, packageFeedPath);
+
+        PackageFeed packageFeed = buildPackageFeed(repository, packageScope, packageName);
+        if (packageFeed.getVersions().getAdditionalProperties().isEmpty())
+        {
+            materializedIndex.delete(abbreviatedPackageFeedPath, packageFeedPath);
+
+            return;
+        }
+
+        Map<RepositoryPath, byte[]> packageFeeds = new LinkedHashMap<>();
+        packageFeeds.put(abbreviatedPackageFeedPath, npmJacksonMapper.writeValueAsBytes(toAbbreviated(packageFeed)));
+        packageFeeds.put(packageFeedPath, npmJacksonMapper.writeValueAsBytes(packageFeed));
+
+        materializedIndex.store(expectedVersion, packageFeeds);
+    }
+
+    /**
+     * Rebuilds the packuments of all the packages within the repository.
+     */
+    public void materialize(Repository repository)
+            throws IOException
+    {
+        if (!isMaterialized(repository))
+        {
+            return;
+        }
+
+        RepositoryPath rootPath = repositoryPathResolver.resolve(repository);
+        for (Path groupPath : MaterializedIndex.listDirectories(rootPath))
+        {
+            String group = groupPath.getFileName().toString();
+            String packageScope = group.startsWith("@") ? group : null;
+
+            for (Path packagePath : MaterializedIndex.listDirectories(groupPath))
+            {
+                String packageName = packagePath.getFileName().toString();
+                if (packageScope == null && !packageName.equals(group))
+                {
+                    continue;
+                }
+
+                logger.debug("Rebuilding packument of [{}] in [{}].",
+                             packagePath, repository.getStorageIdAndRepositoryId());
+
+                try
+                {
+                    materialize(repository, packageScope, packageName);
+                }
+                catch (IOException e)
+                {
+                    logger.error("Failed to rebuild packument of [{}] in [{}].",
+                                 packagePath, repository.getStorageIdAndRepositoryId(), e);
+                }
+            }
+        }
+    }
+
+    public PackageFeed buildPackageFeed(Repository repository,
+                                        String packageScope,
+                                        String packageName)
+    {
+        final String storageId = repository.getStorage().getId();
+        final String repositoryId = repository.getId();
+
+        String packageId = NpmArtifactCoordinates.calculatePackageId(packageScope, packageName);
+
+        PackageFeed packageFeed = new PackageFeed();
+
+        packageFeed.setName(packageId);
+        packageFeed.setAdditionalProperty("_id", packageId);
+
+        Predicate predicate = createSearchPredicate(packageScope, packageName);
+
+        RepositoryProvider provider = repositoryProviderRegistry.getProvider(repository.getType());
+
+        Paginator paginator = new Paginator();
+        paginator.setProperty("version");
+
+        List<Path> searchResult = provider.search(storageId, repositoryId, predicate, paginator);
+
+        Versions versions = new Versions();
+        packageFeed.setVersions(versions);
+
+        Time npmTime = new Time();
+        packageFeed.setTime(npmTime);
+
+        DistTags distTags = new DistTags();
+        packageFeed.setDistTags(distTags);
+
+        searchResult.stream().map(npmPackageSupplier).forEach(p -> {
+            PackageVersion npmPackage = p.getNpmPackage();
+            versions.setAdditionalProperty(npmPackage.getVersion(), npmPackage);
+
+            npmTime.setAdditionalProperty(npmPackage.getVersion(), p.getReleaseDate());
+
+            Date created = npmTime.getCreated();
+            npmTime.setCreated(created == null || created.before(p.getReleaseDate()) ? p.getReleaseDate() : created);
+
+            Date modified = npmTime.getModified();
+            npmTime.setModified(modified == null || modified.before(p.getReleaseDate()) ? p.getReleaseDate()
+                                                                                        : modified);
+
+            if (p.isLastVersion())
+            {
+                distTags.setLatest(npmPackage.getVersion());
+            }
+
+        });
+        packageFeed.setAdditionalProperty("_rev", generateRevisionHashcode(packageFeed));
+
+        return packageFeed;
+    }
+
+    /**
+     * @return the abbreviated packument, which only has the properties needed
+     *         for the package installation
+     */
+    public JsonNode toAbbreviated(PackageFeed packageFeed)
+    {
+        ObjectNode packageFeedNode = npmJacksonMapper.valueToTree(packageFeed);
+
+        ObjectNode result = npmJacksonMapper.createObjectNode();
+        result.set("name", packageFeedNode.get("name"));
+        result.set("modified", packageFeedNode.path("time").get("modified"));
+        result.set("dist-tags", packageFeedNode.get("dist-tags"));
+
+        ObjectNode versions = result.putObject("versions");
+        for (Iterator<Map.Entry<String, JsonNode>> i = packageFeedNode.path("versions").fields(); i.hasNext(); )
+        {
+            Map.Entry<String, JsonNode> versionEntry = i.next();
+
+            ObjectNode versionNode = versionEntry.getValue().deepCopy();
+            versionNode.retain(ABBREVIATED_VERSION_PROPERTIES);
+
+            versions.set(versionEntry.getKey(), versionNode);
+        }
+
+        return result;
+    }
+
+    public RepositoryPath resolvePackageFeedPath(Repository repository,
+                                                 String packageScope,
+                                                 String packageName,
+                                                 boolean abbreviated)
+    {
+        String group = packageScope == null ? packageName : packageScope;
+
+        return repositoryPathResolver.resolve(repository,
+                                              String.format("%s/%s/%s", group, packageName,
+                                                            abbreviated ? ABBREVIATED_PACKAGE_FEED_FILE_NAME
+                                                                        : PACKAGE_FEED_FILE_NAME));
+    }
+
+    public static boolean isPackageFeed(RepositoryPath path)
+    {
+        String fileName = path.getFileName().toString();
+
+        return PACKAGE_FEED_FILE_NAME.equals(fileName) || ABBREVIATED_PACKAGE_FEED_FILE_NAME.equals(fileName);
+    }
+
+    @EventListener
+    public void handle(final ArtifactEvent<RepositoryPath> event)
+            throws IOException
+    {
+        RepositoryPath path = event.getPath();
+        if (!NpmLayoutProvider.ALIAS.equals(path.getRepository().getLayout())
+            || !isMaterialized(path.getRepository())
+            || !MaterializedIndex.isPackageChanged(event.getType()))
+        {
+            return;
+        }
+
+        // Package files are `{group}/{name}/{version}/{file}`, while the
+        // packuments are `{group}/{name}/{file}`.
+        String[] pathElements = RepositoryFiles.relativizePath(path).split("/");
+        if (pathElements.length < 4)
+        {
+            return;
+        }
+
+        String packageScope = pathElements[0].startsWith("@") ? pathElements[0] : null;
+        invalidate(path.getRepository(), packageScope, pathElements[1]);
+    }
+
+    private void invalidate(Repository repository,
+                            String packageScope,
+                            String packageName)
+            throws IOException
+    {
+        materializedIndex.invalidate(resolvePackageFeedPath(repository, packageScope, packageName, false),
+                                     resolvePackageFeedPath(repository, packageScope, packageName, true));
+    }
+
+    private Predicate createSearchPredicate(String packageScope,
+                                            String packageName)
+    {
+        Predicate rootPredicate = Predicate.empty();
+
+        rootPredicate.and(Predicate.of(ExpOperator.EQ.of("artifactCoordinates.coordinates.extension", "tgz")));
+        rootPredicate.and(Predicate.of(ExpOperator.EQ.of("artifactCoordinates.coordinates.name", packageName)));
+        if (packageScope != null)
+        {
+            rootPredicate.and(Predicate.of(ExpOperator.EQ.of("artifactCoordinates.coordinates.scope", packageScope)));
+        }
+
+        return rootPredicate;
+    }
+
+    private String generateRevisionHashcode(PackageFeed packageFeed)
+    {
+        String versionsShasum = packageFeed.getVersions().getAdditionalProperties()
+                                           .values()
+                                           .stream()
+                                           .map(x -> x.getDist().getShasum())
+                                           .collect(Collectors.joining());
+        return packageFeed.getVersions().getAdditionalProperties().size() + "-" +
+               DigestUtils.sha1Hex(versionsShasum).substring(0, 16);
+    }
+
+}
@@ -18,7 +18,6 @@ import org.carlspring.strongbox.npm.metadata.Dist;
 import org.carlspring.strongbox.npm.metadata.PackageVersion;
 import org.carlspring.strongbox.providers.io.RepositoryFiles;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
-import org.carlspring.strongbox.services.ArtifactTagService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -36,9 +35,6 @@ public class NpmPackageSupplier implements Function<Path, NpmPackageDesc>
     @Inject
     private NpmLayoutProvider layoutProvider;
 
-    @Inject
-    private ArtifactTagService artifactTagService;
-    
     @Override
     public NpmPackageDesc apply(Path path)
     {
@@ -86,7 +82,8 @@ public class NpmPackageSupplier implements Function<Path, NpmPackageDesc>
         }
         dist.setTarball(url);
 
-        if (artifactEntry.getTagSet().contains(artifactTagService.findOneOrCreate(ArtifactTag.LAST_VERSION)))
+        // The tag is matched by name, so that it's not looked up for each version.
+        if (artifactEntry.getTagSet().stream().anyMatch(t -> ArtifactTag.LAST_VERSION.equals(t.getName())))
         {
             npmPackageDesc.setLastVersion(true);
         }
@@ -43,6 +43,9 @@ public class NpmUnpublishService
     @Inject
     private NpmRepositoryFeatures repositoryFeatures;
 
+    @Inject
+    private NpmPackageFeedService npmPackageFeedService;
+
     public Result unpublishPackage(Repository repository,
                                    String packageScope,
                                    String packageName)
@@ -130,6 +133,8 @@ public class NpmUnpublishService
 
             artifactManagementService.delete(path, false);
             deleteVersionDirectory(path);
+
+            npmPackageFeedService.materialize(repository, packageScope, packageName);
         }
         catch (IOException e)
         {
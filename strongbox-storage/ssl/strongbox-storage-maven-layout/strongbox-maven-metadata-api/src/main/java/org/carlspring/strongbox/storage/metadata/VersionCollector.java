@@ -6,9 +6,8 @@ import org.carlspring.strongbox.storage.metadata.maven.comparators.SnapshotVersi
 import org.carlspring.strongbox.storage.metadata.maven.versions.MetadataVersion;
 import org.carlspring.strongbox.storage.metadata.maven.visitors.ArtifactVersionDirectoryVisitor;
 
-import java.io.FileReader;
 import java.io.IOException;
-import java.io.Reader;
+import java.io.InputStream;
 import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -99,21 +98,9 @@ public class VersionCollector
 
                     versions.add(metadataVersion);
 
-                    if (artifactIsPlugin(pom))
+                    Plugin plugin = getPlugin(pom);
+                    if (plugin != null)
                     {
-                        String name = pom.getName() != null ? pom.getName() : pom.getArtifactId();
-
-                        // TODO: SB-339: Get the maven plugin's prefix properly when generating metadata
-                        // TODO: This needs to be addressed properly, as it's not correct.
-                        // TODO: This can be obtained from the jar's META-INF/maven/plugin.xml and should be read
-                        // TODO: either via a ZipInputStream, or using TrueZip.
-                        // String prefix = pom.getArtifactId().replace("maven-plugin", "").replace("-plugin$", "");
-
-                        Plugin plugin = new Plugin();
-                        plugin.setName(name);
-                        plugin.setArtifactId(pom.getArtifactId());
-                        plugin.setPrefix(PluginDescriptor.getGoalPrefixFromArtifactId(pom.getArtifactId()));
-
                         request.addPlugin(plugin);
                     }
                 }
@@ -243,18 +230,64 @@ public class VersionCollector
         return versioning;
     }
 
-    private boolean artifactIsPlugin(Model model)
+    /**
+     * Reads the plugin information of a single POM, without listing and
+     * parsing the POM-s of all the other versions.
+     *
+     * @return the plugin, or `null` if the POM isn't a Maven plugin
+     */
+    public Plugin collectPlugin(Path pomArtifactPath)
+            throws IOException, XmlPullParserException
+    {
+        return getPlugin(getPom(pomArtifactPath));
+    }
+
+    private Plugin getPlugin(Model pom)
+    {
+        return createPlugin(pom.getPackaging(), pom.getName(), pom.getArtifactId());
+    }
+
+    /**
+     * Creates the plugin information out of the POM elements, so that it can
+     * also be created from the ones stored with the artifact entry of the POM.
+     *
+     * @return the plugin, or `null` if the packaging isn't `maven-plugin`
+     */
+    public Plugin createPlugin(String packaging,
+                               String name,
+                               String artifactId)
+    {
+        if (!artifactIsPlugin(packaging))
+        {
+            return null;
+        }
+
+        // TODO: SB-339: Get the maven plugin's prefix properly when generating metadata
+        // TODO: This needs to be addressed properly, as it's not correct.
+        // TODO: This can be obtained from the jar's META-INF/maven/plugin.xml and should be read
+        // TODO: either via a ZipInputStream, or using TrueZip.
+        // String prefix = pom.getArtifactId().replace("maven-plugin", "").replace("-plugin$", "");
+
+        Plugin plugin = new Plugin();
+        plugin.setName(name != null ? name : artifactId);
+        plugin.setArtifactId(artifactId);
+        plugin.setPrefix(PluginDescriptor.getGoalPrefixFromArtifactId(artifactId));
+
+        return plugin;
+    }
+
+    private boolean artifactIsPlugin(String packaging)
     {
-        return model.getPackaging().equals("maven-plugin");
+        return "maven-plugin".equals(packaging);
     }
 
     private Model getPom(Path filePath)
             throws IOException, XmlPullParserException
     {
-        try (Reader rr = new FileReader(filePath.toFile()))
+        try (InputStream is = Files.newInputStream(filePath))
         {
             MavenXpp3Reader reader = new MavenXpp3Reader();
-            return reader.read(rr);
+            return reader.read(is);
         }
 
     }
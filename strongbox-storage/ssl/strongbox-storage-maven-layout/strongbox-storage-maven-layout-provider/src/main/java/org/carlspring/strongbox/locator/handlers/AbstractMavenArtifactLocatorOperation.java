@@ -79,8 +79,7 @@ public abstract class AbstractMavenArtifactLocatorOperation
         }
         getVisitedRootPaths().put(artifactGroupDirectoryPath, versionDirectories);
 
-        VersionCollector versionCollector = new VersionCollector();
-        VersionCollectionRequest request = versionCollector.collectVersions(artifactGroupDirectoryPath.toAbsolutePath());
+        VersionCollectionRequest request = collectVersions(artifactGroupDirectoryPath);
 
         if (logger.isDebugEnabled())
         {
@@ -94,6 +93,14 @@ public abstract class AbstractMavenArtifactLocatorOperation
         executeOperation(request, artifactGroupDirectoryPath, versionDirectories);
     }
 
+    protected VersionCollectionRequest collectVersions(RepositoryPath artifactGroupDirectoryPath)
+            throws IOException
+    {
+        VersionCollector versionCollector = new VersionCollector();
+
+        return versionCollector.collectVersions(artifactGroupDirectoryPath.toAbsolutePath());
+    }
+
     public abstract void executeOperation(VersionCollectionRequest request,
                                           RepositoryPath artifactGroupDirectoryPath,
                                           List<RepositoryPath> versionDirectories)
@@ -2,10 +2,12 @@ package org.carlspring.strongbox.locator.handlers;
 
 import org.carlspring.strongbox.event.artifact.ArtifactEventListenerRegistry;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.storage.metadata.ArtifactEntryVersionCollector;
 import org.carlspring.strongbox.storage.metadata.MavenMetadataManager;
 import org.carlspring.strongbox.storage.metadata.VersionCollectionRequest;
 
 import javax.annotation.Nonnull;
+import java.io.IOException;
 import java.util.List;
 import java.util.Objects;
 
@@ -25,14 +27,40 @@ public class GenerateMavenMetadataOperation
 
     private final ArtifactEventListenerRegistry artifactEventListenerRegistry;
 
+    private final ArtifactEntryVersionCollector artifactEntryVersionCollector;
+
 
     public GenerateMavenMetadataOperation(@Nonnull final MavenMetadataManager mavenMetadataManager,
                                           @Nonnull final ArtifactEventListenerRegistry artifactEventListenerRegistry)
+    {
+        this(mavenMetadataManager, artifactEventListenerRegistry, null);
+    }
+
+    /**
+     * @param artifactEntryVersionCollector collects the versions from the database, or `null` to parse the
+     *                                      POM-s of all the versions
+     */
+    public GenerateMavenMetadataOperation(@Nonnull final MavenMetadataManager mavenMetadataManager,
+                                          @Nonnull final ArtifactEventListenerRegistry artifactEventListenerRegistry,
+                                          final ArtifactEntryVersionCollector artifactEntryVersionCollector)
     {
         Objects.requireNonNull(mavenMetadataManager);
         Objects.requireNonNull(artifactEventListenerRegistry);
         this.mavenMetadataManager = mavenMetadataManager;
         this.artifactEventListenerRegistry = artifactEventListenerRegistry;
+        this.artifactEntryVersionCollector = artifactEntryVersionCollector;
+    }
+
+    @Override
+    protected VersionCollectionRequest collectVersions(RepositoryPath artifactGroupDirectoryPath)
+            throws IOException
+    {
+        if (artifactEntryVersionCollector == null)
+        {
+            return super.collectVersions(artifactGroupDirectoryPath);
+        }
+
+        return artifactEntryVersionCollector.collectVersions(artifactGroupDirectoryPath);
     }
 
     @Override
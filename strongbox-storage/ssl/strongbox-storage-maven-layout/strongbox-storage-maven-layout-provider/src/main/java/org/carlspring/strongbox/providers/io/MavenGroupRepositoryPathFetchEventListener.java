@@ -14,12 +14,10 @@ import org.carlspring.strongbox.storage.repository.Repository;
 import javax.inject.Inject;
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.concurrent.Callable;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
@@ -30,8 +28,6 @@ import org.springframework.stereotype.Component;
 public class MavenGroupRepositoryPathFetchEventListener
 {
 
-    private static final Logger logger = LoggerFactory.getLogger(MavenGroupRepositoryPathFetchEventListener.class);
-
     @Inject
     private Maven2LayoutProvider maven2LayoutProvider;
 
@@ -47,6 +43,9 @@ public class MavenGroupRepositoryPathFetchEventListener
     @Inject
     private RepositoryProviderRegistry repositoryProviderRegistry;
 
+    @Inject
+    private MavenGroupRepositoryPathFetchExecutor mavenGroupRepositoryPathFetchExecutor;
+
     @EventListener
     public void handle(final GroupRepositoryPathFetchEvent event)
             throws IOException
@@ -73,7 +72,7 @@ public class MavenGroupRepositoryPathFetchEventListener
     {
         Repository groupRepository = repositoryPath.getRepository();
         Storage storage = groupRepository.getStorage();
-        List<Callable<Path>> fetchActions = new ArrayList<>();
+        Map<String, Callable<Path>> fetchActions = new LinkedHashMap<>();
 
         for (String storageAndRepositoryId : groupRepository.getGroupRepositories())
         {
@@ -93,25 +92,9 @@ public class MavenGroupRepositoryPathFetchEventListener
             }
 
             RepositoryProvider provider = repositoryProviderRegistry.getProvider(subRepository.getType());
-            fetchActions.add(() -> provider.fetchPath(resolvedPath));
+            fetchActions.put(resolvedPath.toUri().toString(), () -> provider.fetchPath(resolvedPath));
         }
 
-        fetchPathsInParallel(fetchActions);
-    }
-
-    private void fetchPathsInParallel(final List<Callable<Path>> fetchActions)
-    {
-        fetchActions
-                .parallelStream()
-                .forEach(action -> {
-                    try
-                    {
-                        action.call();
-                    }
-                    catch (Exception e)
-                    {
-                        logger.error(e.getMessage(), e);
-                    }
-                });
+        mavenGroupRepositoryPathFetchExecutor.fetch(fetchActions);
     }
 }
@@ -0,0 +1,186 @@
+package org.carlspring.strongbox.providers.io;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fetches a path from the members of a Maven group repository on a bounded
+ * thread pool, so that the remote calls don't occupy the common `ForkJoinPool`
+ * of every `parallelStream()` in the JVM.
+ * <br>
+ * The caller waits for the members no longer than the timeout. The fetches
+ * which didn't complete by then go on in the background, and the group keeps
+ * serving its current `maven-metadata.xml` until the fetched member metadata
+ * is stored and merged into it (stale-while-revalidate). A member path which
+ * is still being fetched is not fetched again.
+ */
+@Component
+public class MavenGroupRepositoryPathFetchExecutor
+        implements InitializingBean, DisposableBean
+{
+
+    private static final Logger logger = LoggerFactory.getLogger(MavenGroupRepositoryPathFetchExecutor.class);
+
+    /**
+     * Keys are the member paths.
+     */
+    private final Map<String, Future<Path>> inFlight = new ConcurrentHashMap<>();
+
+    @Value("${strongbox.maven.groupFetch.threads:16}")
+    private int threads;
+
+    @Value("${strongbox.maven.groupFetch.queueCapacity:1000}")
+    private int queueCapacity;
+
+    @Value("${strongbox.maven.groupFetch.timeout:5000}")
+    private long timeout;
+
+    private ThreadPoolExecutor executor;
+
+    public MavenGroupRepositoryPathFetchExecutor()
+    {
+    }
+
+    MavenGroupRepositoryPathFetchExecutor(int threads,
+                                          int queueCapacity,
+                                          long timeout)
+    {
+        this.threads = threads;
+        this.queueCapacity = queueCapacity;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public void afterPropertiesSet()
+    {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads,
+                                          threads,
+                                          60L,
+                                          TimeUnit.SECONDS,
+                                          new ArrayBlockingQueue<>(queueCapacity),
+                                          r -> {
+                                              Thread thread = new Thread(r,
+                                                                         String.format("maven-group-fetch-%s",
+                                                                                       threadNumber.incrementAndGet()));
+                                              thread.setDaemon(true);
+
+                                              return thread;
+                                          },
+                                          new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    @Override
+    public void destroy()
+            throws InterruptedException
+    {
+        executor.shutdownNow();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * @param fetchActions the member fetches, by the member paths
+     * @return the number of members which were fetched in time
+     */
+    public int fetch(Map<String, Callable<Path>> fetchActions)
+    {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+
+        Map<String, Future<Path>> futures = new LinkedHashMap<>();
+        for (Map.Entry<String, Callable<Path>> fetchAction : fetchActions.entrySet())
+        {
+            try
+            {
+                futures.put(fetchAction.getKey(), submit(fetchAction.getKey(), fetchAction.getValue()));
+            }
+            catch (RejectedExecutionException e)
+            {
+                logger.warn("Too many group member fetches queued, skipping [{}].", fetchAction.getKey());
+            }
+        }
+
+        int result = 0;
+        for (Map.Entry<String, Future<Path>> future : futures.entrySet())
+        {
+            try
+            {
+                future.getValue().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                result++;
+            }
+            catch (TimeoutException e)
+            {
+                logger.debug("Fetch of [{}] didn't complete in [{}] ms, continuing in the background.",
+                             future.getKey(), timeout);
+            }
+            catch (ExecutionException e)
+            {
+                logger.error(e.getCause().getMessage(), e.getCause());
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+
+                break;
+            }
+        }
+
+        return result;
+    }
+
+    private Future<Path> submit(String key,
+                                Callable<Path> fetchAction)
+    {
+        FutureTask<Path> task = new FutureTask<>(fetchAction);
+
+        Future<Path> existing = inFlight.putIfAbsent(key, task);
+        if (existing != null)
+        {
+            logger.debug("Fetch of [{}] is already in progress.", key);
+
+            return existing;
+        }
+
+        try
+        {
+            executor.execute(() -> {
+                try
+                {
+                    task.run();
+                }
+                finally
+                {
+                    inFlight.remove(key, task);
+                }
+            });
+        }
+        catch (RejectedExecutionException e)
+        {
+            inFlight.remove(key, task);
+
+            throw e;
+        }
+
+        return task;
+    }
+
+}
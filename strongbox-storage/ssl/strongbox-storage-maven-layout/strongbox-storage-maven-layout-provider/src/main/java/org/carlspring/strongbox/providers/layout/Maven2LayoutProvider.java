@@ -3,6 +3,7 @@ package org.carlspring.strongbox.providers.layout;
 
 import org.carlspring.strongbox.artifact.MavenArtifact;
 import org.carlspring.strongbox.artifact.MavenArtifactUtils;
+import org.carlspring.strongbox.artifact.archive.ArchiveListingFunction;
 import org.carlspring.strongbox.artifact.archive.JarArchiveListingFunction;
 import org.carlspring.strongbox.artifact.coordinates.MavenArtifactCoordinates;
 import org.carlspring.strongbox.providers.io.RepositoryFileAttributeType;
@@ -15,14 +16,20 @@ import org.carlspring.strongbox.storage.metadata.MetadataHelper;
 import javax.annotation.PostConstruct;
 import javax.inject.Inject;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.maven.index.artifact.M2ArtifactRecognizer;
+import org.apache.maven.model.Model;
+import org.apache.maven.model.io.xpp3.MavenXpp3Reader;
+import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -37,6 +44,16 @@ public class Maven2LayoutProvider
 
     public static final String ALIAS = MavenArtifactCoordinates.LAYOUT_NAME;
 
+    /**
+     * The `packaging` of the POM, stored with the `.pom` artifact entry.
+     */
+    public static final String PACKAGING_ATTRIBUTE = "packaging";
+
+    /**
+     * The `name` of the POM, stored with the `.pom` artifact entry if it has one.
+     */
+    public static final String NAME_ATTRIBUTE = "name";
+
     private static final Logger logger = LoggerFactory.getLogger(Maven2LayoutProvider.class);
 
     @Inject
@@ -71,6 +88,40 @@ public class Maven2LayoutProvider
         return MetadataHelper.MAVEN_METADATA_XML.equals(path.getFileName().toString());
     }
 
+    /**
+     * Reads the packaging and the name out of the `.pom`, so that the plugin
+     * information of the `maven-metadata.xml` is built from the artifact
+     * entries without parsing the POM-s.
+     */
+    @Override
+    public Map<String, String> readArtifactAttributes(RepositoryPath repositoryPath)
+    {
+        if (!isArtifactMetadata(repositoryPath))
+        {
+            return Collections.emptyMap();
+        }
+
+        try (InputStream is = Files.newInputStream(repositoryPath))
+        {
+            Model pom = new MavenXpp3Reader().read(is);
+
+            Map<String, String> result = new HashMap<>();
+            result.put(PACKAGING_ATTRIBUTE, pom.getPackaging());
+            if (pom.getName() != null)
+            {
+                result.put(NAME_ATTRIBUTE, pom.getName());
+            }
+
+            return result;
+        }
+        catch (IOException | XmlPullParserException e)
+        {
+            logger.warn("Unable to read .pom of [{}]", repositoryPath, e);
+
+            return Collections.emptyMap();
+        }
+    }
+
     @Override
     protected Map<RepositoryFileAttributeType, Object> getRepositoryFileAttributes(RepositoryPath repositoryPath,
                                                                                    RepositoryFileAttributeType... attributeTypes)
@@ -149,21 +200,9 @@ public class Maven2LayoutProvider
     }
 
     @Override
-    public Set<String> listArchiveFilenames(final RepositoryPath repositoryPath)
+    protected ArchiveListingFunction getArchiveListingFunction()
     {
-        if (JarArchiveListingFunction.INSTANCE.supports(repositoryPath))
-        {
-            try
-            {
-                return JarArchiveListingFunction.INSTANCE.listFilenames(repositoryPath);
-            }
-            catch (IOException e)
-            {
-                logger.warn("Unable to list filenames in archive path {} using {}",
-                            repositoryPath, JarArchiveListingFunction.INSTANCE.getClass(), e);
-            }
-        }
-        return Collections.emptySet();
+        return JarArchiveListingFunction.INSTANCE;
     }
 
     public boolean requiresGroupAggregation(final RepositoryPath repositoryPath)
@@ -34,8 +34,18 @@ public class ArtifactEntryArtifactContext
 
     private static ArtifactInfo asArtifactInfo(ArtifactEntry artifactEntry)
     {
-        final MavenArtifactCoordinates coordinates = (MavenArtifactCoordinates) artifactEntry.getArtifactCoordinates();
-        ArtifactInfo artifactInfo = new ArtifactInfo(artifactEntry.getRepositoryId(),
+        return asArtifactInfo(artifactEntry.getRepositoryId(),
+                              (MavenArtifactCoordinates) artifactEntry.getArtifactCoordinates());
+    }
+
+    /**
+     * Also used for the artifacts which don't have an {@link ArtifactEntry}
+     * anymore, so that their documents are found by the same `UINFO`.
+     */
+    public static ArtifactInfo asArtifactInfo(String repositoryId,
+                                              MavenArtifactCoordinates coordinates)
+    {
+        ArtifactInfo artifactInfo = new ArtifactInfo(repositoryId,
                                                      coordinates.getGroupId(),
                                                      coordinates.getArtifactId(),
                                                      coordinates.getVersion(),
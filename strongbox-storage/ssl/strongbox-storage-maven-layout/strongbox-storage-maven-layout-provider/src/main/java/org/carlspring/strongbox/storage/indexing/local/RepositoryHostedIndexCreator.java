@@ -73,27 +73,28 @@ public class RepositoryHostedIndexCreator
         final String storageId = repository.getStorage().getId();
         final String repositoryId = repository.getId();
 
-        final long totalArtifactGroupsInRepository = repositoryArtifactIdGroupService.count(storageId,
-                                                                                            repositoryId);
-        if (totalArtifactGroupsInRepository == 0)
+        // keyset pagination, so that the whole repository is read in linear time
+        String lastArtifactGroupUuid = null;
+        List<RepositoryArtifactIdGroupEntry> repositoryArtifactIdGroupEntries;
+        do
         {
-            return;
-        }
-
-        final long iterations = totalArtifactGroupsInRepository / REPOSITORY_ARTIFACT_GROUP_FETCH_PAGE_SIZE + 1;
-
-        for (int i = 0; i < iterations; i++)
-        {
-            final PagingCriteria pagingCriteria = new PagingCriteria(i * REPOSITORY_ARTIFACT_GROUP_FETCH_PAGE_SIZE,
+            final PagingCriteria pagingCriteria = new PagingCriteria(lastArtifactGroupUuid,
                                                                      REPOSITORY_ARTIFACT_GROUP_FETCH_PAGE_SIZE);
-            final List<RepositoryArtifactIdGroupEntry> repositoryArtifactIdGroupEntries = repositoryArtifactIdGroupService.findMatching(
-                    storageId,
-                    repositoryId,
-                    pagingCriteria);
+            repositoryArtifactIdGroupEntries = repositoryArtifactIdGroupService.findMatching(storageId,
+                                                                                             repositoryId,
+                                                                                             pagingCriteria);
+            if (repositoryArtifactIdGroupEntries.isEmpty())
+            {
+                break;
+            }
 
             final List<ArtifactContext> artifactContexts = createArtifactContexts(repositoryArtifactIdGroupEntries);
             Indexer.INSTANCE.addArtifactsToIndex(artifactContexts, indexingContext);
+
+            lastArtifactGroupUuid = repositoryArtifactIdGroupEntries.get(repositoryArtifactIdGroupEntries.size() - 1)
+                                                                    .getUuid();
         }
+        while (repositoryArtifactIdGroupEntries.size() == REPOSITORY_ARTIFACT_GROUP_FETCH_PAGE_SIZE);
     }
 
     private List<ArtifactContext> createArtifactContexts(final List<RepositoryArtifactIdGroupEntry> repositoryArtifactIdGroupEntries)
@@ -145,8 +146,8 @@ public class RepositoryHostedIndexCreator
         return groupedByVersion;
     }
 
-    private ArtifactEntryArtifactContextHelper createArtifactContextHelper(final ArtifactEntry artifactEntry,
-                                                                           final List<ArtifactEntry> group)
+    static ArtifactEntryArtifactContextHelper createArtifactContextHelper(final ArtifactEntry artifactEntry,
+                                                                          final List<ArtifactEntry> group)
     {
         boolean pomExists = false;
         boolean sourcesExists = false;
@@ -183,9 +184,14 @@ public class RepositoryHostedIndexCreator
     /**
      * org.apache.maven.index.DefaultArtifactContextProducer#isIndexable(java.io.File)
      */
-    private boolean isIndexable(final ArtifactEntry artifactEntry)
+    static boolean isIndexable(final ArtifactEntry artifactEntry)
+    {
+        return isIndexable(artifactEntry.getArtifactPath());
+    }
+
+    static boolean isIndexable(final String artifactPath)
     {
-        final String filename = Paths.get(artifactEntry.getArtifactPath()).getFileName().toString();
+        final String filename = Paths.get(artifactPath).getFileName().toString();
 
         if (filename.equals("maven-metadata.xml")
             // || filename.endsWith( "-javadoc.jar" )
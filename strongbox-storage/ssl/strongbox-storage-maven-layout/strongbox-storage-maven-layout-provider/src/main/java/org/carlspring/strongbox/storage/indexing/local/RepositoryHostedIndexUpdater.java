@@ -0,0 +1,479 @@
+package org.carlspring.strongbox.storage.indexing.local;
+
+import org.carlspring.strongbox.artifact.MavenArtifactUtils;
+import org.carlspring.strongbox.artifact.coordinates.MavenArtifactCoordinates;
+import org.carlspring.strongbox.domain.ArtifactEntry;
+import org.carlspring.strongbox.event.AsyncEventListener;
+import org.carlspring.strongbox.event.artifact.ArtifactEvent;
+import org.carlspring.strongbox.event.artifact.ArtifactEventTypeEnum;
+import org.carlspring.strongbox.providers.io.RepositoryFiles;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.providers.io.RepositoryPathLock;
+import org.carlspring.strongbox.providers.layout.Maven2LayoutProvider;
+import org.carlspring.strongbox.repository.MavenRepositoryFeatures;
+import org.carlspring.strongbox.services.ArtifactEntryService;
+import org.carlspring.strongbox.storage.indexing.IndexLockedException;
+import org.carlspring.strongbox.storage.indexing.IndexPacker;
+import org.carlspring.strongbox.storage.indexing.IndexTypeEnum;
+import org.carlspring.strongbox.storage.indexing.Indexer;
+import org.carlspring.strongbox.storage.indexing.RepositoryCloseableIndexingContext;
+import org.carlspring.strongbox.storage.indexing.RepositoryIndexDirectoryPathResolver;
+import org.carlspring.strongbox.storage.indexing.RepositoryIndexDirectoryPathResolver.RepositoryIndexDirectoryPathResolverQualifier;
+import org.carlspring.strongbox.storage.indexing.RepositoryIndexingContextFactory;
+import org.carlspring.strongbox.storage.indexing.RepositoryIndexingContextFactory.RepositoryIndexingContextFactoryQualifier;
+import org.carlspring.strongbox.storage.repository.Repository;
+
+import javax.inject.Inject;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+import org.apache.maven.index.ArtifactContext;
+import org.apache.maven.index.artifact.Gav;
+import org.apache.maven.index.context.IndexingContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies the stored and deleted artifacts of the hosted repositories to their
+ * local index, instead of rebuilding it with {@link RepositoryHostedIndexCreator}.
+ * <br>
+ * The changed documents are packed as a maven-indexer incremental chunk
+ * (`nexus-maven-repository-index.N.gz`), so that the index consumers only
+ * download the changes since their last update. The full rebuild is still
+ * required before the first update, and for the changes which don't have
+ * their own events (like the deleted directories), and is done on the explicit
+ * request only (see `MavenFileSystem#rebuildIndex` and `RebuildMavenIndexesCronJob`).
+ * <br>
+ * The events only collect the changed paths, which are applied and packed
+ * together every `strongbox.maven.index.update.intervalSeconds` (5 minutes by
+ * default), and on shutdown, so that a burst of deployments makes one chunk
+ * instead of one per file.
+ * <br>
+ * Each pack also rewrites the full `nexus-maven-repository-index.gz`, which is
+ * why the changes are not packed more often. The index consumers which download
+ * the full index take the chunk counter of `nexus-maven-repository-index.properties`
+ * as their own, so a full index which lags behind the chunks would make them
+ * miss the changes of the chunks for good.
+ */
+@Component
+public class RepositoryHostedIndexUpdater
+        implements InitializingBean, DisposableBean
+{
+
+    private static final Logger logger = LoggerFactory.getLogger(RepositoryHostedIndexUpdater.class);
+
+    @Inject
+    private ArtifactEntryService artifactEntryService;
+
+    @Inject
+    private MavenRepositoryFeatures mavenRepositoryFeatures;
+
+    @Inject
+    private RepositoryPathLock repositoryPathLock;
+
+    @Inject
+    @RepositoryIndexDirectoryPathResolverQualifier(IndexTypeEnum.LOCAL)
+    private RepositoryIndexDirectoryPathResolver indexDirectoryPathResolver;
+
+    @Inject
+    @RepositoryIndexingContextFactoryQualifier(IndexTypeEnum.LOCAL)
+    private RepositoryIndexingContextFactory indexingContextFactory;
+
+    @Value("${strongbox.maven.index.update.intervalSeconds:300}")
+    private int updateIntervalSeconds;
+
+    /**
+     * The changes which were not applied yet, by repository.
+     * <br>
+     * The changes are kept while the index is locked by another update or by
+     * the full rebuild, or if they failed to be applied, and are applied with
+     * the next flush.
+     */
+    private final ConcurrentMap<String, PendingChanges> pendingChanges = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService executor;
+
+    @Override
+    public void afterPropertiesSet()
+    {
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "maven-index-updater");
+            thread.setDaemon(true);
+
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::flush, updateIntervalSeconds, updateIntervalSeconds, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public void destroy()
+    {
+        executor.shutdown();
+        try
+        {
+            executor.awaitTermination(updateIntervalSeconds, TimeUnit.SECONDS);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+
+        flush();
+    }
+
+    @AsyncEventListener
+    public void handle(final ArtifactEvent<RepositoryPath> event)
+            throws IOException
+    {
+        RepositoryPath path = event.getPath();
+        Repository repository = path.getRepository();
+        if (!Maven2LayoutProvider.ALIAS.equals(repository.getLayout())
+            || !repository.isHostedRepository()
+            || !mavenRepositoryFeatures.isIndexingEnabled(repository))
+        {
+            return;
+        }
+
+        boolean deleted;
+        if (event.getType() == ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_STORED.getType()
+            || event.getType() == ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_UPDATED.getType())
+        {
+            deleted = false;
+        }
+        else if (event.getType() == ArtifactEventTypeEnum.EVENT_ARTIFACT_PATH_DELETED.getType())
+        {
+            deleted = true;
+        }
+        else
+        {
+            return;
+        }
+
+        String artifactPath = RepositoryFiles.relativizePath(path);
+        if (!isIndexable(artifactPath))
+        {
+            return;
+        }
+
+        pendingChanges.computeIfAbsent(getKey(repository), k -> new PendingChanges())
+                      .put(repository, artifactPath, deleted);
+    }
+
+    /**
+     * Applies the pending changes of all repositories, the changes of the
+     * locked indexes are left pending.
+     */
+    public synchronized void flush()
+    {
+        for (PendingChanges changes : pendingChanges.values())
+        {
+            Repository repository = changes.getRepository();
+            try
+            {
+                applyPendingChanges(repository, changes);
+            }
+            catch (Exception e)
+            {
+                logger.error("Failed to update index of repository [{}:{}].",
+                             repository.getStorage().getId(), repository.getId(), e);
+            }
+        }
+    }
+
+    /**
+     * Applies the stored and deleted artifact paths to the index, and packs
+     * them as the next incremental chunk.
+     *
+     * @return `false` if the index was not built yet, so there was nothing to update
+     */
+    public boolean update(Repository repository,
+                          Collection<String> storedArtifactPaths,
+                          Collection<String> deletedArtifactPaths)
+            throws IOException
+    {
+        RepositoryPath indexDirectoryPath = indexDirectoryPathResolver.resolve(repository);
+
+        Lock lock = tryLock(indexDirectoryPath);
+        if (lock == null)
+        {
+            throw new IndexLockedException(String.format("Index of repository [%s:%s] is currently locked.",
+                                                         repository.getStorage().getId(), repository.getId()));
+        }
+
+        try
+        {
+            return doUpdate(repository, indexDirectoryPath, storedArtifactPaths, deletedArtifactPaths);
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    private void applyPendingChanges(Repository repository,
+                                     PendingChanges changes)
+            throws IOException
+    {
+        if (changes.isEmpty())
+        {
+            return;
+        }
+
+        RepositoryPath indexDirectoryPath = indexDirectoryPathResolver.resolve(repository);
+
+        Lock lock = tryLock(indexDirectoryPath);
+        if (lock == null)
+        {
+            logger.debug("Index of repository [{}:{}] is locked, the changes are left pending.",
+                         repository.getStorage().getId(), repository.getId());
+
+            return;
+        }
+
+        Map<String, Boolean> drainedChanges = changes.drain();
+        try
+        {
+            List<String> storedArtifactPaths = new ArrayList<>();
+            List<String> deletedArtifactPaths = new ArrayList<>();
+            for (Map.Entry<String, Boolean> change : drainedChanges.entrySet())
+            {
+                (change.getValue() ? deletedArtifactPaths : storedArtifactPaths).add(change.getKey());
+            }
+
+            doUpdate(repository, indexDirectoryPath, storedArtifactPaths, deletedArtifactPaths);
+        }
+        catch (IOException | RuntimeException e)
+        {
+            changes.restore(drainedChanges);
+
+            throw e;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    private boolean doUpdate(Repository repository,
+                             RepositoryPath indexDirectoryPath,
+                             Collection<String> storedArtifactPaths,
+                             Collection<String> deletedArtifactPaths)
+            throws IOException
+    {
+        if (!IndexPacker.packageExists(indexDirectoryPath))
+        {
+            logger.debug("Index of repository [{}:{}] was not built yet, skipping the update.",
+                         repository.getStorage().getId(), repository.getId());
+
+            return false;
+        }
+
+        final List<ArtifactContext> deletedArtifactContexts = new ArrayList<>();
+        // The versions to reindex, by `groupId:artifactId:version`.
+        final Map<String, Gav> changedVersions = new LinkedHashMap<>();
+        for (String artifactPath : storedArtifactPaths)
+        {
+            addVersion(changedVersions, MavenArtifactUtils.convertPathToGav(artifactPath));
+        }
+        for (String artifactPath : deletedArtifactPaths)
+        {
+            Gav gav = MavenArtifactUtils.convertPathToGav(artifactPath);
+            MavenArtifactCoordinates coordinates = new MavenArtifactCoordinates(
+                    MavenArtifactUtils.convertPathToArtifact(artifactPath));
+            deletedArtifactContexts.add(new ArtifactContext(null,
+                                                            null,
+                                                            null,
+                                                            ArtifactEntryArtifactContext.asArtifactInfo(repository.getId(),
+                                                                                                        coordinates),
+                                                            gav));
+
+            // The remaining artifacts of the version don't have the deleted
+            // sources or javadoc anymore.
+            addVersion(changedVersions, gav);
+        }
+
+        try (final RepositoryCloseableIndexingContext indexingContext = indexingContextFactory.create(repository))
+        {
+            Indexer.INSTANCE.deleteArtifactsFromIndex(deletedArtifactContexts, indexingContext);
+
+            for (Gav gav : changedVersions.values())
+            {
+                // Updated in place, so the stored again artifacts are not duplicated.
+                for (ArtifactContext artifactContext : createArtifactContexts(repository, gav, deletedArtifactPaths))
+                {
+                    Indexer.ENGINE.update(indexingContext, artifactContext);
+                }
+            }
+            indexingContext.commit();
+
+            pack(indexDirectoryPath, indexingContext);
+        }
+
+        logger.debug("Index of repository [{}:{}] was updated with [{}] stored and [{}] deleted artifacts.",
+                     repository.getStorage().getId(), repository.getId(), storedArtifactPaths.size(),
+                     deletedArtifactPaths.size());
+
+        return true;
+    }
+
+    void pack(RepositoryPath indexDirectoryPath,
+              IndexingContext indexingContext)
+            throws IOException
+    {
+        IndexPacker.pack(indexDirectoryPath, indexingContext);
+    }
+
+    /**
+     * Creates the contexts of all artifacts of the version, because the
+     * `pomExists`, `sourcesExists` and `javadocExists` of an artifact depend on
+     * the other ones.
+     */
+    private List<ArtifactContext> createArtifactContexts(Repository repository,
+                                                         Gav gav,
+                                                         Collection<String> deletedArtifactPaths)
+    {
+        Map<String, String> coordinates = new HashMap<>();
+        coordinates.put("groupId", gav.getGroupId());
+        coordinates.put("artifactId", gav.getArtifactId());
+        coordinates.put("version", gav.getVersion());
+
+        List<ArtifactEntry> artifactEntries = new ArrayList<>(
+                artifactEntryService.findArtifactList(repository.getStorage().getId(),
+                                                      repository.getId(),
+                                                      coordinates,
+                                                      true));
+        // The entries of the deleted paths are still found if their deletion isn't committed yet.
+        artifactEntries.removeIf(e -> deletedArtifactPaths.contains(e.getArtifactPath()));
+
+        List<ArtifactContext> result = new ArrayList<>();
+        for (ArtifactEntry artifactEntry : artifactEntries)
+        {
+            if (!RepositoryHostedIndexCreator.isIndexable(artifactEntry))
+            {
+                continue;
+            }
+
+            List<ArtifactEntry> group = new ArrayList<>(artifactEntries);
+            group.removeIf(e -> Objects.equals(e.getUuid(), artifactEntry.getUuid()));
+
+            result.add(new ArtifactEntryArtifactContext(artifactEntry,
+                                                        RepositoryHostedIndexCreator.createArtifactContextHelper(
+                                                                artifactEntry,
+                                                                group)));
+        }
+
+        return result;
+    }
+
+    private void addVersion(Map<String, Gav> versions,
+                            Gav gav)
+    {
+        versions.putIfAbsent(String.format("%s:%s:%s", gav.getGroupId(), gav.getArtifactId(), gav.getVersion()), gav);
+    }
+
+    private boolean isIndexable(String artifactPath)
+    {
+        Gav gav = MavenArtifactUtils.convertPathToGav(artifactPath);
+
+        return gav != null
+               && !gav.isHash()
+               && !gav.isSignature()
+               && RepositoryHostedIndexCreator.isIndexable(artifactPath);
+    }
+
+    /**
+     * @return the acquired write lock of the index directory, or `null` if it
+     *         was not acquired in time
+     */
+    private Lock tryLock(RepositoryPath indexDirectoryPath)
+            throws IOException
+    {
+        Lock lock = repositoryPathLock.lock(indexDirectoryPath).writeLock();
+        try
+        {
+            return lock.tryLock(5, TimeUnit.SECONDS) ? lock : null;
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        }
+    }
+
+    private String getKey(Repository repository)
+    {
+        return repository.getStorage().getId() + ":" + repository.getId();
+    }
+
+    /**
+     * The artifact paths of a repository which were changed but not applied
+     * yet. The `true` value stands for a deleted path, the latest change of a
+     * path wins.
+     */
+    private static class PendingChanges
+    {
+
+        private volatile Repository repository;
+
+        private Map<String, Boolean> changes = new LinkedHashMap<>();
+
+        private synchronized void put(Repository repository,
+                                      String artifactPath,
+                                      boolean deleted)
+        {
+            this.repository = repository;
+
+            changes.remove(artifactPath);
+            changes.put(artifactPath, deleted);
+        }
+
+        private Repository getRepository()
+        {
+            return repository;
+        }
+
+        private synchronized boolean isEmpty()
+        {
+            return changes.isEmpty();
+        }
+
+        private synchronized Map<String, Boolean> drain()
+        {
+            Map<String, Boolean> result = changes;
+            changes = new LinkedHashMap<>();
+
+            return result;
+        }
+
+        /**
+         * Puts back the drained changes which failed to be applied, the changes
+         * of the same paths since the drain are newer, so they win.
+         */
+        private synchronized void restore(Map<String, Boolean> drainedChanges)
+        {
+            Map<String, Boolean> result = new LinkedHashMap<>(drainedChanges);
+            result.keySet().removeAll(changes.keySet());
+            result.putAll(changes);
+
+            changes = result;
+        }
+
+    }
+
+}
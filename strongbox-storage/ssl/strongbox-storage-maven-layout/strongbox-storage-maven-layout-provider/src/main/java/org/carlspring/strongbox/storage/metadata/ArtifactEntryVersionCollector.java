@@ -0,0 +1,188 @@
+package org.carlspring.strongbox.storage.metadata;
+
+import org.carlspring.strongbox.artifact.MavenArtifactUtils;
+import org.carlspring.strongbox.domain.ArtifactEntry;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.providers.io.RepositoryPathResolver;
+import org.carlspring.strongbox.providers.layout.Maven2LayoutProvider;
+import org.carlspring.strongbox.services.ArtifactEntryService;
+import org.carlspring.strongbox.storage.metadata.maven.comparators.MetadataVersionComparator;
+import org.carlspring.strongbox.storage.metadata.maven.io.filters.ArtifactVersionDirectoryFilter;
+import org.carlspring.strongbox.storage.metadata.maven.versions.MetadataVersion;
+import org.carlspring.strongbox.storage.repository.Repository;
+
+import javax.inject.Inject;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.maven.artifact.ArtifactUtils;
+import org.apache.maven.artifact.repository.metadata.Plugin;
+import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
+import org.javatuples.Pair;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Collects the versions of an artifact from the {@link ArtifactEntry}-s of its
+ * POM-s, instead of parsing the POM of each version like
+ * {@link VersionCollector#collectVersions(Path)} does. The plugin information
+ * is built from the packaging and the name stored with the {@link ArtifactEntry}
+ * of the latest POM, see {@link Maven2LayoutProvider#readArtifactAttributes}, and
+ * the POM is parsed only if they're not stored.
+ * <br>
+ * The version directories are still listed, so that the versions which are
+ * not yet in the database (for example, copied into the storage directly) are
+ * collected with {@link VersionCollector}.
+ */
+@Component
+public class ArtifactEntryVersionCollector
+{
+
+    private static final Logger logger = LoggerFactory.getLogger(ArtifactEntryVersionCollector.class);
+
+    @Inject
+    private ArtifactEntryService artifactEntryService;
+
+    @Inject
+    private RepositoryPathResolver repositoryPathResolver;
+
+    public VersionCollectionRequest collectVersions(RepositoryPath artifactBasePath)
+            throws IOException
+    {
+        VersionCollector versionCollector = new VersionCollector();
+
+        Repository repository = artifactBasePath.getRepository();
+        Pair<String, String> artifactGroup = MavenArtifactUtils.getDirectoryGA(artifactBasePath);
+
+        Map<String, String> coordinates = new HashMap<>();
+        coordinates.put("groupId", artifactGroup.getValue0());
+        coordinates.put("artifactId", artifactGroup.getValue1());
+        coordinates.put("extension", "pom");
+
+        List<ArtifactEntry> pomEntries = artifactEntryService.findArtifactList(repository.getStorage().getId(),
+                                                                               repository.getId(),
+                                                                               coordinates,
+                                                                               true);
+
+        Map<String, MetadataVersion> versions = new HashMap<>();
+        Map<String, ArtifactEntry> versionPomEntries = new HashMap<>();
+        for (ArtifactEntry pomEntry : pomEntries)
+        {
+            String version = pomEntry.getArtifactCoordinates().getVersion();
+            if (version == null)
+            {
+                continue;
+            }
+
+            String baseVersion = ArtifactUtils.isSnapshot(version) ? ArtifactUtils.toSnapshotVersion(version) : version;
+            Date created = pomEntry.getCreated() != null ? pomEntry.getCreated() : new Date(0);
+
+            MetadataVersion metadataVersion = versions.get(baseVersion);
+            if (metadataVersion == null)
+            {
+                metadataVersion = new MetadataVersion();
+                metadataVersion.setVersion(baseVersion);
+                versions.put(baseVersion, metadataVersion);
+            }
+            else if (metadataVersion.getCreatedDate().toMillis() >= created.getTime())
+            {
+                continue;
+            }
+
+            // The latest timestamped SNAPSHOT POM wins.
+            metadataVersion.setCreatedDate(FileTime.fromMillis(created.getTime()));
+            versionPomEntries.put(baseVersion, pomEntry);
+        }
+
+        if (!versions.keySet().equals(listVersionDirectoryNames(artifactBasePath)))
+        {
+            logger.debug("Versions of [{}] are not in sync with the database, collecting them from the POM-s.",
+                         artifactBasePath);
+
+            return versionCollector.collectVersions(artifactBasePath.toAbsolutePath());
+        }
+
+        List<MetadataVersion> metadataVersions = new ArrayList<>(versions.values());
+        metadataVersions.sort(new MetadataVersionComparator());
+
+        VersionCollectionRequest request = new VersionCollectionRequest();
+        request.setArtifactBasePath(artifactBasePath);
+        request.setMetadataVersions(metadataVersions);
+        request.setVersioning(versionCollector.generateVersioning(metadataVersions));
+
+        if (!metadataVersions.isEmpty())
+        {
+            String latestVersion = metadataVersions.get(metadataVersions.size() - 1).getVersion();
+            Plugin plugin = collectPlugin(versionCollector,
+                                          repository,
+                                          artifactGroup.getValue1(),
+                                          versionPomEntries.get(latestVersion));
+            if (plugin != null)
+            {
+                request.addPlugin(plugin);
+            }
+        }
+
+        return request;
+    }
+
+    private Plugin collectPlugin(VersionCollector versionCollector,
+                                 Repository repository,
+                                 String artifactId,
+                                 ArtifactEntry pomEntry)
+    {
+        Map<String, String> artifactAttributes = pomEntry.getArtifactAttributes();
+        if (artifactAttributes.containsKey(Maven2LayoutProvider.PACKAGING_ATTRIBUTE))
+        {
+            return versionCollector.createPlugin(artifactAttributes.get(Maven2LayoutProvider.PACKAGING_ATTRIBUTE),
+                                                 artifactAttributes.get(Maven2LayoutProvider.NAME_ATTRIBUTE),
+                                                 artifactId);
+        }
+
+        // Stored before the packaging was.
+        RepositoryPath pomPath = repositoryPathResolver.resolve(repository, pomEntry.getArtifactPath());
+        try
+        {
+            return versionCollector.collectPlugin(pomPath);
+        }
+        catch (XmlPullParserException | IOException e)
+        {
+            logger.error("POM file '{}' appears to be corrupt.", pomPath, e);
+
+            return null;
+        }
+    }
+
+    private Set<String> listVersionDirectoryNames(Path artifactBasePath)
+            throws IOException
+    {
+        Set<String> result = new HashSet<>();
+        if (!Files.isDirectory(artifactBasePath))
+        {
+            return result;
+        }
+
+        try (DirectoryStream<Path> ds = Files.newDirectoryStream(artifactBasePath,
+                                                                 new ArtifactVersionDirectoryFilter()))
+        {
+            for (Path versionDirectoryPath : ds)
+            {
+                result.add(versionDirectoryPath.getFileName().toString());
+            }
+        }
+
+        return result;
+    }
+
+}
@@ -0,0 +1,90 @@
+package org.carlspring.strongbox.providers.io;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MavenGroupRepositoryPathFetchExecutorTest
+{
+
+    private static final long TIMEOUT = 500;
+
+    private MavenGroupRepositoryPathFetchExecutor executor;
+
+    @BeforeEach
+    public void setUp()
+    {
+        executor = new MavenGroupRepositoryPathFetchExecutor(4, 10, TIMEOUT);
+        executor.afterPropertiesSet();
+    }
+
+    @AfterEach
+    public void tearDown()
+            throws InterruptedException
+    {
+        executor.destroy();
+    }
+
+    @Test
+    public void latencyShouldBeBoundedByTimeout()
+    {
+        Map<String, Callable<Path>> fetchActions = new LinkedHashMap<>();
+        fetchActions.put("fast", slowRemote(0));
+        fetchActions.put("slow-1", slowRemote(2000));
+        fetchActions.put("slow-2", slowRemote(2000));
+        fetchActions.put("slow-3", slowRemote(2000));
+
+        long start = System.nanoTime();
+        int fetched = executor.fetch(fetchActions);
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // Not the sum of the member delays (6 s), nor the slowest one (2 s).
+        assertThat(elapsed).isLessThan(1500);
+        assertThat(fetched).isEqualTo(1);
+    }
+
+    @Test
+    public void inFlightFetchShouldNotBeRepeated()
+            throws Exception
+    {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        Callable<Path> fetchAction = () -> {
+            calls.incrementAndGet();
+            release.await();
+
+            return Paths.get("maven-metadata.xml");
+        };
+
+        Map<String, Callable<Path>> fetchActions = new LinkedHashMap<>();
+        fetchActions.put("member", fetchAction);
+
+        assertThat(executor.fetch(fetchActions)).isEqualTo(0);
+        assertThat(executor.fetch(fetchActions)).isEqualTo(0);
+        assertThat(calls.get()).isEqualTo(1);
+
+        release.countDown();
+
+        assertThat(executor.fetch(fetchActions)).isEqualTo(1);
+    }
+
+    private Callable<Path> slowRemote(long delay)
+    {
+        return () -> {
+            Thread.sleep(delay);
+
+            return Paths.get("maven-metadata.xml");
+        };
+    }
+
+}
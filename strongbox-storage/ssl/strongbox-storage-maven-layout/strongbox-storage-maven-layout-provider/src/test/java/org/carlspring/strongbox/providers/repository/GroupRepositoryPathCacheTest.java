@@ -0,0 +1,177 @@
+package org.carlspring.strongbox.providers.repository;
+
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.providers.repository.group.GroupRepositoryPathCache;
+import org.carlspring.strongbox.services.ArtifactManagementService;
+import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.storage.repository.remote.RemoteRepository;
+import org.carlspring.strongbox.storage.repository.remote.heartbeat.RemoteRepositoryAlivenessService;
+import org.carlspring.strongbox.testing.repository.MavenRepository;
+import org.carlspring.strongbox.testing.storage.repository.RepositoryManagementTestExecutionListener;
+import org.carlspring.strongbox.testing.storage.repository.TestRepository.Group;
+import org.carlspring.strongbox.testing.storage.repository.TestRepository.Remote;
+
+import javax.inject.Inject;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The group member misses and the member which served a path should be
+ * cached until the path is stored or deleted within a member.
+ */
+public class GroupRepositoryPathCacheTest
+        extends MockedRestArtifactResolverTestBase
+        implements ArtifactResolverContext
+{
+
+    private static final String REPOSITORY_RELEASES_1 = "grpct-releases-1";
+
+    private static final String REPOSITORY_RELEASES_2 = "grpct-releases-2";
+
+    private static final String REPOSITORY_GROUP = "grpct-group";
+
+    private static final String REPOSITORY_RELEASES = "grpct-releases";
+
+    private static final String REPOSITORY_PROXY = "grpct-proxy";
+
+    private static final String REPOSITORY_PROXY_GROUP = "grpct-proxy-group";
+
+    private static final String PROXY_REPOSITORY_URL = "https://repo.maven.apache.org/maven2/";
+
+    private static final int ARTIFACT_SIZE = 1024;
+
+    @Inject
+    private GroupRepositoryProvider groupRepositoryProvider;
+
+    @Inject
+    private GroupRepositoryPathCache groupRepositoryPathCache;
+
+    @Inject
+    private ArtifactManagementService artifactManagementService;
+
+    @Inject
+    private RemoteRepositoryAlivenessService remoteRepositoryAlivenessService;
+
+    @Override
+    public InputStream getInputStream()
+    {
+        return new ByteArrayInputStream(new byte[ARTIFACT_SIZE]);
+    }
+
+    @Override
+    protected ArtifactResolverContext lookupArtifactResolverContext()
+    {
+        return this;
+    }
+
+    @Test
+    @ExtendWith(RepositoryManagementTestExecutionListener.class)
+    public void cacheShouldBeInvalidatedOnStoreAndDelete(@MavenRepository(repositoryId = REPOSITORY_RELEASES_1)
+                                                         Repository releases1,
+                                                         @MavenRepository(repositoryId = REPOSITORY_RELEASES_2)
+                                                         Repository releases2,
+                                                         @Group(repositories = { REPOSITORY_RELEASES_1,
+                                                                                 REPOSITORY_RELEASES_2 })
+                                                         @MavenRepository(repositoryId = REPOSITORY_GROUP)
+                                                         Repository group)
+        throws Exception
+    {
+        String path = "org/carlspring/grpct/cache/1.0/cache-1.0.jar";
+        RepositoryPath groupPath = repositoryPathResolver.resolve(group, path);
+
+        // Missed by both of the members.
+        assertThat(groupRepositoryProvider.fetchPath(groupPath)).isNull();
+        assertThat(groupRepositoryPathCache.isNotFound(releases1, path)).isTrue();
+        assertThat(groupRepositoryPathCache.isNotFound(releases2, path)).isTrue();
+        assertThat(groupRepositoryPathCache.getServedBy(group, path)).isNull();
+
+        // Stored within the second member.
+        RepositoryPath releases2Path = store(releases2, path);
+        assertThat(groupRepositoryPathCache.isNotFound(releases1, path)).isTrue();
+        assertThat(groupRepositoryPathCache.isNotFound(releases2, path)).isFalse();
+
+        assertThat(fetch(groupPath).getRepository().getId()).isEqualTo(REPOSITORY_RELEASES_2);
+        assertThat(groupRepositoryPathCache.getServedBy(group, path)).endsWith(REPOSITORY_RELEASES_2);
+
+        // Stored within the first member, which goes before.
+        RepositoryPath releases1Path = store(releases1, path);
+        assertThat(groupRepositoryPathCache.isNotFound(releases1, path)).isFalse();
+        assertThat(groupRepositoryPathCache.getServedBy(group, path)).isNull();
+
+        assertThat(fetch(groupPath).getRepository().getId()).isEqualTo(REPOSITORY_RELEASES_1);
+        assertThat(groupRepositoryPathCache.getServedBy(group, path)).endsWith(REPOSITORY_RELEASES_1);
+
+        // Deleted within the first member.
+        artifactManagementService.delete(releases1Path, true);
+        assertThat(groupRepositoryPathCache.getServedBy(group, path)).isNull();
+
+        assertThat(fetch(groupPath).getRepository().getId()).isEqualTo(REPOSITORY_RELEASES_2);
+        assertThat(groupRepositoryPathCache.isNotFound(releases1, path)).isTrue();
+        assertThat(groupRepositoryPathCache.getServedBy(group, path)).endsWith(REPOSITORY_RELEASES_2);
+
+        // Deleted within the second member.
+        artifactManagementService.delete(releases2Path, true);
+        assertThat(groupRepositoryPathCache.getServedBy(group, path)).isNull();
+
+        assertThat(groupRepositoryProvider.fetchPath(groupPath)).isNull();
+        assertThat(groupRepositoryPathCache.isNotFound(releases2, path)).isTrue();
+    }
+
+    @Test
+    @ExtendWith(RepositoryManagementTestExecutionListener.class)
+    public void proxyMissShouldNotBeCachedWhileRemoteIsUnavailable(@MavenRepository(repositoryId = REPOSITORY_RELEASES)
+                                                                   Repository releases,
+                                                                   @MavenRepository(repositoryId = REPOSITORY_PROXY)
+                                                                   @Remote(url = PROXY_REPOSITORY_URL)
+                                                                   Repository proxy,
+                                                                   @Group(repositories = { REPOSITORY_RELEASES,
+                                                                                           REPOSITORY_PROXY })
+                                                                   @MavenRepository(repositoryId = REPOSITORY_PROXY_GROUP)
+                                                                   Repository group)
+        throws Exception
+    {
+        String path = "org/carlspring/grpct/proxy/1.0/proxy-1.0.jar";
+        RepositoryPath groupPath = repositoryPathResolver.resolve(group, path);
+
+        Mockito.when(remoteRepositoryAlivenessService.isAlive(ArgumentMatchers.any(RemoteRepository.class)))
+               .thenReturn(Boolean.FALSE);
+
+        assertThat(groupRepositoryProvider.fetchPath(groupPath)).isNull();
+        assertThat(groupRepositoryPathCache.isNotFound(releases, path)).isTrue();
+        assertThat(groupRepositoryPathCache.isNotFound(proxy, path)).isFalse();
+
+        // Fetched once the remote repository is available again.
+        Mockito.when(remoteRepositoryAlivenessService.isAlive(ArgumentMatchers.any(RemoteRepository.class)))
+               .thenReturn(Boolean.TRUE);
+
+        assertThat(fetch(groupPath).getRepository().getId()).isEqualTo(REPOSITORY_PROXY);
+        assertThat(groupRepositoryPathCache.getServedBy(group, path)).endsWith(REPOSITORY_PROXY);
+    }
+
+    private RepositoryPath store(Repository repository,
+                                 String path)
+        throws IOException
+    {
+        RepositoryPath result = repositoryPathResolver.resolve(repository, path);
+        artifactManagementService.store(result, getInputStream());
+
+        return result;
+    }
+
+    private RepositoryPath fetch(RepositoryPath groupPath)
+        throws IOException
+    {
+        RepositoryPath result = groupRepositoryProvider.fetchPath(groupPath);
+        assertThat(result).isNotNull();
+
+        return result;
+    }
+
+}
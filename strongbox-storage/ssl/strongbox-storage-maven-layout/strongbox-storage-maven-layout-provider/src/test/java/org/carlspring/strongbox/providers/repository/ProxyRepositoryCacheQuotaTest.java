@@ -0,0 +1,231 @@
+package org.carlspring.strongbox.providers.repository;
+
+import org.carlspring.strongbox.artifact.ArtifactDownloadStatisticsCollector;
+import org.carlspring.strongbox.domain.ArtifactEntry;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.providers.repository.proxied.LocalStorageProxyRepositoryExpiredArtifactsCleaner;
+import org.carlspring.strongbox.services.ArtifactEntryService;
+import org.carlspring.strongbox.services.ArtifactManagementService;
+import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.storage.repository.RepositoryDto;
+import org.carlspring.strongbox.testing.repository.MavenRepository;
+import org.carlspring.strongbox.testing.storage.repository.RepositoryManagementTestExecutionListener;
+import org.carlspring.strongbox.testing.storage.repository.RepositorySetup;
+import org.carlspring.strongbox.testing.storage.repository.TestRepository.Remote;
+
+import javax.inject.Inject;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The cache quota of the proxy repositories: the size tracking of the cached
+ * artifacts and the eviction of the least recently used ones.
+ */
+public class ProxyRepositoryCacheQuotaTest
+        extends MockedRestArtifactResolverTestBase
+        implements ArtifactResolverContext
+{
+
+    private static final String REPOSITORY_SIZE = "prcqt-size-repository";
+
+    private static final String REPOSITORY_LRU = "prcqt-lru-repository";
+
+    private static final String REPOSITORY_EVICTION = "prcqt-eviction-repository";
+
+    private static final String PROXY_REPOSITORY_URL = "https://repo.maven.apache.org/maven2/";
+
+    private static final int ARTIFACT_SIZE = 1024;
+
+    /**
+     * Two artifacts, so the high-water mark (90% of the quota) is exceeded
+     * until all but one of them are evicted.
+     */
+    private static final long CACHE_QUOTA = 2L * ARTIFACT_SIZE;
+
+    @Inject
+    private ArtifactEntryService artifactEntryService;
+
+    @Inject
+    private ArtifactManagementService artifactManagementService;
+
+    @Inject
+    private ArtifactDownloadStatisticsCollector artifactDownloadStatisticsCollector;
+
+    @Inject
+    private RepositorySizeTracker repositorySizeTracker;
+
+    @Inject
+    private LocalStorageProxyRepositoryExpiredArtifactsCleaner localStorageProxyRepositoryExpiredArtifactsCleaner;
+
+    @Inject
+    private PlatformTransactionManager transactionManager;
+
+    @Override
+    public InputStream getInputStream()
+    {
+        return new ByteArrayInputStream(new byte[ARTIFACT_SIZE]);
+    }
+
+    @Override
+    protected ArtifactResolverContext lookupArtifactResolverContext()
+    {
+        return this;
+    }
+
+    @Test
+    @ExtendWith(RepositoryManagementTestExecutionListener.class)
+    public void sizeShouldBeTrackedOnStoreAndDelete(@MavenRepository(repositoryId = REPOSITORY_SIZE)
+                                                    @Remote(url = PROXY_REPOSITORY_URL)
+                                                    Repository proxyRepository)
+        throws Exception
+    {
+        assertThat(repositorySizeTracker.getSize(proxyRepository)).isEqualTo(0);
+
+        RepositoryPath first = download(proxyRepository, "org/carlspring/prcqt/size/1.0/size-1.0.jar");
+        assertThat(repositorySizeTracker.getSize(proxyRepository)).isEqualTo(ARTIFACT_SIZE);
+
+        download(proxyRepository, "org/carlspring/prcqt/size/1.1/size-1.1.jar");
+        assertThat(repositorySizeTracker.getSize(proxyRepository)).isEqualTo(2L * ARTIFACT_SIZE);
+
+        artifactManagementService.delete(first, true);
+        assertThat(repositorySizeTracker.getSize(proxyRepository)).isEqualTo(ARTIFACT_SIZE);
+
+        assertThat(repositorySizeTracker.getSize(proxyRepository))
+                .isEqualTo(artifactEntryService.sumSizeInBytes(proxyRepository.getStorage().getId(),
+                                                               proxyRepository.getId()));
+    }
+
+    @Test
+    @ExtendWith(RepositoryManagementTestExecutionListener.class)
+    public void leastRecentlyUsedShouldBePagedByLastUsed(@MavenRepository(repositoryId = REPOSITORY_LRU)
+                                                         @Remote(url = PROXY_REPOSITORY_URL)
+                                                         Repository proxyRepository)
+        throws Exception
+    {
+        final String storageId = proxyRepository.getStorage().getId();
+        final String repositoryId = proxyRepository.getId();
+
+        String recent = uuid(download(proxyRepository, "org/carlspring/prcqt/lru/1.0/lru-1.0.jar"));
+        String neverUsed = uuid(download(proxyRepository, "org/carlspring/prcqt/lru/1.1/lru-1.1.jar"));
+        String oldest = uuid(download(proxyRepository, "org/carlspring/prcqt/lru/1.2/lru-1.2.jar"));
+        String sameTimeFirst = uuid(download(proxyRepository, "org/carlspring/prcqt/lru/1.3/lru-1.3.jar"));
+        String sameTimeSecond = uuid(download(proxyRepository, "org/carlspring/prcqt/lru/1.4/lru-1.4.jar"));
+        if (sameTimeFirst.compareTo(sameTimeSecond) > 0)
+        {
+            String uuid = sameTimeFirst;
+            sameTimeFirst = sameTimeSecond;
+            sameTimeSecond = uuid;
+        }
+
+        long now = System.currentTimeMillis();
+        updateLastUsed(recent, new Date(now));
+        updateLastUsed(neverUsed, null);
+        updateLastUsed(oldest, new Date(now - 3000));
+        updateLastUsed(sameTimeFirst, new Date(now - 2000));
+        updateLastUsed(sameTimeSecond, new Date(now - 2000));
+
+        // Pages smaller than the result, so that each of the keyset
+        // conditions is used, including the one after a never used artifact.
+        List<String> paged = new ArrayList<>();
+        ArtifactEntry after = null;
+        List<ArtifactEntry> page;
+        do
+        {
+            page = artifactEntryService.findLeastRecentlyUsed(storageId, repositoryId, after, 2);
+            page.stream().map(ArtifactEntry::getUuid).forEach(paged::add);
+            after = page.isEmpty() ? null : page.get(page.size() - 1);
+        }
+        while (page.size() == 2);
+
+        assertThat(paged).containsExactly(neverUsed, oldest, sameTimeFirst, sameTimeSecond, recent);
+
+        assertThat(artifactEntryService.findLeastRecentlyUsed(storageId, repositoryId, null, 10)
+                                       .stream()
+                                       .map(ArtifactEntry::getUuid)
+                                       .collect(Collectors.toList())).isEqualTo(paged);
+    }
+
+    @Test
+    @ExtendWith(RepositoryManagementTestExecutionListener.class)
+    public void leastRecentlyUsedShouldBeEvictedOverQuota(@MavenRepository(repositoryId = REPOSITORY_EVICTION,
+                                                                           setup = CacheQuotaRepositorySetup.class)
+                                                          @Remote(url = PROXY_REPOSITORY_URL)
+                                                          Repository proxyRepository)
+        throws Exception
+    {
+        RepositoryPath second = download(proxyRepository, "org/carlspring/prcqt/eviction/1.0/eviction-1.0.jar");
+        RepositoryPath newest = download(proxyRepository, "org/carlspring/prcqt/eviction/1.1/eviction-1.1.jar");
+        RepositoryPath oldest = download(proxyRepository, "org/carlspring/prcqt/eviction/1.2/eviction-1.2.jar");
+
+        long now = System.currentTimeMillis();
+        updateLastUsed(uuid(oldest), new Date(now - 2000));
+        updateLastUsed(uuid(second), new Date(now - 1000));
+        updateLastUsed(uuid(newest), new Date(now));
+
+        assertThat(repositorySizeTracker.getSize(proxyRepository)).isGreaterThan(CACHE_QUOTA);
+
+        localStorageProxyRepositoryExpiredArtifactsCleaner.evictOverQuota();
+
+        // Evicted down to the high-water mark, and not any further.
+        assertThat(Files.exists(oldest)).isFalse();
+        assertThat(Files.exists(second)).isFalse();
+        assertThat(Files.exists(newest)).isTrue();
+        assertThat(repositorySizeTracker.getSize(proxyRepository)).isEqualTo(ARTIFACT_SIZE);
+
+        // Under the quota, so nothing else is evicted.
+        localStorageProxyRepositoryExpiredArtifactsCleaner.evictOverQuota();
+
+        assertThat(Files.exists(newest)).isTrue();
+        assertThat(repositorySizeTracker.getSize(proxyRepository)).isEqualTo(ARTIFACT_SIZE);
+    }
+
+    private RepositoryPath download(Repository repository,
+                                    String path)
+        throws Exception
+    {
+        artifactResolutionServiceHelper.assertStreamNotNull(repository.getStorage().getId(),
+                                                            repository.getId(),
+                                                            path);
+        // The download statistics would override the `lastUsed` set by the test.
+        artifactDownloadStatisticsCollector.flush();
+
+        return repositoryPathResolver.resolve(repository, path);
+    }
+
+    private String uuid(RepositoryPath repositoryPath)
+        throws Exception
+    {
+        return repositoryPath.getArtifactEntry().getUuid();
+    }
+
+    private void updateLastUsed(String uuid,
+                                Date lastUsed)
+    {
+        new TransactionTemplate(transactionManager).execute(t -> artifactEntryService.updateDownloadStatistics(uuid,
+                                                                                                               0,
+                                                                                                               lastUsed));
+    }
+
+    public static class CacheQuotaRepositorySetup implements RepositorySetup
+    {
+
+        @Override
+        public void setup(RepositoryDto repository)
+        {
+            repository.getRemoteRepository().setCacheQuotaInBytes(CACHE_QUOTA);
+        }
+
+    }
+
+}
@@ -2,6 +2,7 @@ package org.carlspring.strongbox.services;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import org.carlspring.strongbox.artifact.ArtifactDownloadStatisticsCollector;
 import org.carlspring.strongbox.artifact.ArtifactTag;
 import org.carlspring.strongbox.artifact.MavenArtifact;
 import org.carlspring.strongbox.artifact.MavenArtifactUtils;
@@ -91,6 +92,8 @@ public class ArtifactManagementServiceImplTest
 
     private static final String LAST_VERSION_RELEASES = "last-version-releases";
 
+    private static final String PARALLEL_LAST_VERSION_RELEASES = "parallel-last-version-releases";
+
     @Inject
     private ArtifactManagementService mavenArtifactManagementService;
 
@@ -109,6 +112,9 @@ public class ArtifactManagementServiceImplTest
     @Inject
     private RepositoryPathResolver repositoryPathResolver;
 
+    @Inject
+    private ArtifactDownloadStatisticsCollector artifactDownloadStatisticsCollector;
+
     @ExtendWith({ RepositoryManagementTestExecutionListener.class,
                   ArtifactManagementTestExecutionListener.class })
     @Test
@@ -522,6 +528,8 @@ public class ArtifactManagementServiceImplTest
             assertThat(Long.valueOf(CONTENT_SIZE)).as(message).isEqualTo(resultList.get(i));
         }
 
+        artifactDownloadStatisticsCollector.flush();
+
         RepositoryPath repositoryPathResult = repositoryPathResolver.resolve(repository, path);
         ArtifactEntry artifactEntry = repositoryPathResult.getArtifactEntry();
 
@@ -638,6 +646,63 @@ public class ArtifactManagementServiceImplTest
         assertThat(artifactEntryWithClassifier.getTagSet()).isEmpty();
     }
 
+    @ExtendWith({ RepositoryManagementTestExecutionListener.class })
+    @Test
+    public void testLastVersionManagementWithParallelDeployments(@MavenRepository(repositoryId = PARALLEL_LAST_VERSION_RELEASES)
+                                                                 Repository repository)
+            throws Exception
+    {
+        final String storageId = repository.getStorage().getId();
+        final String repositoryId = repository.getId();
+
+        int versions = 16;
+
+        // store all the versions into one artifact group in parallel
+        List<String> artifactPaths = IntStream.rangeClosed(1, versions)
+                                              .parallel()
+                                              .mapToObj(i -> {
+                                                  String gavtc = String.format("org.carlspring.strongbox:strongbox-plv-artifact:%s.0:jar", i);
+                                                  Artifact artifact = MavenArtifactTestUtils.getArtifactFromGAVTC(gavtc);
+                                                  String artifactPath = MavenArtifactUtils.convertArtifactToPath(artifact);
+
+                                                  try (InputStream is = new ByteArrayInputStream("strongbox-plv-artifact-content".getBytes(StandardCharsets.UTF_8)))
+                                                  {
+                                                      RepositoryPath repositoryPath = repositoryPathResolver.resolve(storageId,
+                                                                                                                     repositoryId,
+                                                                                                                     artifactPath);
+                                                      mavenArtifactManagementService.validateAndStore(repositoryPath, is);
+                                                  }
+                                                  catch (Exception e)
+                                                  {
+                                                      fail(String.format("Failed to store [%s]", artifactPath), e);
+                                                  }
+
+                                                  return artifactPath;
+                                              })
+                                              .collect(Collectors.toList());
+
+        // confirm only the newest version has last-version tag
+        for (int i = 0; i < versions; i++)
+        {
+            ArtifactEntry artifactEntry = artifactEntryService.findOneArtifact(storageId,
+                                                                               repositoryId,
+                                                                               artifactPaths.get(i));
+            assertThat(artifactEntry.getTagSet()).as(artifactPaths.get(i)).hasSize(i == versions - 1 ? 1 : 0);
+        }
+
+        // delete the newest version and confirm the previous one gets last-version tag
+        RepositoryPath lastVersionPath = repositoryPathResolver.resolve(storageId,
+                                                                        repositoryId,
+                                                                        artifactPaths.get(versions - 1));
+        mavenArtifactManagementService.delete(lastVersionPath, true);
+
+        ArtifactEntry artifactEntry = artifactEntryService.findOneArtifact(storageId,
+                                                                           repositoryId,
+                                                                           artifactPaths.get(versions - 2));
+        assertThat(artifactEntry.getTagSet()).hasSize(1);
+        assertThat(artifactEntry.getTagSet().iterator().next().getName()).isEqualTo(ArtifactTag.LAST_VERSION);
+    }
+
     @ExtendWith({ RepositoryManagementTestExecutionListener.class,
                   ArtifactManagementTestExecutionListener.class })
     @Test
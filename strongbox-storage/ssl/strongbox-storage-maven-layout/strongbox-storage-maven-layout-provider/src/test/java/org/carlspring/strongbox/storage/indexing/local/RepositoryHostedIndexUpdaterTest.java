@@ -0,0 +1,243 @@
+package org.carlspring.strongbox.storage.indexing.local;
+
+import org.carlspring.strongbox.config.Maven2LayoutProviderTestConfig;
+import org.carlspring.strongbox.event.artifact.ArtifactEvent;
+import org.carlspring.strongbox.event.artifact.ArtifactEventTypeEnum;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.storage.indexing.BaseRepositoryIndexCreatorTest;
+import org.carlspring.strongbox.storage.indexing.RepositoryIndexCreator;
+import org.carlspring.strongbox.storage.indexing.RepositoryIndexCreator.RepositoryIndexCreatorQualifier;
+import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.storage.repository.RepositoryTypeEnum;
+import org.carlspring.strongbox.testing.MavenIndexedRepositorySetup;
+import org.carlspring.strongbox.testing.artifact.ArtifactManagementTestExecutionListener;
+import org.carlspring.strongbox.testing.artifact.MavenTestArtifact;
+import org.carlspring.strongbox.testing.repository.MavenRepository;
+import org.carlspring.strongbox.testing.storage.repository.RepositoryManagementTestExecutionListener;
+
+import javax.inject.Inject;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import org.apache.lucene.document.Document;
+import org.apache.maven.index.ArtifactInfo;
+import org.apache.maven.index.context.IndexingContext;
+import org.apache.maven.index.updater.IndexDataReader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.parallel.Execution;
+import org.mockito.Mockito;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.parallel.ExecutionMode.CONCURRENT;
+import static org.mockito.ArgumentMatchers.any;
+
+@SpringBootTest
+@ActiveProfiles(profiles = "test")
+@ContextConfiguration(classes = Maven2LayoutProviderTestConfig.class)
+@Execution(CONCURRENT)
+public class RepositoryHostedIndexUpdaterTest
+        extends BaseRepositoryIndexCreatorTest
+{
+
+    private static final String REPOSITORY_RELEASES_0 = "ri-releases-rhiust0";
+    private static final String REPOSITORY_RELEASES_1 = "ri-releases-rhiust1";
+    private static final String REPOSITORY_RELEASES_2 = "ri-releases-rhiust2";
+    private static final String REPOSITORY_RELEASES_3 = "ri-releases-rhiust3";
+    private static final String GROUP_ID = "org.carlspring.strongbox";
+    private static final String ARTIFACT_ID = "strongbox-commons";
+    private static final String ARTIFACT_PATH = "org/carlspring/strongbox/strongbox-commons/1.1/strongbox-commons-1.1.jar";
+    private static final String UINFO_PREFIX = "org.carlspring.strongbox|strongbox-commons|1.1|";
+
+    @Inject
+    @RepositoryIndexCreatorQualifier(RepositoryTypeEnum.HOSTED)
+    private RepositoryIndexCreator repositoryIndexCreator;
+
+    @Inject
+    private RepositoryHostedIndexUpdater repositoryHostedIndexUpdater;
+
+    @Inject
+    private ApplicationContext applicationContext;
+
+    @ExtendWith({ RepositoryManagementTestExecutionListener.class,
+                  ArtifactManagementTestExecutionListener.class })
+    @Test
+    public void updatesShouldBePackedAsIncrementalChunks(@MavenRepository(repositoryId = REPOSITORY_RELEASES_0,
+                                                                          setup = MavenIndexedRepositorySetup.class)
+                                                         Repository repository,
+                                                         @MavenTestArtifact(repositoryId = REPOSITORY_RELEASES_0,
+                                                                            id = GROUP_ID + ":" + ARTIFACT_ID,
+                                                                            versions = { "1.0",
+                                                                                         "1.1" })
+                                                         List<Path> artifactPaths)
+            throws Exception
+    {
+        RepositoryPath indexPath = repositoryIndexCreator.apply(repository);
+
+        assertThat(repositoryHostedIndexUpdater.update(repository,
+                                                       Collections.emptyList(),
+                                                       Collections.singletonList(ARTIFACT_PATH))).isTrue();
+
+        List<Document> deletedChunk = readLastChunk(indexPath);
+        assertThat(deletedChunk).anyMatch(d -> d.get(ArtifactInfo.DELETED) != null &&
+                                               d.get(ArtifactInfo.DELETED).startsWith(UINFO_PREFIX));
+
+        assertThat(repositoryHostedIndexUpdater.update(repository,
+                                                       Collections.singletonList(ARTIFACT_PATH),
+                                                       Collections.emptyList())).isTrue();
+
+        List<Document> storedChunk = readLastChunk(indexPath);
+        assertThat(storedChunk).anyMatch(d -> d.get(ArtifactInfo.UINFO) != null &&
+                                              d.get(ArtifactInfo.UINFO).startsWith(UINFO_PREFIX));
+        assertThat(storedChunk).noneMatch(d -> d.get(ArtifactInfo.DELETED) != null);
+    }
+
+    @ExtendWith({ RepositoryManagementTestExecutionListener.class,
+                  ArtifactManagementTestExecutionListener.class })
+    @Test
+    public void updateShouldBeSkippedBeforeFullRebuild(@MavenRepository(repositoryId = REPOSITORY_RELEASES_1,
+                                                                        setup = MavenIndexedRepositorySetup.class)
+                                                       Repository repository,
+                                                       @MavenTestArtifact(repositoryId = REPOSITORY_RELEASES_1,
+                                                                          id = GROUP_ID + ":" + ARTIFACT_ID,
+                                                                          versions = { "1.0",
+                                                                                       "1.1" })
+                                                       List<Path> artifactPaths)
+            throws Exception
+    {
+        assertThat(repositoryHostedIndexUpdater.update(repository,
+                                                       Collections.singletonList(ARTIFACT_PATH),
+                                                       Collections.emptyList())).isFalse();
+    }
+
+    @ExtendWith({ RepositoryManagementTestExecutionListener.class,
+                  ArtifactManagementTestExecutionListener.class })
+    @Test
+    public void eventsShouldBePackedTogetherOnFlush(@MavenRepository(repositoryId = REPOSITORY_RELEASES_2,
+                                                                     setup = MavenIndexedRepositorySetup.class)
+                                                    Repository repository,
+                                                    @MavenTestArtifact(repositoryId = REPOSITORY_RELEASES_2,
+                                                                       id = GROUP_ID + ":" + ARTIFACT_ID,
+                                                                       versions = { "1.0",
+                                                                                    "1.1" })
+                                                    List<Path> artifactPaths)
+            throws Exception
+    {
+        RepositoryPath indexPath = repositoryIndexCreator.apply(repository);
+        repositoryHostedIndexUpdater.flush();
+
+        String chunk = readChunkCounter(indexPath);
+
+        RepositoryPath artifactPath = repositoryPathResolver.resolve(repository, ARTIFACT_PATH);
+        repositoryHostedIndexUpdater.handle(new ArtifactEvent<>(artifactPath,
+                                                                ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_STORED.getType()));
+        repositoryHostedIndexUpdater.handle(new ArtifactEvent<>(artifactPath,
+                                                                ArtifactEventTypeEnum.EVENT_ARTIFACT_PATH_DELETED.getType()));
+
+        // Nothing is packed until the flush.
+        assertThat(readChunkCounter(indexPath)).isEqualTo(chunk);
+
+        repositoryHostedIndexUpdater.flush();
+
+        assertThat(readChunkCounter(indexPath)).isNotEqualTo(chunk);
+
+        // The latest change of the path wins.
+        List<Document> lastChunk = readLastChunk(indexPath);
+        assertThat(lastChunk).anyMatch(d -> d.get(ArtifactInfo.DELETED) != null &&
+                                            d.get(ArtifactInfo.DELETED).startsWith(UINFO_PREFIX));
+    }
+
+    @ExtendWith({ RepositoryManagementTestExecutionListener.class,
+                  ArtifactManagementTestExecutionListener.class })
+    @Test
+    public void changesShouldBeKeptIfPackingFailed(@MavenRepository(repositoryId = REPOSITORY_RELEASES_3,
+                                                                    setup = MavenIndexedRepositorySetup.class)
+                                                   Repository repository,
+                                                   @MavenTestArtifact(repositoryId = REPOSITORY_RELEASES_3,
+                                                                      id = GROUP_ID + ":" + ARTIFACT_ID,
+                                                                      versions = { "1.0",
+                                                                                   "1.1" })
+                                                   List<Path> artifactPaths)
+            throws Exception
+    {
+        RepositoryPath indexPath = repositoryIndexCreator.apply(repository);
+
+        // Not the shared bean, so that its flush doesn't apply the changes of the other tests.
+        RepositoryHostedIndexUpdater updater = new RepositoryHostedIndexUpdater();
+        applicationContext.getAutowireCapableBeanFactory().autowireBean(updater);
+        updater = Mockito.spy(updater);
+        Mockito.doThrow(new IOException("Packing failed."))
+               .doCallRealMethod()
+               .when(updater)
+               .pack(any(RepositoryPath.class), any(IndexingContext.class));
+
+        String chunk = readChunkCounter(indexPath);
+
+        RepositoryPath artifactPath = repositoryPathResolver.resolve(repository, ARTIFACT_PATH);
+        updater.handle(new ArtifactEvent<>(artifactPath,
+                                           ArtifactEventTypeEnum.EVENT_ARTIFACT_PATH_DELETED.getType()));
+
+        updater.flush();
+
+        assertThat(readChunkCounter(indexPath)).isEqualTo(chunk);
+
+        // Applied again with the next flush.
+        updater.flush();
+
+        assertThat(readChunkCounter(indexPath)).isNotEqualTo(chunk);
+
+        List<Document> lastChunk = readLastChunk(indexPath);
+        assertThat(lastChunk).anyMatch(d -> d.get(ArtifactInfo.DELETED) != null &&
+                                            d.get(ArtifactInfo.DELETED).startsWith(UINFO_PREFIX));
+
+        Mockito.verify(updater, Mockito.times(2)).pack(any(RepositoryPath.class), any(IndexingContext.class));
+    }
+
+    private String readChunkCounter(RepositoryPath indexPath)
+            throws IOException
+    {
+        Properties properties = new Properties();
+        try (InputStream is = Files.newInputStream(indexPath.resolve(IndexingContext.INDEX_FILE_PREFIX +
+                                                                     ".properties")))
+        {
+            properties.load(is);
+        }
+
+        return properties.getProperty(IndexingContext.INDEX_CHUNK_COUNTER);
+    }
+
+    private List<Document> readLastChunk(RepositoryPath indexPath)
+            throws IOException
+    {
+        String chunk = readChunkCounter(indexPath);
+        assertThat(chunk).isNotNull();
+
+        Path chunkPath = indexPath.resolve(IndexingContext.INDEX_FILE_PREFIX + "." + chunk + ".gz");
+        assertThat(chunkPath).matches(Files::exists);
+
+        List<Document> result = new ArrayList<>();
+        try (InputStream is = Files.newInputStream(chunkPath))
+        {
+            IndexDataReader reader = new IndexDataReader(is);
+            reader.readHeader();
+
+            Document document;
+            while ((document = reader.readDocument()) != null)
+            {
+                result.add(document);
+            }
+        }
+
+        return result;
+    }
+
+}
@@ -0,0 +1,206 @@
+package org.carlspring.strongbox.storage.metadata;
+
+import org.carlspring.strongbox.config.Maven2LayoutProviderTestConfig;
+import org.carlspring.strongbox.domain.ArtifactEntry;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.providers.io.RepositoryPathResolver;
+import org.carlspring.strongbox.providers.layout.Maven2LayoutProvider;
+import org.carlspring.strongbox.services.ArtifactEntryService;
+import org.carlspring.strongbox.storage.metadata.maven.versions.MetadataVersion;
+import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.testing.artifact.ArtifactManagementTestExecutionListener;
+import org.carlspring.strongbox.testing.artifact.MavenTestArtifact;
+import org.carlspring.strongbox.testing.repository.MavenRepository;
+import org.carlspring.strongbox.testing.storage.repository.RepositoryManagementTestExecutionListener;
+
+import javax.inject.Inject;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.apache.maven.artifact.repository.metadata.Plugin;
+import org.apache.maven.plugin.descriptor.PluginDescriptor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.parallel.Execution;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.parallel.ExecutionMode.CONCURRENT;
+
+/**
+ * The versions and the plugin information are collected from the stored
+ * {@link ArtifactEntry}-s of the POM-s, and from the POM-s only if they're not
+ * stored.
+ */
+@SpringBootTest
+@ActiveProfiles(profiles = "test")
+@ContextConfiguration(classes = Maven2LayoutProviderTestConfig.class)
+@Execution(CONCURRENT)
+public class ArtifactEntryVersionCollectorTest
+{
+
+    private static final String REPOSITORY_STORED = "aevct-stored-releases";
+
+    private static final String REPOSITORY_NOT_STORED = "aevct-not-stored-releases";
+
+    private static final String REPOSITORY_NOT_IN_SYNC = "aevct-not-in-sync-releases";
+
+    private static final String GROUP_ID = "org.carlspring.strongbox.aevct";
+
+    private static final String ARTIFACT_ID = "aevct-maven-plugin";
+
+    private static final String ARTIFACT_BASE_PATH = "org/carlspring/strongbox/aevct/" + ARTIFACT_ID;
+
+    @Inject
+    private ArtifactEntryVersionCollector artifactEntryVersionCollector;
+
+    @Inject
+    private ArtifactEntryService artifactEntryService;
+
+    @Inject
+    private RepositoryPathResolver repositoryPathResolver;
+
+    @Inject
+    private Maven2LayoutProvider maven2LayoutProvider;
+
+    @ExtendWith({ RepositoryManagementTestExecutionListener.class,
+                  ArtifactManagementTestExecutionListener.class })
+    @Test
+    public void pluginShouldBeCollectedFromArtifactEntry(@MavenRepository(repositoryId = REPOSITORY_STORED)
+                                                         Repository repository,
+                                                         @MavenTestArtifact(repositoryId = REPOSITORY_STORED,
+                                                                            id = GROUP_ID + ":" + ARTIFACT_ID,
+                                                                            versions = { "1.0", "1.1" },
+                                                                            packaging = "maven-plugin")
+                                                         List<Path> artifactPaths)
+            throws Exception
+    {
+        RepositoryPath pomPath = resolvePom(repository, "1.1");
+        assertThat(maven2LayoutProvider.readArtifactAttributes(pomPath))
+                .containsEntry(Maven2LayoutProvider.PACKAGING_ATTRIBUTE, "maven-plugin");
+        assertThat(maven2LayoutProvider.readArtifactAttributes(pomPath.resolveSibling(ARTIFACT_ID + "-1.1.jar")))
+                .isEmpty();
+
+        awaitArtifactAttributes(repository, "1.1");
+
+        // Not in the POM, so it can only be collected from the artifact entry.
+        ArtifactEntry pomEntry = findPomEntry(repository, "1.1");
+        pomEntry.getArtifactAttributes().put(Maven2LayoutProvider.NAME_ATTRIBUTE, "Stored Plugin Name");
+        artifactEntryService.save(pomEntry);
+
+        VersionCollectionRequest request = collectVersions(repository);
+
+        assertThat(versions(request)).containsExactly("1.0", "1.1");
+        assertThat(request.getPlugins()).hasSize(1);
+        assertThat(request.getPlugins().get(0).getName()).isEqualTo("Stored Plugin Name");
+        assertThat(request.getPlugins().get(0).getArtifactId()).isEqualTo(ARTIFACT_ID);
+        assertThat(request.getPlugins().get(0).getPrefix())
+                .isEqualTo(PluginDescriptor.getGoalPrefixFromArtifactId(ARTIFACT_ID));
+    }
+
+    @ExtendWith({ RepositoryManagementTestExecutionListener.class,
+                  ArtifactManagementTestExecutionListener.class })
+    @Test
+    public void pluginShouldBeCollectedFromPomIfNotStored(@MavenRepository(repositoryId = REPOSITORY_NOT_STORED)
+                                                          Repository repository,
+                                                          @MavenTestArtifact(repositoryId = REPOSITORY_NOT_STORED,
+                                                                             id = GROUP_ID + ":" + ARTIFACT_ID,
+                                                                             versions = { "1.0", "1.1" },
+                                                                             packaging = "maven-plugin")
+                                                          List<Path> artifactPaths)
+            throws Exception
+    {
+        awaitArtifactAttributes(repository, "1.1");
+
+        // Stored before the packaging was.
+        ArtifactEntry pomEntry = findPomEntry(repository, "1.1");
+        pomEntry.getArtifactAttributes().clear();
+        artifactEntryService.save(pomEntry);
+
+        VersionCollectionRequest request = collectVersions(repository);
+
+        assertThat(versions(request)).containsExactly("1.0", "1.1");
+        assertThat(request.getPlugins()).hasSize(1);
+        assertPluginCollectedFromPom(request.getPlugins().get(0));
+    }
+
+    @ExtendWith({ RepositoryManagementTestExecutionListener.class,
+                  ArtifactManagementTestExecutionListener.class })
+    @Test
+    public void versionsShouldBeCollectedFromPomsIfNotInSync(@MavenRepository(repositoryId = REPOSITORY_NOT_IN_SYNC)
+                                                             Repository repository,
+                                                             @MavenTestArtifact(repositoryId = REPOSITORY_NOT_IN_SYNC,
+                                                                                id = GROUP_ID + ":" + ARTIFACT_ID,
+                                                                                versions = { "1.0", "1.1" },
+                                                                                packaging = "maven-plugin")
+                                                             List<Path> artifactPaths)
+            throws Exception
+    {
+        awaitArtifactAttributes(repository, "1.1");
+
+        // The version directory is there, as if it was copied into the storage directly.
+        artifactEntryService.delete(findPomEntry(repository, "1.0"));
+
+        VersionCollectionRequest request = collectVersions(repository);
+
+        assertThat(versions(request)).containsExactly("1.0", "1.1");
+        assertThat(request.getPlugins()).isNotEmpty();
+        request.getPlugins().forEach(this::assertPluginCollectedFromPom);
+    }
+
+    private void assertPluginCollectedFromPom(Plugin plugin)
+    {
+        // The generated POM-s have no name.
+        assertThat(plugin.getName()).isEqualTo(ARTIFACT_ID);
+        assertThat(plugin.getArtifactId()).isEqualTo(ARTIFACT_ID);
+        assertThat(plugin.getPrefix()).isEqualTo(PluginDescriptor.getGoalPrefixFromArtifactId(ARTIFACT_ID));
+    }
+
+    private VersionCollectionRequest collectVersions(Repository repository)
+            throws Exception
+    {
+        return artifactEntryVersionCollector.collectVersions(repositoryPathResolver.resolve(repository,
+                                                                                           ARTIFACT_BASE_PATH));
+    }
+
+    private List<String> versions(VersionCollectionRequest request)
+    {
+        return request.getMetadataVersions()
+                      .stream()
+                      .map(MetadataVersion::getVersion)
+                      .collect(Collectors.toList());
+    }
+
+    private void awaitArtifactAttributes(Repository repository,
+                                         String version)
+    {
+        // The packaging is stored asynchronously, once the POM is stored.
+        await().atMost(10, TimeUnit.SECONDS)
+               .until(() -> findPomEntry(repository, version).getArtifactAttributes()
+                                                             .containsKey(Maven2LayoutProvider.PACKAGING_ATTRIBUTE));
+    }
+
+    private ArtifactEntry findPomEntry(Repository repository,
+                                       String version)
+    {
+        return artifactEntryService.findOneArtifact(repository.getStorage().getId(),
+                                                    repository.getId(),
+                                                    getPomPath(version));
+    }
+
+    private RepositoryPath resolvePom(Repository repository,
+                                      String version)
+    {
+        return repositoryPathResolver.resolve(repository, getPomPath(version));
+    }
+
+    private String getPomPath(String version)
+    {
+        return String.format("%s/%s/%s-%s.pom", ARTIFACT_BASE_PATH, version, ARTIFACT_ID, version);
+    }
+
+}
@@ -6,6 +6,7 @@ import org.carlspring.strongbox.storage.metadata.nuget.NugetFormatException;
 import org.carlspring.strongbox.storage.metadata.nuget.Nupkg;
 import org.carlspring.strongbox.storage.metadata.nuget.Nuspec;
 import org.carlspring.strongbox.storage.metadata.nuget.Nuspec.Metadata;
+import org.carlspring.strongbox.storage.metadata.nuget.NuspecAttributes;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -15,6 +16,7 @@ import java.util.*;
 
 import javax.xml.bind.DatatypeConverter;
 
+import org.apache.commons.codec.digest.MessageDigestAlgorithms;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.util.Assert;
@@ -64,6 +66,13 @@ public class PathNupkg implements Nupkg
         throws IOException,
         UnsupportedEncodingException
     {
+        // Calculated when the package was stored.
+        String storedHash = path.getArtifactEntry().getChecksums().get(MessageDigestAlgorithms.SHA_512);
+        if (storedHash != null)
+        {
+            return storedHash;
+        }
+
         Map<String, RepositoryPath> checksumPathMap = path.getFileSystem().provider().resolveChecksumPathMap(path);
         if (checksumPathMap.isEmpty())
         {
@@ -96,8 +105,17 @@ public class PathNupkg implements Nupkg
     }
 
     private Nuspec createNuspecFile()
-        throws NugetFormatException
+        throws NugetFormatException,
+        IOException
     {
+        // Read from the package when it was stored, see `NugetLayoutProvider#readArtifactAttributes()`.
+        Map<String, String> artifactAttributes = path.getArtifactEntry().getArtifactAttributes();
+        if (NuspecAttributes.isStored(artifactAttributes))
+        {
+            return NuspecAttributes.toNuspec(artifactAttributes);
+        }
+
+        // Stored before the `.nuspec` fields were.
         RepositoryPath nuspecPath = path.resolveSibling(artifactCoordinates.getId() + ".nuspec");
         if (!Files.exists(nuspecPath))
         {
@@ -1,8 +1,12 @@
 package org.carlspring.strongbox.providers.layout;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.Base64;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -16,6 +20,10 @@ import org.carlspring.strongbox.providers.io.RepositoryFiles;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
 import org.carlspring.strongbox.repository.NugetRepositoryFeatures;
 import org.carlspring.strongbox.repository.NugetRepositoryManagementStrategy;
+import org.carlspring.strongbox.storage.metadata.nuget.NugetFormatException;
+import org.carlspring.strongbox.storage.metadata.nuget.Nuspec;
+import org.carlspring.strongbox.storage.metadata.nuget.NuspecAttributes;
+import org.carlspring.strongbox.storage.metadata.nuget.TempNupkgFile;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -67,6 +75,37 @@ public class NugetLayoutProvider
         return path.getFileName().toString().endsWith(".nuspec");
     }
 
+    /**
+     * Reads the `.nuspec` out of the `.nupkg`, so that the feed entries are
+     * built from the artifact entries without reading the package files, see
+     * {@link NuspecAttributes}.
+     */
+    @Override
+    public Map<String, String> readArtifactAttributes(RepositoryPath repositoryPath)
+    {
+        if (!repositoryPath.getFileName().toString().endsWith(".nupkg"))
+        {
+            return Collections.emptyMap();
+        }
+
+        try (InputStream is = Files.newInputStream(repositoryPath))
+        {
+            Nuspec nuspec = TempNupkgFile.loadNuspec(is);
+            if (nuspec == null)
+            {
+                return Collections.emptyMap();
+            }
+
+            return NuspecAttributes.of(nuspec);
+        }
+        catch (IOException | NugetFormatException e)
+        {
+            logger.warn("Unable to read .nuspec of [{}]", repositoryPath, e);
+
+            return Collections.emptyMap();
+        }
+    }
+
     protected String toBase64(byte[] digest)
     {
         byte[] encoded = Base64.getEncoder()
@@ -0,0 +1,198 @@
+package org.carlspring.strongbox.storage.metadata.nuget;
+
+import org.carlspring.strongbox.artifact.coordinates.versioning.SemanticVersion;
+import org.carlspring.strongbox.storage.metadata.nuget.Nuspec.Metadata;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * The `.nuspec` fields, which the feed entries are rendered from, as the
+ * attributes of the `.nupkg` artifact entry, so that the feed entries are built
+ * without parsing the `.nuspec` XML.
+ */
+public final class NuspecAttributes
+{
+
+    public static final String ID = "nuspec.id";
+
+    public static final String VERSION = "nuspec.version";
+
+    public static final String TITLE = "nuspec.title";
+
+    public static final String AUTHORS = "nuspec.authors";
+
+    public static final String OWNERS = "nuspec.owners";
+
+    public static final String DESCRIPTION = "nuspec.description";
+
+    public static final String SUMMARY = "nuspec.summary";
+
+    public static final String RELEASE_NOTES = "nuspec.releaseNotes";
+
+    public static final String COPYRIGHT = "nuspec.copyright";
+
+    public static final String LANGUAGE = "nuspec.language";
+
+    public static final String ICON_URL = "nuspec.iconUrl";
+
+    public static final String LICENSE_URL = "nuspec.licenseUrl";
+
+    public static final String PROJECT_URL = "nuspec.projectUrl";
+
+    public static final String PROJECT_SOURCE_URL = "nuspec.projectSourceUrl";
+
+    public static final String PACKAGE_SOURCE_URL = "nuspec.packageSourceUrl";
+
+    public static final String DOCS_URL = "nuspec.docsUrl";
+
+    public static final String MAILING_LIST_URL = "nuspec.mailingListUrl";
+
+    public static final String BUG_TRACKER_URL = "nuspec.bugTrackerUrl";
+
+    public static final String REQUIRE_LICENSE_ACCEPTANCE = "nuspec.requireLicenseAcceptance";
+
+    /**
+     * Space separated, like within the `.nuspec`.
+     */
+    public static final String TAGS = "nuspec.tags";
+
+    /**
+     * The RSS form of the dependencies (`id:versionRange:framework`), see
+     * {@link Dependency#toString()}, separated with `|`, as the version ranges
+     * have commas.
+     */
+    public static final String DEPENDENCIES = "nuspec.dependencies";
+
+    private static final String DEPENDENCIES_SEPARATOR = "|";
+
+    private NuspecAttributes()
+    {
+    }
+
+    public static Map<String, String> of(Nuspec nuspec)
+    {
+        Metadata metadata = nuspec.getMetadata();
+
+        Map<String, String> result = new HashMap<>();
+        put(result, ID, metadata.id);
+        put(result, VERSION, metadata.version != null ? metadata.version.toString() : null);
+        put(result, TITLE, metadata.title);
+        put(result, AUTHORS, metadata.authors);
+        put(result, OWNERS, metadata.owners);
+        put(result, DESCRIPTION, metadata.description);
+        put(result, SUMMARY, metadata.summary);
+        put(result, RELEASE_NOTES, metadata.releaseNotes);
+        put(result, COPYRIGHT, metadata.copyright);
+        put(result, LANGUAGE, metadata.language);
+        put(result, ICON_URL, metadata.iconUrl);
+        put(result, LICENSE_URL, metadata.licenseUrl);
+        put(result, PROJECT_URL, metadata.projectUrl);
+        put(result, PROJECT_SOURCE_URL, metadata.projectSourceUrl);
+        put(result, PACKAGE_SOURCE_URL, metadata.packageSourceUrl);
+        put(result, DOCS_URL, metadata.docsUrl);
+        put(result, MAILING_LIST_URL, metadata.mailingListUrl);
+        put(result, BUG_TRACKER_URL, metadata.bugTrackerUrl);
+        put(result, REQUIRE_LICENSE_ACCEPTANCE, String.valueOf(nuspec.isRequireLicenseAcceptance()));
+        put(result, TAGS, String.join(" ", nuspec.getTags()));
+        put(result, DEPENDENCIES, nuspec.getDependencies()
+                                        .stream()
+                                        .map(NuspecAttributes::toString)
+                                        .collect(Collectors.joining(DEPENDENCIES_SEPARATOR)));
+
+        return result;
+    }
+
+    /**
+     * @return `true` if the `.nuspec` fields were stored with the artifact entry
+     */
+    public static boolean isStored(Map<String, String> artifactAttributes)
+    {
+        return artifactAttributes.containsKey(ID) && artifactAttributes.containsKey(VERSION);
+    }
+
+    public static Nuspec toNuspec(Map<String, String> artifactAttributes)
+        throws NugetFormatException
+    {
+        Nuspec result = new Nuspec();
+
+        Metadata metadata = result.getMetadata();
+        metadata.id = artifactAttributes.get(ID);
+        metadata.version = SemanticVersion.parse(artifactAttributes.get(VERSION));
+        metadata.title = artifactAttributes.get(TITLE);
+        metadata.authors = artifactAttributes.get(AUTHORS);
+        metadata.owners = artifactAttributes.get(OWNERS);
+        metadata.description = artifactAttributes.get(DESCRIPTION);
+        metadata.summary = artifactAttributes.get(SUMMARY);
+        metadata.releaseNotes = artifactAttributes.get(RELEASE_NOTES);
+        metadata.copyright = artifactAttributes.get(COPYRIGHT);
+        metadata.language = artifactAttributes.get(LANGUAGE);
+        metadata.iconUrl = artifactAttributes.get(ICON_URL);
+        metadata.licenseUrl = artifactAttributes.get(LICENSE_URL);
+        metadata.projectUrl = artifactAttributes.get(PROJECT_URL);
+        metadata.projectSourceUrl = artifactAttributes.get(PROJECT_SOURCE_URL);
+        metadata.packageSourceUrl = artifactAttributes.get(PACKAGE_SOURCE_URL);
+        metadata.docsUrl = artifactAttributes.get(DOCS_URL);
+        metadata.mailingListUrl = artifactAttributes.get(MAILING_LIST_URL);
+        metadata.bugTrackerUrl = artifactAttributes.get(BUG_TRACKER_URL);
+        metadata.requireLicenseAcceptance = Boolean.valueOf(artifactAttributes.get(REQUIRE_LICENSE_ACCEPTANCE));
+
+        String tags = artifactAttributes.get(TAGS);
+        if (tags != null)
+        {
+            metadata.tags = new ArrayList<>(Arrays.asList(tags.split(" ")));
+        }
+
+        String dependencies = artifactAttributes.get(DEPENDENCIES);
+        if (dependencies != null)
+        {
+            List<Dependency> dependencyList = new ArrayList<>();
+            for (String dependency : dependencies.split(Pattern.quote(DEPENDENCIES_SEPARATOR)))
+            {
+                Dependency parsed = Dependency.parseString(dependency);
+                if (parsed != null)
+                {
+                    dependencyList.add(parsed);
+                }
+            }
+            metadata.dependencies = new Dependencies(dependencyList, null);
+        }
+
+        return result;
+    }
+
+    private static String toString(Dependency dependency)
+    {
+        // Same as `Dependency#toString()`, but without a version range it's any
+        // version, see `VersionRange#parse()`.
+        StringBuilder builder = new StringBuilder(128);
+        builder.append(dependency.getId());
+        builder.append(":");
+        if (dependency.versionRange != null)
+        {
+            builder.append(dependency.versionRange);
+        }
+        if (dependency.framework != null)
+        {
+            builder.append(":");
+            builder.append(dependency.framework.name());
+        }
+        return builder.toString();
+    }
+
+    private static void put(Map<String, String> attributes,
+                            String name,
+                            String value)
+    {
+        if (value != null && !value.isEmpty())
+        {
+            attributes.put(name, value);
+        }
+    }
+
+}
@@ -0,0 +1,140 @@
+package org.carlspring.strongbox.artifact.coordinates;
+
+import org.carlspring.strongbox.config.NugetLayoutProviderTestConfig;
+import org.carlspring.strongbox.domain.ArtifactEntry;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.providers.io.RepositoryPathResolver;
+import org.carlspring.strongbox.providers.layout.NugetLayoutProvider;
+import org.carlspring.strongbox.services.ArtifactEntryService;
+import org.carlspring.strongbox.storage.metadata.nuget.NuspecAttributes;
+import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.testing.artifact.ArtifactManagementTestExecutionListener;
+import org.carlspring.strongbox.testing.artifact.NugetTestArtifact;
+import org.carlspring.strongbox.testing.repository.NugetRepository;
+import org.carlspring.strongbox.testing.storage.repository.RepositoryManagementTestExecutionListener;
+
+import javax.inject.Inject;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.parallel.Execution;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.parallel.ExecutionMode.CONCURRENT;
+
+/**
+ * The package metadata of the feed entries is read from the stored
+ * {@link ArtifactEntry}, and from the package files only if it's not stored.
+ */
+@SpringBootTest
+@ActiveProfiles(profiles = "test")
+@ContextConfiguration(classes = NugetLayoutProviderTestConfig.class)
+@Execution(CONCURRENT)
+public class PathNupkgTest
+{
+
+    private static final String REPOSITORY_STORED = "pnt-stored-releases";
+
+    private static final String REPOSITORY_FALLBACK = "pnt-fallback-releases";
+
+    private static final String PACKAGE_ID = "pnt.metadata.package";
+
+    private static final String PACKAGE_VERSION = "1.0.0";
+
+    @Inject
+    private RepositoryPathResolver repositoryPathResolver;
+
+    @Inject
+    private NugetLayoutProvider nugetLayoutProvider;
+
+    @Inject
+    private ArtifactEntryService artifactEntryService;
+
+    @ExtendWith({ RepositoryManagementTestExecutionListener.class,
+                  ArtifactManagementTestExecutionListener.class })
+    @Test
+    public void packageMetadataShouldBeReadFromArtifactEntry(@NugetRepository(repositoryId = REPOSITORY_STORED)
+                                                             Repository repository,
+                                                             @NugetTestArtifact(repositoryId = REPOSITORY_STORED,
+                                                                                id = PACKAGE_ID,
+                                                                                versions = PACKAGE_VERSION)
+                                                             Path packagePath)
+            throws Exception
+    {
+        RepositoryPath repositoryPath = resolvePackage(repository);
+
+        Map<String, String> artifactAttributes = nugetLayoutProvider.readArtifactAttributes(repositoryPath);
+        assertThat(artifactAttributes).containsEntry(NuspecAttributes.ID, PACKAGE_ID)
+                                      .containsEntry(NuspecAttributes.VERSION, PACKAGE_VERSION);
+        assertThat(nugetLayoutProvider.readArtifactAttributes(repositoryPath.resolveSibling(PACKAGE_ID + ".nuspec")))
+                .isEmpty();
+
+        awaitArtifactAttributes(repository);
+
+        String expectedHash = Files.readAllLines(repositoryPath.resolveSibling(repositoryPath.getFileName() + ".sha512"))
+                                   .get(0);
+
+        // Neither of the package files is read anymore.
+        Files.delete(repositoryPath.resolveSibling(PACKAGE_ID + ".nuspec"));
+
+        PathNupkg nupkg = new PathNupkg(resolvePackage(repository));
+
+        assertThat(nupkg.getNuspec().getId()).isEqualTo(PACKAGE_ID);
+        assertThat(nupkg.getNuspec().getVersion().toString()).isEqualTo(PACKAGE_VERSION);
+        assertThat(nupkg.getHash()).isEqualTo(expectedHash);
+    }
+
+    @ExtendWith({ RepositoryManagementTestExecutionListener.class,
+                  ArtifactManagementTestExecutionListener.class })
+    @Test
+    public void packageMetadataShouldBeReadFromPackageFilesIfNotStored(@NugetRepository(repositoryId = REPOSITORY_FALLBACK)
+                                                                       Repository repository,
+                                                                       @NugetTestArtifact(repositoryId = REPOSITORY_FALLBACK,
+                                                                                          id = PACKAGE_ID,
+                                                                                          versions = PACKAGE_VERSION)
+                                                                       Path packagePath)
+            throws Exception
+    {
+        awaitArtifactAttributes(repository);
+
+        // Stored before the package metadata was.
+        ArtifactEntry artifactEntry = findArtifactEntry(repository);
+        artifactEntry.getArtifactAttributes().clear();
+        artifactEntryService.save(artifactEntry);
+
+        PathNupkg nupkg = new PathNupkg(resolvePackage(repository));
+
+        assertThat(nupkg.getNuspec().getId()).isEqualTo(PACKAGE_ID);
+        assertThat(nupkg.getNuspec().getVersion().toString()).isEqualTo(PACKAGE_VERSION);
+        assertThat(nupkg.getHash()).isNotEmpty();
+    }
+
+    private void awaitArtifactAttributes(Repository repository)
+    {
+        // The package metadata is stored asynchronously, once the package is stored.
+        await().atMost(10, TimeUnit.SECONDS)
+               .until(() -> findArtifactEntry(repository).getArtifactAttributes()
+                                                         .containsKey(NuspecAttributes.ID));
+    }
+
+    private ArtifactEntry findArtifactEntry(Repository repository)
+    {
+        return artifactEntryService.findOneArtifact(repository.getStorage().getId(),
+                                                    repository.getId(),
+                                                    new NugetArtifactCoordinates(PACKAGE_ID, PACKAGE_VERSION).toPath());
+    }
+
+    private RepositoryPath resolvePackage(Repository repository)
+    {
+        return repositoryPathResolver.resolve(repository,
+                                              new NugetArtifactCoordinates(PACKAGE_ID, PACKAGE_VERSION).toPath());
+    }
+
+}
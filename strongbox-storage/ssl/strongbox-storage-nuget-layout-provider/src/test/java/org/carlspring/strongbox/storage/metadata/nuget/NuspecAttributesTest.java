@@ -0,0 +1,76 @@
+package org.carlspring.strongbox.storage.metadata.nuget;
+
+import org.carlspring.strongbox.artifact.coordinates.versioning.SemanticVersion;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.parallel.ExecutionMode.CONCURRENT;
+
+@Execution(CONCURRENT)
+public class NuspecAttributesTest
+{
+
+    @Test
+    public void testRoundTrip()
+        throws Exception
+    {
+        // GIVEN
+        Nuspec nuspec = Nuspec.parse(NugetTestResourceUtil.getAsStream("nuspec/NHibernate.nuspec.xml"));
+
+        // WHEN
+        Map<String, String> attributes = NuspecAttributes.of(nuspec);
+        Nuspec result = NuspecAttributes.toNuspec(attributes);
+
+        // THEN
+        assertThat(NuspecAttributes.isStored(attributes)).isTrue();
+        assertThat(result.getId()).as("Package ID").isEqualTo("NHibernate");
+        assertThat(result.getVersion()).as("Package Version").isEqualTo(SemanticVersion.parse("3.2.0.4000"));
+        assertThat(result.getTitle()).as("Title").isEqualTo(nuspec.getTitle());
+        assertThat(result.getAuthors()).as("Authors").isEqualTo(nuspec.getAuthors());
+        assertThat(result.getOwners()).as("Owners").isEqualTo(nuspec.getOwners());
+        assertThat(result.getDescription()).as("Description").isEqualTo(nuspec.getDescription());
+        assertThat(result.getSummary()).as("Short Description").isEqualTo(nuspec.getSummary());
+        assertThat(result.isRequireLicenseAcceptance()).as("License Verification Required").isFalse();
+        assertThat(result.getTags()).as("Tags").containsExactly("ORM", "DataBase", "DAL", "ObjectRelationalMapping");
+        assertThat(result.getDependencies()).as("Dependencies").isEqualTo(nuspec.getDependencies());
+    }
+
+    @Test
+    public void testRoundTripWithDependencyRanges()
+        throws Exception
+    {
+        // GIVEN
+        Nuspec nuspec = Nuspec.parse(NugetTestResourceUtil.getAsStream("nuspec/group.dependencies.nuspec.xml"));
+
+        Dependency rangeDependency = new Dependency();
+        rangeDependency.setId("NLog");
+        rangeDependency.versionRange = VersionRange.parse("[1.0,2.0)");
+
+        List<Dependency> dependencies = new ArrayList<>(nuspec.getDependencies());
+        dependencies.add(rangeDependency);
+        nuspec.getMetadata().dependencies = new Dependencies(dependencies, null);
+
+        // WHEN
+        Nuspec result = NuspecAttributes.toNuspec(NuspecAttributes.of(nuspec));
+
+        // THEN
+        assertThat(result.getDependencies()).as("Dependencies")
+                                            .hasSize(4)
+                                            .isEqualTo(dependencies);
+        assertThat(result.getDependencies().get(3).versionRange).isEqualTo(VersionRange.parse("[1.0,2.0)"));
+    }
+
+    @Test
+    public void testNotStored()
+    {
+        assertThat(NuspecAttributes.isStored(Collections.emptyMap())).isFalse();
+        assertThat(NuspecAttributes.isStored(Collections.singletonMap(NuspecAttributes.ID, "NUnit"))).isFalse();
+    }
+
+}
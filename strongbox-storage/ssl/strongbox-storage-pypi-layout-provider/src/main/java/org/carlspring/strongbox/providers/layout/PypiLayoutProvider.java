@@ -32,6 +32,13 @@ public class PypiLayoutProvider
 
     public static final String ALIAS = PypiArtifactCoordinates.LAYOUT_NAME;
 
+    /**
+     * The file name of the materialized PEP 503 simple index pages, which are
+     * stored as `{distribution}/index.html` for the projects and as
+     * `index.html` for the repository root.
+     */
+    public static final String SIMPLE_INDEX_FILE_NAME = "index.html";
+
     @Inject
     private PypiRepositoryManagementStrategy pypiRepositoryManagementStrategy;
 
@@ -59,8 +66,12 @@ public class PypiLayoutProvider
 
     public boolean isMetadata(RepositoryPath path)
     {
-        // TODO: Fix
-        return false;
+        return isSimpleIndex(path);
+    }
+
+    public static boolean isSimpleIndex(RepositoryPath path)
+    {
+        return path.getFileName() != null && SIMPLE_INDEX_FILE_NAME.equals(path.getFileName().toString());
     }
     
     @Override
@@ -0,0 +1,209 @@
+package org.carlspring.strongbox.artifact;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.inject.Inject;
+
+import org.carlspring.strongbox.domain.ArtifactEntry;
+import org.carlspring.strongbox.services.ArtifactEntryService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+
+/**
+ * Aggregates {@link ArtifactEntry} download statistics in memory and writes
+ * them behind in bulk, so that artifact downloads don't need a DB transaction
+ * each.
+ * <br>
+ * Statistics are flushed every
+ * `strongbox.artifact.downloadStatistics.flushIntervalSeconds`, once there are
+ * `strongbox.artifact.downloadStatistics.maxPendingEntries` artifacts pending,
+ * and on shutdown.
+ */
+@Component
+public class ArtifactDownloadStatisticsCollector
+        implements InitializingBean, DisposableBean
+{
+
+    private static final Logger logger = LoggerFactory.getLogger(ArtifactDownloadStatisticsCollector.class);
+
+    private final Map<String, DownloadStatistics> pending = new ConcurrentHashMap<>();
+
+    @Inject
+    private ArtifactEntryService artifactEntryService;
+
+    @Inject
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${strongbox.artifact.downloadStatistics.flushIntervalSeconds:10}")
+    private int flushIntervalSeconds;
+
+    @Value("${strongbox.artifact.downloadStatistics.maxPendingEntries:10000}")
+    private int maxPendingEntries;
+
+    @Value("${strongbox.artifact.downloadStatistics.batchSize:500}")
+    private int batchSize;
+
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+    private ScheduledExecutorService executor;
+
+    @Override
+    public void afterPropertiesSet()
+    {
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "artifact-download-statistics");
+            thread.setDaemon(true);
+
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::flush, flushIntervalSeconds, flushIntervalSeconds, TimeUnit.SECONDS);
+
+        Gauge.builder("strongbox.artifact.download.statistics.pending", pending, Map::size)
+             .description("Number of artifacts with download statistics not yet flushed")
+             .register(Metrics.globalRegistry);
+        Gauge.builder("strongbox.artifact.download.statistics.lag", this, c -> c.getFlushLagMillis())
+             .description("Age in milliseconds of the oldest download statistics not yet flushed")
+             .baseUnit("milliseconds")
+             .register(Metrics.globalRegistry);
+    }
+
+    @Override
+    public void destroy()
+    {
+        executor.shutdown();
+        try
+        {
+            executor.awaitTermination(flushIntervalSeconds, TimeUnit.SECONDS);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+
+        flush();
+    }
+
+    public void recordDownload(String uuid,
+                               long timestamp)
+    {
+        pending.compute(uuid, (k,
+                               s) -> (s == null ? new DownloadStatistics(timestamp) : s).add(timestamp));
+
+        if (pending.size() >= maxPendingEntries && !executor.isShutdown() && flushRequested.compareAndSet(false, true))
+        {
+            executor.execute(this::flush);
+        }
+    }
+
+    public long getFlushLagMillis()
+    {
+        OptionalLong firstRecorded = pending.values().stream().mapToLong(s -> s.firstRecorded).min();
+
+        return firstRecorded.isPresent() ? System.currentTimeMillis() - firstRecorded.getAsLong() : 0L;
+    }
+
+    /**
+     * Writes all the pending statistics into DB, in batches of
+     * `strongbox.artifact.downloadStatistics.batchSize` entries per
+     * transaction.
+     */
+    public synchronized void flush()
+    {
+        flushRequested.set(false);
+
+        List<String> uuids = new ArrayList<>(pending.keySet());
+        for (int i = 0; i < uuids.size(); i += batchSize)
+        {
+            Map<String, DownloadStatistics> batch = new HashMap<>();
+            for (String uuid : uuids.subList(i, Math.min(i + batchSize, uuids.size())))
+            {
+                // `remove()` and `compute()` are atomic for the same key, so no downloads are lost here.
+                DownloadStatistics s = pending.remove(uuid);
+                if (s != null)
+                {
+                    batch.put(uuid, s);
+                }
+            }
+
+            try
+            {
+                new TransactionTemplate(transactionManager).execute(t -> {
+                    batch.forEach((uuid,
+                                   s) -> artifactEntryService.updateDownloadStatistics(uuid,
+                                                                                       s.downloadCount,
+                                                                                       new Date(s.lastUsed)));
+                    return null;
+                });
+            }
+            catch (Exception e)
+            {
+                logger.error("Failed to flush download statistics of [{}] artifacts, will retry.", batch.size(), e);
+
+                // Put the statistics back to be flushed next time.
+                batch.forEach((uuid,
+                               s) -> pending.merge(uuid, s, DownloadStatistics::merge));
+
+                return;
+            }
+
+            logger.debug("Flushed download statistics of [{}] artifacts.", batch.size());
+        }
+    }
+
+    /**
+     * Mutated only within {@link ConcurrentHashMap#compute} and
+     * {@link ConcurrentHashMap#merge} of the corresponding key.
+     */
+    private static class DownloadStatistics
+    {
+
+        private final long firstRecorded;
+
+        private long downloadCount;
+
+        private long lastUsed;
+
+        private DownloadStatistics(long firstRecorded)
+        {
+            this.firstRecorded = firstRecorded;
+        }
+
+        private DownloadStatistics add(long timestamp)
+        {
+            downloadCount++;
+            lastUsed = Math.max(lastUsed, timestamp);
+
+            return this;
+        }
+
+        private DownloadStatistics merge(DownloadStatistics other)
+        {
+            DownloadStatistics result = new DownloadStatistics(Math.min(firstRecorded, other.firstRecorded));
+            result.downloadCount = downloadCount + other.downloadCount;
+            result.lastUsed = Math.max(lastUsed, other.lastUsed);
+
+            return result;
+        }
+
+    }
+
+}
@@ -19,6 +19,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.transaction.ChainedTransactionManager;
 import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionTemplate;
 
 public abstract class AsyncArtifactEntryHandler
@@ -37,6 +39,9 @@ public abstract class AsyncArtifactEntryHandler
     @Inject
     private PlatformTransactionManager transactionManager;
 
+    @Inject
+    private AsyncArtifactEntryHandlerExecutor asyncArtifactEntryHandlerExecutor;
+
     private final ArtifactEventTypeEnum eventType;
 
     public AsyncArtifactEntryHandler(ArtifactEventTypeEnum eventType)
@@ -47,8 +52,7 @@ public abstract class AsyncArtifactEntryHandler
 
     @AsyncEventListener
     public void handleEvent(final ArtifactEvent<RepositoryPath> event)
-        throws IOException,
-        InterruptedException
+        throws IOException
     {
         if (eventType.getType() != event.getType())
         {
@@ -61,14 +65,15 @@ public abstract class AsyncArtifactEntryHandler
             return;
         }
 
-        // TODO: this is needed just as workadound to have new transaction
-        // within this async event (expected to be replaced with
-        // just Propagation.REQUIRES_NEW after SB-1200)
-        Thread threadWithNewTransactionContext = new Thread(() -> {
+        asyncArtifactEntryHandlerExecutor.execute(getClass().getSimpleName(), repositoryPath, () -> {
             try
             {
                 handleLocked(repositoryPath);
             }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+            }
             catch (Exception e)
             {
                 logger.error("Failed to handle async event [{}]",
@@ -76,9 +81,6 @@ public abstract class AsyncArtifactEntryHandler
                              e);
             }
         });
-
-        threadWithNewTransactionContext.start();
-        threadWithNewTransactionContext.join();
     }
 
     private void handleLocked(RepositoryPath repositoryPath)
@@ -148,9 +150,16 @@ public abstract class AsyncArtifactEntryHandler
         }
     }
 
+    /**
+     * The event is received after the commit of the originating transaction,
+     * so the new one is always required here (see
+     * {@link TransactionSynchronization#afterCommit()}).
+     */
     private void handleTransactional(RepositoryPath repositoryPath)
     {
-        new TransactionTemplate(transactionManager).execute(t -> {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        transactionTemplate.execute(t -> {
             try
             {
                 ArtifactEntry result = handleEvent(repositoryPath);
@@ -0,0 +1,224 @@
+package org.carlspring.strongbox.artifact;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.inject.Inject;
+
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Executes {@link AsyncArtifactEntryHandler}s on a bounded thread pool, so that
+ * they don't occupy the `eventTaskExecutor` threads.
+ * <br>
+ * The same handler is executed only once for all the events of the same path
+ * which are queued at the moment. Once the queue is full, the handler is
+ * executed by the calling thread. Once the executor is shut down, the events
+ * are rejected and only logged.
+ * <br>
+ * If `eventTaskExecutor` is synchronous (no servlet container) the calling
+ * thread waits for the handler to complete. The handlers are not coalesced in
+ * this mode, and are never executed by the calling thread, because it still
+ * holds the transaction the event was published in, while the handler needs a
+ * new one. Once the queue is full, the calling thread waits for the room in the
+ * queue instead.
+ */
+@Component
+public class AsyncArtifactEntryHandlerExecutor
+        implements InitializingBean, DisposableBean
+{
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncArtifactEntryHandlerExecutor.class);
+
+    private final Set<String> queued = ConcurrentHashMap.newKeySet();
+
+    private final Map<String, Timer> waitTimers = new ConcurrentHashMap<>();
+
+    private final Map<String, Timer> durationTimers = new ConcurrentHashMap<>();
+
+    @Inject
+    private Executor eventTaskExecutor;
+
+    @Value("${strongbox.artifact.entryHandler.threads:4}")
+    private int threads;
+
+    @Value("${strongbox.artifact.entryHandler.queueCapacity:10000}")
+    private int queueCapacity;
+
+    private ThreadPoolExecutor executor;
+
+    private Counter coalescedCounter;
+
+    @Override
+    public void afterPropertiesSet()
+    {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads,
+                                          threads,
+                                          60L,
+                                          TimeUnit.SECONDS,
+                                          new ArrayBlockingQueue<>(queueCapacity),
+                                          r -> {
+                                              Thread thread = new Thread(r,
+                                                                         String.format("artifact-entry-handler-%s",
+                                                                                       threadNumber.incrementAndGet()));
+                                              thread.setDaemon(true);
+
+                                              return thread;
+                                          },
+                                          this::handleRejected);
+        executor.allowCoreThreadTimeOut(true);
+
+        Gauge.builder("strongbox.artifact.entry.handler.queue", executor, e -> e.getQueue().size())
+             .description("Number of artifact events waiting to be handled")
+             .register(Metrics.globalRegistry);
+        coalescedCounter = Counter.builder("strongbox.artifact.entry.handler.coalesced")
+                                  .description("Number of artifact events coalesced with the already queued ones")
+                                  .register(Metrics.globalRegistry);
+    }
+
+    @Override
+    public void destroy()
+        throws InterruptedException
+    {
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    public void execute(String handlerName,
+                        RepositoryPath repositoryPath,
+                        Runnable task)
+    {
+        Timer durationTimer = durationTimers.computeIfAbsent(handlerName,
+                                                             n -> Timer.builder("strongbox.artifact.entry.handler.duration")
+                                                                       .description("Artifact event handling time")
+                                                                       .tag("handler", n)
+                                                                       .register(Metrics.globalRegistry));
+        if (isSynchronous())
+        {
+            // The caller still holds the completed transaction, so the pool
+            // thread is needed to have the new one.
+            try
+            {
+                awaitQuietly(executor.submit(() -> durationTimer.record(task)));
+            }
+            catch (RejectedExecutionException e)
+            {
+                logger.warn("Event [{}] for path [{}] rejected: {}", handlerName, repositoryPath, e.getMessage());
+            }
+
+            return;
+        }
+
+        String key = handlerName + ":" + repositoryPath.toUri();
+        if (!queued.add(key))
+        {
+            logger.debug("Event [{}] for path [{}] already queued.", handlerName, repositoryPath);
+            coalescedCounter.increment();
+
+            return;
+        }
+
+        Timer waitTimer = waitTimers.computeIfAbsent(handlerName,
+                                                     n -> Timer.builder("strongbox.artifact.entry.handler.wait")
+                                                               .description("Time artifact events spend in queue")
+                                                               .tag("handler", n)
+                                                               .register(Metrics.globalRegistry));
+        long queuedAt = System.nanoTime();
+        try
+        {
+            executor.execute(() -> {
+                // Events received from now on need to be handled again.
+                queued.remove(key);
+                waitTimer.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+
+                durationTimer.record(task);
+            });
+        }
+        catch (RejectedExecutionException e)
+        {
+            // Otherwise the events of the path would be coalesced forever.
+            queued.remove(key);
+
+            logger.warn("Event [{}] for path [{}] rejected: {}", handlerName, repositoryPath, e.getMessage());
+        }
+    }
+
+    private boolean isSynchronous()
+    {
+        return eventTaskExecutor instanceof SyncTaskExecutor;
+    }
+
+    private void handleRejected(Runnable task,
+                                ThreadPoolExecutor executor)
+    {
+        // `CallerRunsPolicy` would silently discard the task.
+        if (executor.isShutdown())
+        {
+            throw new RejectedExecutionException("Executor is shut down.");
+        }
+
+        if (!isSynchronous())
+        {
+            task.run();
+
+            return;
+        }
+
+        try
+        {
+            executor.getQueue().put(task);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for the queue.", e);
+        }
+
+        if (executor.isShutdown() && executor.remove(task))
+        {
+            throw new RejectedExecutionException("Executor is shut down.");
+        }
+
+        // The idle workers time out, and putting to the queue doesn't start them.
+        executor.prestartCoreThread();
+    }
+
+    private void awaitQuietly(Future<?> future)
+    {
+        try
+        {
+            future.get();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+        catch (ExecutionException e)
+        {
+            logger.error("Failed to handle artifact event.", e.getCause());
+        }
+    }
+
+}
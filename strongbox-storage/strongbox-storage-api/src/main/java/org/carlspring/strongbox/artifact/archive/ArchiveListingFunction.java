@@ -3,11 +3,17 @@ package org.carlspring.strongbox.artifact.archive;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
 
 import java.io.IOException;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.Set;
 
 import org.apache.commons.compress.archivers.ArchiveEntry;
 import org.apache.commons.compress.archivers.ArchiveInputStream;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipFile;
 
 /**
  * @author Przemyslaw Fusik
@@ -31,6 +37,27 @@ public interface ArchiveListingFunction
         return result;
     }
 
+    /**
+     * Lists the entries of a zip-family archive from its central directory,
+     * which is read with random access at the end of the file, so the entries
+     * themselves are not read at all.
+     */
+    default Set<String> getZipEntryNames(final Path path)
+            throws IOException
+    {
+        try (SeekableByteChannel channel = Files.newByteChannel(path);
+             ZipFile zipFile = new ZipFile(channel))
+        {
+            final Set<String> result = new HashSet<>();
+            final Enumeration<ZipArchiveEntry> entries = zipFile.getEntries();
+            while (entries.hasMoreElements())
+            {
+                result.add(entries.nextElement().getName());
+            }
+            return result;
+        }
+    }
+
     default boolean supports(RepositoryPath path)
     {
         return true;
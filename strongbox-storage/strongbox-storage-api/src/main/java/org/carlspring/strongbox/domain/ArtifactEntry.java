@@ -42,6 +42,12 @@ public class ArtifactEntry
 
     private Map<String, String> checksums;
 
+    /**
+     * Layout specific attributes read from the artifact file once it's stored,
+     * see `LayoutProvider#readArtifactAttributes()`.
+     */
+    private Map<String, String> artifactAttributes;
+
     @Embedded
     private ArtifactArchiveListing artifactArchiveListing;
 
@@ -109,6 +115,16 @@ public class ArtifactEntry
         this.checksums = checksums;
     }
 
+    public Map<String, String> getArtifactAttributes()
+    {
+        return artifactAttributes = Optional.ofNullable(artifactAttributes).orElse(new HashMap<>());
+    }
+
+    protected void setArtifactAttributes(Map<String, String> artifactAttributes)
+    {
+        this.artifactAttributes = artifactAttributes;
+    }
+
     public Long getSizeInBytes()
     {
         return sizeInBytes;
@@ -186,6 +202,7 @@ public class ArtifactEntry
         sb.append(", artifactCoordinates=").append(artifactCoordinates).append('\n');
         sb.append(", tagSet=").append(tagSet);
         sb.append(", checksums=").append(checksums);
+        sb.append(", artifactAttributes=").append(artifactAttributes);
         sb.append(", objectId='").append(objectId).append('\'');
         sb.append(", uuid='").append(uuid).append('\'');
         sb.append(", artifactArchiveListing=").append(artifactArchiveListing);
@@ -1,6 +1,11 @@
 package org.carlspring.strongbox.domain;
 
+import javax.persistence.CascadeType;
 import javax.persistence.Entity;
+import javax.persistence.ManyToOne;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * @author Przemyslaw Fusik
@@ -13,6 +18,17 @@ public class RepositoryArtifactIdGroupEntry
     private String storageId;
     private String repositoryId;
 
+    /**
+     * The entries of the last version (there can be several of them, for
+     * example artifacts with classifiers), so that the `last-version` tag can
+     * be moved without loading all the group entries.
+     */
+    @ManyToOne(cascade = { CascadeType.DETACH,
+                           CascadeType.MERGE,
+                           CascadeType.PERSIST,
+                           CascadeType.REFRESH })
+    private Set<ArtifactEntry> lastVersionEntries;
+
     public RepositoryArtifactIdGroupEntry()
     {
     }
@@ -51,4 +67,9 @@ public class RepositoryArtifactIdGroupEntry
         return getName();
     }
 
+    public Set<ArtifactEntry> getLastVersionEntries()
+    {
+        return lastVersionEntries = Optional.ofNullable(lastVersionEntries).orElse(new HashSet<>());
+    }
+
 }
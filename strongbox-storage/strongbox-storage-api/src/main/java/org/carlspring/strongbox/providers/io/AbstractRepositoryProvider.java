@@ -28,9 +28,11 @@ import org.carlspring.strongbox.io.RepositoryStreamWriteContext;
 import org.carlspring.strongbox.io.StreamUtils;
 import org.carlspring.strongbox.providers.io.RepositoryStreamSupport.RepositoryInputStream;
 import org.carlspring.strongbox.providers.io.RepositoryStreamSupport.RepositoryOutputStream;
+import org.carlspring.strongbox.providers.layout.LayoutProvider;
 import org.carlspring.strongbox.providers.layout.LayoutProviderRegistry;
 import org.carlspring.strongbox.providers.repository.RepositoryProvider;
 import org.carlspring.strongbox.providers.repository.RepositoryProviderRegistry;
+import org.carlspring.strongbox.providers.repository.RepositorySizeTracker;
 import org.carlspring.strongbox.services.ArtifactEntryService;
 import org.carlspring.strongbox.services.RepositoryArtifactIdGroupService;
 import org.carlspring.strongbox.storage.Storage;
@@ -62,6 +64,9 @@ public abstract class AbstractRepositoryProvider implements RepositoryProvider,
     
     @Inject
     private RepositoryArtifactIdGroupService repositoryArtifactIdGroupService;
+
+    @Inject
+    private RepositorySizeTracker repositorySizeTracker;
     
     @Inject
     protected ArtifactEventListenerRegistry artifactEventListenerRegistry;
@@ -104,8 +109,15 @@ public abstract class AbstractRepositoryProvider implements RepositoryProvider,
             return (RepositoryInputStream) is;
         }
 
-        return new RepositoryStreamSupport(repositoryPathLock.lock(repositoryPath), this).
-               new RepositoryInputStream(repositoryPath, is);
+        return decorate(repositoryPath, is, new RepositoryStreamSupport(repositoryPathLock.lock(repositoryPath), this));
+    }
+
+    protected final RepositoryInputStream decorate(RepositoryPath repositoryPath,
+                                                   InputStream is,
+                                                   RepositoryStreamSupport streamSupport)
+        throws IOException
+    {
+        return streamSupport.new RepositoryInputStream(repositoryPath, is);
     }
 
     @Override
@@ -157,7 +169,10 @@ public abstract class AbstractRepositoryProvider implements RepositoryProvider,
         artifactEntry.setStorageId(storageId);
         artifactEntry.setRepositoryId(repositoryId);
 
-        ArtifactCoordinates coordinates = RepositoryFiles.readCoordinates(repositoryPath);
+        // The coordinates will be persisted along with the entry, so they
+        // shouldn't be shared with other paths.
+        LayoutProvider layoutProvider = layoutProviderRegistry.getProvider(repository.getLayout());
+        ArtifactCoordinates coordinates = layoutProvider.parseArtifactCoordinates(repositoryPath);
         artifactEntry.setArtifactCoordinates(coordinates);
 
         Date now = new Date();
@@ -224,6 +239,7 @@ public abstract class AbstractRepositoryProvider implements RepositoryProvider,
         
         CountingOutputStream cos = StreamUtils.findSource(CountingOutputStream.class, ctx.getStream());
         artifactEntry.setSizeInBytes(cos.getByteCount());
+        repositorySizeTracker.onStored(repository, cos.getByteCount());
 
         LayoutOutputStream los = StreamUtils.findSource(LayoutOutputStream.class, ctx.getStream());
         artifactEntry.getChecksums().clear();
@@ -0,0 +1,28 @@
+package org.carlspring.strongbox.providers.io;
+
+import java.util.concurrent.locks.ReadWriteLock;
+
+import com.hazelcast.core.HazelcastInstance;
+
+import ca.thoughtwire.lock.DistributedLockService;
+
+/**
+ * Cluster wide {@link RepositoryPathLockFactory} implementation.
+ */
+public class HazelcastRepositoryPathLockFactory implements RepositoryPathLockFactory
+{
+
+    private final DistributedLockService lockService;
+
+    public HazelcastRepositoryPathLockFactory(HazelcastInstance hazelcastInstance)
+    {
+        lockService = DistributedLockService.newHazelcastLockService(hazelcastInstance);
+    }
+
+    @Override
+    public ReadWriteLock getLock(String name)
+    {
+        return lockService.getReentrantReadWriteLock(name);
+    }
+
+}
@@ -0,0 +1,112 @@
+package org.carlspring.strongbox.providers.io;
+
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.google.common.collect.MapMaker;
+
+/**
+ * In-JVM {@link RepositoryPathLockFactory} implementation for the single node
+ * deployments.
+ * <br>
+ * Every name has it's own lock, which is garbage collected as soon as no one
+ * references it. We don't use striping here, because different names which
+ * share the same stripe can deadlock each other, for example when a thread
+ * holds the read lock of one path and then acquires the write lock of another
+ * one.
+ */
+public class LocalRepositoryPathLockFactory implements RepositoryPathLockFactory
+{
+
+    private final ConcurrentMap<String, ReadWriteLock> locks = new MapMaker().weakValues().makeMap();
+
+    @Override
+    public ReadWriteLock getLock(String name)
+    {
+        return locks.computeIfAbsent(name, k -> new LocalReadWriteLock());
+    }
+
+    /**
+     * The {@link ReentrantReadWriteLock} views don't reference the lock itself,
+     * so we need to keep it reachable while anyone uses it's read or write
+     * lock.
+     */
+    private static class LocalReadWriteLock implements ReadWriteLock
+    {
+
+        private final ReentrantReadWriteLock target = new ReentrantReadWriteLock();
+
+        private final Lock readLock = new LockView(target.readLock());
+
+        private final Lock writeLock = new LockView(target.writeLock());
+
+        @Override
+        public Lock readLock()
+        {
+            return readLock;
+        }
+
+        @Override
+        public Lock writeLock()
+        {
+            return writeLock;
+        }
+
+        private class LockView implements Lock
+        {
+
+            private final Lock target;
+
+            private LockView(Lock target)
+            {
+                this.target = target;
+            }
+
+            @Override
+            public void lock()
+            {
+                target.lock();
+            }
+
+            @Override
+            public void lockInterruptibly()
+                throws InterruptedException
+            {
+                target.lockInterruptibly();
+            }
+
+            @Override
+            public boolean tryLock()
+            {
+                return target.tryLock();
+            }
+
+            @Override
+            public boolean tryLock(long time,
+                                   TimeUnit unit)
+                throws InterruptedException
+            {
+                return target.tryLock(time, unit);
+            }
+
+            @Override
+            public void unlock()
+            {
+                target.unlock();
+            }
+
+            @Override
+            public Condition newCondition()
+            {
+                return target.newCondition();
+            }
+
+        }
+
+    }
+
+}
@@ -0,0 +1,179 @@
+package org.carlspring.strongbox.providers.io;
+
+import org.carlspring.strongbox.event.artifact.ArtifactEventTypeEnum;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
+
+/**
+ * The index files (package feeds, simple index pages and so on) which are
+ * built from the artifact entries and stored within the repository, so that
+ * they're served like any other file, with their checksum as `ETag`.
+ * <br>
+ * An index file is deleted (invalidated) once the package files it's built
+ * from were changed, and stored again on the next build. Each invalidation
+ * increments the version of the index file, so that a file which was built
+ * before the package files were changed is deleted right after it's stored,
+ * see {@link #store(long, Map)}.
+ * <br>
+ * The versions are kept in a fixed number of stripes, so that an invalidation
+ * only drops the concurrent builds of the index files which share its stripe,
+ * and the versions don't grow with the number of requested packages.
+ */
+public class MaterializedIndex
+{
+
+    private final String checksumAlgorithm;
+
+    private final String checksumExtension;
+
+    private static final int VERSION_STRIPES = 256;
+
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+
+    /**
+     * @param checksumAlgorithm see `MessageDigestAlgorithms`
+     * @param checksumExtension the extension of the checksum files, for example `.sha1`
+     */
+    public MaterializedIndex(String checksumAlgorithm,
+                             String checksumExtension)
+    {
+        this.checksumAlgorithm = checksumAlgorithm;
+        this.checksumExtension = checksumExtension;
+    }
+
+    /**
+     * @return the version to pass to {@link #store(long, Map)}, taken before
+     *         the index files are built
+     */
+    public long getVersion(RepositoryPath... indexPaths)
+    {
+        // The versions only grow, so the sum changes once any of them does.
+        long result = 0;
+        for (RepositoryPath indexPath : indexPaths)
+        {
+            result += versions.get(getStripe(indexPath));
+        }
+
+        return result;
+    }
+
+    /**
+     * Stores the index files with their checksums.
+     *
+     * @param expectedVersion see {@link #getVersion(RepositoryPath...)}, of the same index files
+     * @return `false` if the index files were invalidated while they were
+     *         built, in which case they're deleted
+     */
+    public boolean store(long expectedVersion,
+                         Map<RepositoryPath, byte[]> indexFiles)
+            throws IOException
+    {
+        for (Map.Entry<RepositoryPath, byte[]> indexFile : indexFiles.entrySet())
+        {
+            // The index file goes first, so that it's never served with the
+            // new checksum and old content.
+            Files.write(indexFile.getKey(), indexFile.getValue());
+            Files.write(getChecksumPath(indexFile.getKey()),
+                        Hex.encodeHexString(DigestUtils.getDigest(checksumAlgorithm).digest(indexFile.getValue()))
+                           .getBytes(StandardCharsets.UTF_8));
+        }
+
+        RepositoryPath[] indexPaths = indexFiles.keySet().toArray(new RepositoryPath[0]);
+        if (getVersion(indexPaths) == expectedVersion)
+        {
+            return true;
+        }
+
+        delete(indexPaths);
+
+        return false;
+    }
+
+    /**
+     * Deletes the index files with their checksums, once the package files
+     * they're built from were changed.
+     */
+    public void invalidate(RepositoryPath... indexPaths)
+            throws IOException
+    {
+        for (RepositoryPath indexPath : indexPaths)
+        {
+            versions.incrementAndGet(getStripe(indexPath));
+        }
+
+        delete(indexPaths);
+    }
+
+    /**
+     * Deletes the index files with their checksums, without dropping the
+     * concurrent builds, for example once a build found no packages.
+     */
+    public void delete(RepositoryPath... indexPaths)
+            throws IOException
+    {
+        for (RepositoryPath indexPath : indexPaths)
+        {
+            for (RepositoryPath p : Arrays.asList(indexPath, getChecksumPath(indexPath)))
+            {
+                if (Files.exists(p))
+                {
+                    RepositoryFiles.delete(p, true);
+                }
+            }
+        }
+    }
+
+    private int getStripe(RepositoryPath indexPath)
+    {
+        return Math.floorMod(indexPath.hashCode(), VERSION_STRIPES);
+    }
+
+    public RepositoryPath getChecksumPath(RepositoryPath indexPath)
+    {
+        return indexPath.resolveSibling(indexPath.getFileName().toString() + checksumExtension);
+    }
+
+    /**
+     * @return `true` if the event type is one of the ones, which change the
+     *         package files an index is built from
+     */
+    public static boolean isPackageChanged(int type)
+    {
+        return type == ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_STORED.getType()
+               || type == ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_UPDATED.getType()
+               || type == ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_COPIED.getType()
+               || type == ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_MOVED.getType()
+               || type == ArtifactEventTypeEnum.EVENT_ARTIFACT_PATH_DELETED.getType();
+    }
+
+    /**
+     * Lists the package directories, which an index is rebuilt for.
+     */
+    public static List<Path> listDirectories(Path path)
+            throws IOException
+    {
+        if (!Files.exists(path))
+        {
+            return Collections.emptyList();
+        }
+
+        try (Stream<Path> s = Files.list(path))
+        {
+            return s.filter(Files::isDirectory).collect(Collectors.toList());
+        }
+    }
+
+}
@@ -17,9 +17,9 @@ import java.nio.file.WatchEvent.Kind;
 import java.nio.file.WatchEvent.Modifier;
 import java.nio.file.WatchKey;
 import java.nio.file.WatchService;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.io.FilenameUtils;
 
@@ -42,7 +42,7 @@ public class RepositoryPath
 
     protected ArtifactEntry artifactEntry;
 
-    protected Map<RepositoryFileAttributeType, Object> cachedAttributes = new HashMap<>();
+    protected Map<RepositoryFileAttributeType, Object> cachedAttributes = new ConcurrentHashMap<>();
 
     protected URI uri;
 
@@ -2,24 +2,43 @@ package org.carlspring.strongbox.providers.io;
 
 import java.io.IOException;
 import java.net.URI;
-import java.net.URLEncoder;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 
 import javax.annotation.Nonnull;
 import javax.inject.Inject;
 
 import org.carlspring.strongbox.artifact.coordinates.ArtifactCoordinates;
+import org.carlspring.strongbox.storage.repository.Repository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.util.Assert;
 
 import com.hazelcast.core.HazelcastInstance;
 
-import ca.thoughtwire.lock.DistributedLockService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 
 /**
+ * Provides locks for {@link RepositoryPath}s.
+ * <br>
+ * Locks are in-JVM by default, and cluster wide (Hazelcast) only if
+ * `strongbox.repositoryPathLock.distributed` is enabled, which defaults to the
+ * Hazelcast multicast (clustering) configuration.
+ * <br>
+ * Lock-wait time and contention are published per repository as
+ * `strongbox.repository.lock.wait` and `strongbox.repository.lock.contended`
+ * metrics, for all the ways of acquiring the lock (the non-blocking
+ * `tryLock()` only counts the contention, as it doesn't wait).
+ *
  * @author Przemyslaw Fusik
  */
 @Component
@@ -28,12 +47,19 @@ public class RepositoryPathLock
 
     private static final Logger logger = LoggerFactory.getLogger(RepositoryPathLock.class);
 
-    private DistributedLockService lockService;
+    private final Map<String, LockMetrics> lockMetrics = new ConcurrentHashMap<>();
+
+    private RepositoryPathLockFactory lockFactory;
 
     @Inject
-    public void setHazelcastInstance(HazelcastInstance hazelcastInstance)
+    public void setLockFactory(HazelcastInstance hazelcastInstance,
+                               @Value("${strongbox.repositoryPathLock.distributed:${cacheManagerConfiguration.enableMulticastConfig:false}}")
+                               boolean distributed)
     {
-        lockService = DistributedLockService.newHazelcastLockService(hazelcastInstance);
+        logger.info("Using [{}] repository path locks.", distributed ? "distributed" : "local");
+
+        lockFactory = distributed ? new HazelcastRepositoryPathLockFactory(hazelcastInstance)
+                : new LocalRepositoryPathLockFactory();
     }
 
     public ReadWriteLock lock(final @Nonnull RepositoryPath repositoryPath) throws IOException
@@ -44,31 +70,199 @@ public class RepositoryPathLock
     public ReadWriteLock lock(final @Nonnull RepositoryPath repositoryPath,
                               String id) throws IOException
     {
-        URI lock = getLock(repositoryPath);
+        String lock = getLock(repositoryPath);
         String lockName = Optional.ofNullable(id)
                                   .map(p -> String.format("%s?%s", lock, p))
-                                  .orElseGet(() -> lock.toString());
-        logger.debug("Get lock for [{}]", lock);
-        
-        return lockService.getReentrantReadWriteLock(lockName);
+                                  .orElse(lock);
+        logger.debug("Get lock for [{}]", lockName);
+
+        Repository repository = repositoryPath.getRepository();
+        LockMetrics metrics = lockMetrics.computeIfAbsent(String.format("%s:%s",
+                                                                        repository.getStorage().getId(),
+                                                                        repository.getId()),
+                                                          k -> new LockMetrics(repository));
+
+        return new MeteredReadWriteLock(lockFactory.getLock(lockName), metrics);
     }
 
-    private URI getLock(final @Nonnull RepositoryPath repositoryPath) throws IOException
+    private String getLock(final @Nonnull RepositoryPath repositoryPath) throws IOException
     {
         if (RepositoryFiles.isArtifact(repositoryPath))
         {
             ArtifactCoordinates c = RepositoryFiles.readCoordinates(repositoryPath);
+            Repository repository = repositoryPath.getRepository();
             // We should lock all the RepositoryArtifactIdGroup because there can be
             // `ArtifactEntryServiceImpl.updateLastVersionTag()` operations
             // which affetcs on other artifacts from group.
-            return URI.create(URLEncoder.encode(c.getId(), "UTF-8"));
+            return String.format("%s/%s/%s", repository.getStorage().getId(), repository.getId(), c.getId());
         }
 
         final URI lock = repositoryPath.toUri();
 
         Assert.isTrue(lock.isAbsolute(), String.format("Unable to lock relative path %s", lock));
 
-        return lock;
+        return lock.toString();
+    }
+
+    private static class LockMetrics
+    {
+
+        private final Timer waitTimer;
+
+        private final Counter contended;
+
+        private LockMetrics(Repository repository)
+        {
+            String storageId = repository.getStorage().getId();
+            String repositoryId = repository.getId();
+
+            waitTimer = Timer.builder("strongbox.repository.lock.wait")
+                             .description("Time spent waiting for the repository path locks")
+                             .tags("storage", storageId, "repository", repositoryId)
+                             .register(Metrics.globalRegistry);
+            contended = Counter.builder("strongbox.repository.lock.contended")
+                               .description("Number of repository path lock acquisitions which had to wait")
+                               .tags("storage", storageId, "repository", repositoryId)
+                               .register(Metrics.globalRegistry);
+        }
+
+    }
+
+    private static class MeteredReadWriteLock implements ReadWriteLock
+    {
+
+        private final Lock readLock;
+
+        private final Lock writeLock;
+
+        private MeteredReadWriteLock(ReadWriteLock target,
+                                     LockMetrics metrics)
+        {
+            this.readLock = new MeteredLock(target.readLock(), metrics);
+            this.writeLock = new MeteredLock(target.writeLock(), metrics);
+        }
+
+        @Override
+        public Lock readLock()
+        {
+            return readLock;
+        }
+
+        @Override
+        public Lock writeLock()
+        {
+            return writeLock;
+        }
+
+    }
+
+    private static class MeteredLock implements Lock
+    {
+
+        private final Lock target;
+
+        private final LockMetrics metrics;
+
+        private MeteredLock(Lock target,
+                            LockMetrics metrics)
+        {
+            this.target = target;
+            this.metrics = metrics;
+        }
+
+        @Override
+        public void lock()
+        {
+            if (tryLockUncontended())
+            {
+                return;
+            }
+
+            long start = System.nanoTime();
+            target.lock();
+            recordWait(start);
+        }
+
+        @Override
+        public void lockInterruptibly()
+            throws InterruptedException
+        {
+            if (tryLockUncontended())
+            {
+                return;
+            }
+
+            long start = System.nanoTime();
+            try
+            {
+                target.lockInterruptibly();
+            }
+            finally
+            {
+                recordWait(start);
+            }
+        }
+
+        @Override
+        public boolean tryLock()
+        {
+            // Doesn't wait, so only the contention is counted.
+            return tryLockUncontended();
+        }
+
+        @Override
+        public boolean tryLock(long time,
+                               TimeUnit unit)
+            throws InterruptedException
+        {
+            if (tryLockUncontended())
+            {
+                return true;
+            }
+
+            // The time spent waiting, whether the lock was acquired or not.
+            long start = System.nanoTime();
+            try
+            {
+                return target.tryLock(time, unit);
+            }
+            finally
+            {
+                recordWait(start);
+            }
+        }
+
+        private boolean tryLockUncontended()
+        {
+            if (target.tryLock())
+            {
+                metrics.waitTimer.record(0, TimeUnit.NANOSECONDS);
+
+                return true;
+            }
+
+            metrics.contended.increment();
+
+            return false;
+        }
+
+        private void recordWait(long start)
+        {
+            metrics.waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public void unlock()
+        {
+            target.unlock();
+        }
+
+        @Override
+        public Condition newCondition()
+        {
+            return target.newCondition();
+        }
+
     }
 
 }
@@ -0,0 +1,20 @@
+package org.carlspring.strongbox.providers.io;
+
+import java.util.concurrent.locks.ReadWriteLock;
+
+/**
+ * Provides named {@link ReadWriteLock} instances for {@link RepositoryPathLock}.
+ *
+ * @see LocalRepositoryPathLockFactory
+ * @see HazelcastRepositoryPathLockFactory
+ */
+public interface RepositoryPathLockFactory
+{
+
+    /**
+     * @return the lock associated with the name, same names should be
+     *         associated with the same lock while it's in use
+     */
+    ReadWriteLock getLock(String name);
+
+}
@@ -3,7 +3,10 @@ package org.carlspring.strongbox.providers.io;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Optional;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
@@ -13,6 +16,7 @@ import org.apache.commons.io.input.ProxyInputStream;
 import org.apache.commons.io.output.CountingOutputStream;
 import org.apache.commons.io.output.ProxyOutputStream;
 import org.carlspring.strongbox.artifact.ArtifactNotFoundException;
+import org.carlspring.strongbox.io.ByteRangeInputStream;
 import org.carlspring.strongbox.io.LazyInputStream;
 import org.carlspring.strongbox.io.LazyOutputStream;
 import org.carlspring.strongbox.io.RepositoryStreamCallback;
@@ -99,6 +103,12 @@ public class RepositoryStreamSupport
         clearContext();
     }
 
+    protected boolean artifactExists(RepositoryPath path)
+        throws IOException
+    {
+        return RepositoryFiles.artifactExists(path);
+    }
+
     protected void commit() throws IOException
     {
         callback.commit((RepositoryStreamWriteContext) getContext());
@@ -185,6 +195,10 @@ public class RepositoryStreamSupport
             extends ProxyInputStream
     {
 
+        private FileChannel channel;
+
+        private long bytesTransferred;
+
         protected RepositoryInputStream(Path path,
                                         InputStream in) throws IOException
         {
@@ -200,7 +214,7 @@ public class RepositoryStreamSupport
                 open();
                 
                 //Check that artifact exists.
-                if (!RepositoryFiles.artifactExists((RepositoryPath) path)) 
+                if (!artifactExists((RepositoryPath) path))
                 {
                     logger.debug("The path [{}] does not exist!", path);
                     
@@ -221,20 +235,116 @@ public class RepositoryStreamSupport
         protected void beforeRead(int n)
             throws IOException
         {
-            if (((CountingInputStream) in).getByteCount() == 0)
+            if (getBytesRead() == 0)
             {
                 callback.onBeforeRead((RepositoryStreamReadContext) ctx);
             }
         }
 
+        private long getBytesRead()
+        {
+            return ((CountingInputStream) in).getByteCount() + bytesTransferred;
+        }
+
+        /**
+         * @return `true` if the artifact is a regular file, which can be
+         *         transferred with {@link #transferTo(long, long, WritableByteChannel)}
+         */
+        public boolean isTransferSupported()
+            throws IOException
+        {
+            return getChannel() != null;
+        }
+
+        /**
+         * @return the artifact file size, or `-1` if transfer is not supported
+         */
+        public long size()
+            throws IOException
+        {
+            FileChannel channel = getChannel();
+
+            return channel == null ? -1 : channel.size();
+        }
+
+        /**
+         * Transfers the artifact file region directly into the target channel,
+         * bypassing the stream decorators (no digests are calculated). The OS
+         * copies the region without user space buffers only if the target is a
+         * file or socket channel, other targets are written through a buffer.
+         * <br>
+         * The read callbacks are fired the same way as for regular reads.
+         *
+         * @return number of bytes transferred
+         */
+        public long transferTo(long position,
+                               long count,
+                               WritableByteChannel target)
+            throws IOException
+        {
+            FileChannel channel = getChannel();
+            if (channel == null)
+            {
+                throw new UnsupportedOperationException(String.format("Transfer not supported for [%s].",
+                                                                      getContext().getPath()));
+            }
+
+            beforeRead((int) Math.min(count, Integer.MAX_VALUE));
+
+            long transferred = 0;
+            while (transferred < count)
+            {
+                long n = channel.transferTo(position + transferred, count - transferred, target);
+                if (n <= 0)
+                {
+                    break;
+                }
+                transferred += n;
+                bytesTransferred += n;
+            }
+
+            return transferred;
+        }
+
+        private FileChannel getChannel()
+            throws IOException
+        {
+            if (channel != null)
+            {
+                return channel;
+            }
+
+            // Only the regular artifact files can be transferred, other
+            // streams (like remote in-flight downloads) should be read.
+            if (StreamUtils.findSource(ByteRangeInputStream.class, in) == null)
+            {
+                return null;
+            }
+
+            try
+            {
+                return channel = FileChannel.open(getContext().getPath(), StandardOpenOption.READ);
+            }
+            catch (UnsupportedOperationException e)
+            {
+                logger.debug("Transfer not supported for [{}].", getContext().getPath());
+
+                return null;
+            }
+        }
+
         @Override
         public void close()
             throws IOException
         {
             try
             {
+                if (channel != null)
+                {
+                    channel.close();
+                }
                 super.close();
-                if (((CountingInputStream) in).getByteCount() > 0) 
+                if (getBytesRead() > 0)
                 {
                     callback.onAfterRead((RepositoryStreamReadContext) ctx);
                 }
@@ -20,6 +20,7 @@ import java.nio.file.OpenOption;
 import java.nio.file.Path;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.nio.file.attribute.FileAttribute;
 import java.nio.file.attribute.FileAttributeView;
@@ -28,7 +29,6 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -92,6 +92,11 @@ public abstract class StorageFileSystemProvider
                                               FileAttribute<?>... attrs)
         throws IOException
     {
+        if (options.contains(StandardOpenOption.WRITE) || options.contains(StandardOpenOption.APPEND))
+        {
+            invalidateAttributes(path);
+        }
+
         return getTarget().newByteChannel(unwrap(path), options, attrs);
     }
     
@@ -101,6 +106,11 @@ public abstract class StorageFileSystemProvider
                                       FileAttribute<?>... attrs)
         throws IOException
     {
+        if (options.contains(StandardOpenOption.WRITE) || options.contains(StandardOpenOption.APPEND))
+        {
+            invalidateAttributes(path);
+        }
+
         return getTarget().newFileChannel(unwrap(path), options, attrs);
     }
 
@@ -170,6 +180,8 @@ public abstract class StorageFileSystemProvider
         throws IOException
     {
         getTarget().createDirectory(unwrap(dir), attrs);
+
+        invalidateAttributes(dir);
     }
 
     public void delete(Path path)
@@ -194,6 +206,7 @@ public abstract class StorageFileSystemProvider
         {
             throw new NoSuchFileException(unwrap(repositoryPath).toString());
         }
+        invalidateAttributes(repositoryPath);
 
         if (!Files.isDirectory(repositoryPath))
         {
@@ -306,6 +319,8 @@ public abstract class StorageFileSystemProvider
                                 boolean force)
         throws IOException
     {
+        invalidateAttributes(repositoryPath);
+
         Repository repository = repositoryPath.getFileSystem().getRepository();
         if (!repository.isTrashEnabled() || RepositoryFiles.isTrash(repositoryPath))
         {
@@ -340,6 +355,7 @@ public abstract class StorageFileSystemProvider
         {
             return;
         }
+        invalidateAttributes(path);
 
         if (!Files.isDirectory(trashPath.getTarget()))
         {
@@ -374,6 +390,8 @@ public abstract class StorageFileSystemProvider
             Files.delete(path.getTarget());
         }
         Files.move(tempPath.getTarget(), path.getTarget(), StandardCopyOption.ATOMIC_MOVE);
+        invalidateAttributes(tempPath);
+        invalidateAttributes(path);
 
         //path.artifactEntry = tempPath.artifactEntry;
 
@@ -446,6 +464,7 @@ public abstract class StorageFileSystemProvider
                                         OpenOption... options)
         throws IOException
     {
+        invalidateAttributes(path);
         TempRepositoryPath temp = RepositoryFiles.temporary((RepositoryPath) path);
         
         return new TempOutputStream(temp, options);
@@ -457,6 +476,8 @@ public abstract class StorageFileSystemProvider
         throws IOException
     {
         getTarget().copy(unwrap(source), unwrap(target), options);
+
+        invalidateAttributes(target);
     }
 
     public void move(Path source,
@@ -465,6 +486,9 @@ public abstract class StorageFileSystemProvider
         throws IOException
     {
         getTarget().move(unwrap(source), unwrap(target), options);
+
+        invalidateAttributes(source);
+        invalidateAttributes(target);
     }
 
     public boolean isSameFile(Path path,
@@ -519,9 +543,8 @@ public abstract class StorageFileSystemProvider
         }
 
         RepositoryFileAttributes repositoryFileAttributes = new RepositoryFileAttributes(targetAttributes,
-                getRepositoryFileAttributes((RepositoryPath) path,
-                                            RepositoryFiles.parseAttributes("*")
-                                                           .toArray(new RepositoryFileAttributeType[] {})));
+                getCachedRepositoryFileAttributes((RepositoryPath) path,
+                                                  RepositoryFiles.parseAttributes("*")));
 
         return (A) repositoryFileAttributes;
     }
@@ -548,33 +571,8 @@ public abstract class StorageFileSystemProvider
             }
         }
 
-        Set<RepositoryFileAttributeType> targetRepositoryAttributes = new HashSet<>(
-                RepositoryFiles.parseAttributes(attributes));
-
-        final Map<RepositoryFileAttributeType, Object> repositoryFileAttributes = new HashMap<>();
-        for (Iterator<RepositoryFileAttributeType> iterator = targetRepositoryAttributes.iterator(); iterator.hasNext();)
-        {
-            RepositoryFileAttributeType repositoryFileAttributeType = iterator.next();
-            Optional.ofNullable(repositoryPath.cachedAttributes.get(repositoryFileAttributeType))
-                    .ifPresent(v -> {
-                        repositoryFileAttributes.put(repositoryFileAttributeType, v);
-                        iterator.remove();
-                    });
-
-        }
-        if (!targetRepositoryAttributes.isEmpty())
-        {
-            Map<RepositoryFileAttributeType, Object> newAttributes = getRepositoryFileAttributes(repositoryPath,
-                                                                                                 targetRepositoryAttributes.toArray(new RepositoryFileAttributeType[targetRepositoryAttributes.size()]));
-            newAttributes.entrySet()
-                         .stream()
-                         .forEach(e -> {
-                             repositoryFileAttributes.put(e.getKey(),
-                                                          e.getValue());
-                             repositoryPath.cachedAttributes.put(e.getKey(),
-                                                                 e.getValue());
-                         });
-        }
+        Map<RepositoryFileAttributeType, Object> repositoryFileAttributes = getCachedRepositoryFileAttributes(repositoryPath,
+                                                                                                              RepositoryFiles.parseAttributes(attributes));
 
         result.putAll(repositoryFileAttributes.entrySet()
                                               .stream()
@@ -585,6 +583,52 @@ public abstract class StorageFileSystemProvider
         return result;
     }
 
+    /**
+     * Resolves the attributes memoized within the {@link RepositoryPath}
+     * instance first, so that they are calculated only once per path, until
+     * the path was changed.
+     */
+    private Map<RepositoryFileAttributeType, Object> getCachedRepositoryFileAttributes(RepositoryPath repositoryPath,
+                                                                                       Set<RepositoryFileAttributeType> attributeTypes)
+        throws IOException
+    {
+        Map<RepositoryFileAttributeType, Object> result = new HashMap<>();
+        Set<RepositoryFileAttributeType> targetRepositoryAttributes = new HashSet<>();
+        for (RepositoryFileAttributeType repositoryFileAttributeType : attributeTypes)
+        {
+            Object value = repositoryPath.cachedAttributes.get(repositoryFileAttributeType);
+            if (value == null)
+            {
+                targetRepositoryAttributes.add(repositoryFileAttributeType);
+            }
+            else
+            {
+                result.put(repositoryFileAttributeType, value);
+            }
+        }
+
+        if (targetRepositoryAttributes.isEmpty())
+        {
+            return result;
+        }
+
+        Map<RepositoryFileAttributeType, Object> newAttributes = getRepositoryFileAttributes(repositoryPath,
+                                                                                             targetRepositoryAttributes.toArray(new RepositoryFileAttributeType[targetRepositoryAttributes.size()]));
+        newAttributes.entrySet()
+                     .stream()
+                     .forEach(e -> {
+                         result.put(e.getKey(), e.getValue());
+
+                         // `EXPIRED` depends on time, so it should be calculated every time.
+                         if (!RepositoryFileAttributeType.EXPIRED.equals(e.getKey()))
+                         {
+                             repositoryPath.cachedAttributes.put(e.getKey(), e.getValue());
+                         }
+                     });
+
+        return result;
+    }
+
     protected abstract Map<RepositoryFileAttributeType, Object> getRepositoryFileAttributes(RepositoryPath repositoryRelativePath,
                                                                                             RepositoryFileAttributeType... attributeTypes)
         throws IOException;
@@ -598,6 +642,18 @@ public abstract class StorageFileSystemProvider
         getTarget().setAttribute(unwrap(path), attribute, value, options);
     }
 
+    /**
+     * Drops the attributes memoized within the {@link RepositoryPath}
+     * instance, once the file behind it was changed.
+     */
+    protected void invalidateAttributes(Path path)
+    {
+        if (path instanceof RepositoryPath)
+        {
+            ((RepositoryPath) path).cachedAttributes.clear();
+        }
+    }
+
     protected Path unwrap(Path path)
     {
         return path instanceof RepositoryPath ? ((RepositoryPath) path).getTarget() : path;
@@ -36,6 +36,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Sets;
 
@@ -57,6 +59,15 @@ public abstract class AbstractLayoutProvider<T extends ArtifactCoordinates>
             )
     );
 
+    /**
+     * Artifact coordinates are parsed from the path only, so they can be
+     * shared between requests, the cache key is the path relative to the
+     * repository root (each layout provider has its own cache).
+     */
+    private final Cache<String, T> artifactCoordinatesCache = CacheBuilder.newBuilder()
+                                                                          .maximumSize(10000)
+                                                                          .build();
+
     @Inject
     private ConfigurationManager configurationManager;
 
@@ -72,6 +83,33 @@ public abstract class AbstractLayoutProvider<T extends ArtifactCoordinates>
 
     protected abstract T getArtifactCoordinates(RepositoryPath repositoryPath) throws IOException;
 
+    @Override
+    public T parseArtifactCoordinates(RepositoryPath repositoryPath)
+        throws IOException
+    {
+        return getArtifactCoordinates(repositoryPath);
+    }
+
+    protected T getCachedArtifactCoordinates(RepositoryPath repositoryPath)
+        throws IOException
+    {
+        String key = RepositoryFiles.relativizePath(repositoryPath);
+
+        T result = artifactCoordinatesCache.getIfPresent(key);
+        if (result != null)
+        {
+            return result;
+        }
+
+        result = getArtifactCoordinates(repositoryPath);
+        if (result != null)
+        {
+            artifactCoordinatesCache.put(key, result);
+        }
+
+        return result;
+    }
+
     protected Set<String> getDigestAlgorithmSet()
     {
         return Stream.of(MessageDigestAlgorithms.MD5, MessageDigestAlgorithms.SHA_1)
@@ -150,12 +188,9 @@ public abstract class AbstractLayoutProvider<T extends ArtifactCoordinates>
 
                 break;
             case COORDINATES:
-                attributesLocal = getRepositoryFileAttributes(repositoryPath,
-                                                              RepositoryFileAttributeType.ARTIFACT);
-
-                boolean isArtifact = Boolean.TRUE.equals(attributesLocal.get(RepositoryFileAttributeType.ARTIFACT));
+                boolean isArtifact = Boolean.TRUE.equals(RepositoryFiles.isArtifact(repositoryPath));
 
-                value = isArtifact ? getArtifactCoordinates(repositoryPath) : null;
+                value = isArtifact ? getCachedArtifactCoordinates(repositoryPath) : null;
                 break;
             case RESOURCE_URL:
                 value = resolveResource(repositoryPath);
@@ -207,24 +242,36 @@ public abstract class AbstractLayoutProvider<T extends ArtifactCoordinates>
                                    .toURL();
     }
 
+    protected ArchiveListingFunction getArchiveListingFunction()
+    {
+        return ARCHIVE_LISTING_FUNCTION;
+    }
+
     @Override
     public Set<String> listArchiveFilenames(final RepositoryPath repositoryPath)
     {
-        if (ARCHIVE_LISTING_FUNCTION.supports(repositoryPath))
+        final ArchiveListingFunction archiveListingFunction = getArchiveListingFunction();
+        if (archiveListingFunction.supports(repositoryPath))
         {
             try
             {
-                return ARCHIVE_LISTING_FUNCTION.listFilenames(repositoryPath);
+                return archiveListingFunction.listFilenames(repositoryPath);
             }
             catch (IOException e)
             {
                 logger.warn("Unable to list filenames in archive path {} using {}",
-                            repositoryPath, ARCHIVE_LISTING_FUNCTION, e);
+                            repositoryPath, archiveListingFunction, e);
             }
         }
         return Collections.emptySet();
     }
 
+    @Override
+    public Map<String, String> readArtifactAttributes(final RepositoryPath repositoryPath)
+    {
+        return Collections.emptyMap();
+    }
+
     @Override
     public Set<ArtifactGroup> getArtifactGroups(RepositoryPath path)
             throws IOException
@@ -3,6 +3,7 @@ package org.carlspring.strongbox.providers.layout;
 import org.carlspring.commons.io.reloading.FSReloadableInputStreamHandler;
 import org.carlspring.strongbox.artifact.ArtifactNotFoundException;
 import org.carlspring.strongbox.domain.ArtifactEntry;
+import org.carlspring.strongbox.domain.RepositoryArtifactIdGroupEntry;
 import org.carlspring.strongbox.event.artifact.ArtifactEventListenerRegistry;
 import org.carlspring.strongbox.event.repository.RepositoryEventListenerRegistry;
 import org.carlspring.strongbox.io.ByteRangeInputStream;
@@ -16,7 +17,9 @@ import org.carlspring.strongbox.providers.io.RepositoryFileAttributeType;
 import org.carlspring.strongbox.providers.io.RepositoryFiles;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
 import org.carlspring.strongbox.providers.io.StorageFileSystemProvider;
+import org.carlspring.strongbox.providers.repository.RepositorySizeTracker;
 import org.carlspring.strongbox.services.ArtifactEntryService;
+import org.carlspring.strongbox.services.RepositoryArtifactIdGroupService;
 import org.carlspring.strongbox.storage.ArtifactResolutionException;
 import org.carlspring.strongbox.storage.Storage;
 import org.carlspring.strongbox.storage.repository.Repository;
@@ -60,6 +63,12 @@ public abstract class LayoutFileSystemProvider extends StorageFileSystemProvider
     @Inject
     private ArtifactEntryService artifactEntryService;
 
+    @Inject
+    private RepositoryArtifactIdGroupService repositoryArtifactIdGroupService;
+
+    @Inject
+    private RepositorySizeTracker repositorySizeTracker;
+
 
     public LayoutFileSystemProvider(FileSystemProvider storageFileSystemProvider)
     {
@@ -281,12 +290,26 @@ public abstract class LayoutFileSystemProvider extends StorageFileSystemProvider
                                               .orElseGet(() -> fetchArtifactEntry(repositoryPath));
         if (artifactEntry != null)
         {
+            removeFromArtifactGroup(repositoryPath.getRepository(), artifactEntry);
             artifactEntryService.delete(artifactEntry);
+            repositorySizeTracker.onDeleted(repositoryPath.getRepository(), artifactEntry);
         }
         
         super.doDeletePath(repositoryPath, force);
     }
 
+    private void removeFromArtifactGroup(Repository repository,
+                                         ArtifactEntry artifactEntry)
+    {
+        RepositoryArtifactIdGroupEntry artifactGroup = repositoryArtifactIdGroupService.findOne(repository.getStorage().getId(),
+                                                                                               repository.getId(),
+                                                                                               artifactEntry.getArtifactCoordinates().getId());
+        if (artifactGroup != null)
+        {
+            repositoryArtifactIdGroupService.removeArtifactFromGroup(artifactGroup, artifactEntry);
+        }
+    }
+
     private ArtifactEntry fetchArtifactEntry(RepositoryPath repositoryPath)
     {
         Repository repository = repositoryPath.getRepository();
@@ -1,6 +1,7 @@
 package org.carlspring.strongbox.providers.layout;
 
 import java.io.IOException;
+import java.util.Map;
 import java.util.Set;
 
 import javax.annotation.Nonnull;
@@ -20,10 +21,26 @@ public interface LayoutProvider<T extends ArtifactCoordinates>
     @Nonnull
     Set<String> listArchiveFilenames(RepositoryPath repositoryPath);
 
+    /**
+     * Reads the layout specific attributes of the artifact, which are stored
+     * with its `ArtifactEntry`, so that they are known without reading the
+     * artifact file again.
+     */
+    @Nonnull
+    Map<String, String> readArtifactAttributes(RepositoryPath repositoryPath);
+
     Set<String> getDefaultArtifactCoordinateValidators();
 
     String getAlias();
 
+    /**
+     * Parses new {@link ArtifactCoordinates} instance for the path, unlike
+     * `RepositoryFiles.readCoordinates()` which may return the instance shared
+     * with other paths.
+     */
+    T parseArtifactCoordinates(RepositoryPath repositoryPath)
+            throws IOException;
+
     @Nonnull
     Set<ArtifactGroup> getArtifactGroups(RepositoryPath path)
             throws IOException;
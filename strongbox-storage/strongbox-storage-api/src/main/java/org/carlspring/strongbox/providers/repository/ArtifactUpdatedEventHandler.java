@@ -3,17 +3,30 @@ package org.carlspring.strongbox.providers.repository;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.util.Date;
+import java.util.Map;
+import java.util.Set;
+
+import javax.inject.Inject;
 
 import org.carlspring.strongbox.artifact.AsyncArtifactEntryHandler;
+import org.carlspring.strongbox.domain.ArtifactArchiveListing;
 import org.carlspring.strongbox.domain.ArtifactEntry;
 import org.carlspring.strongbox.event.artifact.ArtifactEventTypeEnum;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.providers.layout.LayoutProvider;
+import org.carlspring.strongbox.providers.layout.LayoutProviderRegistry;
 import org.springframework.stereotype.Component;
 
 @Component
 public class ArtifactUpdatedEventHandler extends AsyncArtifactEntryHandler
 {
 
+    @Inject
+    private RepositorySizeTracker repositorySizeTracker;
+
+    @Inject
+    private LayoutProviderRegistry layoutProviderRegistry;
+
     public ArtifactUpdatedEventHandler()
     {
         super(ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_UPDATED);
@@ -26,7 +39,22 @@ public class ArtifactUpdatedEventHandler extends AsyncArtifactEntryHandler
         artifactEntry.setLastUpdated(new Date());
         
         long size = Files.size(repositoryPath);
+        repositorySizeTracker.onUpdated(repositoryPath.getRepository(), artifactEntry.getSizeInBytes(), size);
         artifactEntry.setSizeInBytes(size);
+
+        LayoutProvider layoutProvider = layoutProviderRegistry.getProvider(repositoryPath.getRepository().getLayout());
+
+        // The listing and the attributes stored with the overwritten archive are stale.
+        ArtifactArchiveListing artifactArchiveListing = artifactEntry.getArtifactArchiveListing();
+        if (artifactArchiveListing != null)
+        {
+            Set<String> archiveFilenames = layoutProvider.listArchiveFilenames(repositoryPath);
+            artifactArchiveListing.setFilenames(archiveFilenames);
+        }
+
+        Map<String, String> artifactAttributes = layoutProvider.readArtifactAttributes(repositoryPath);
+        artifactEntry.getArtifactAttributes().clear();
+        artifactEntry.getArtifactAttributes().putAll(artifactAttributes);
         
         return artifactEntry;
     }
@@ -1,6 +1,7 @@
 package org.carlspring.strongbox.providers.repository;
 
 
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -8,10 +9,13 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import javax.inject.Inject;
@@ -31,10 +35,13 @@ import org.carlspring.strongbox.providers.io.RepositoryFiles;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
 import org.carlspring.strongbox.providers.io.RepositoryPathResolver;
 import org.carlspring.strongbox.providers.repository.event.GroupRepositoryPathFetchEvent;
+import org.carlspring.strongbox.providers.repository.group.GroupRepositoryPathCache;
 import org.carlspring.strongbox.providers.repository.group.GroupRepositorySetCollector;
 import org.carlspring.strongbox.services.support.ArtifactRoutingRulesChecker;
 import org.carlspring.strongbox.storage.Storage;
 import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.storage.repository.RepositoryTypeEnum;
+import org.carlspring.strongbox.storage.repository.remote.heartbeat.RemoteRepositoryAlivenessService;
 import org.carlspring.strongbox.util.ThrowingFunction;
 
 import org.slf4j.Logger;
@@ -62,6 +69,12 @@ public class GroupRepositoryProvider
     @Inject
     private GroupRepositorySetCollector groupRepositorySetCollector;
 
+    @Inject
+    private GroupRepositoryPathCache groupRepositoryPathCache;
+
+    @Inject
+    private RemoteRepositoryAlivenessService remoteRepositoryAlivenessService;
+
     @PersistenceContext
     private EntityManager entityManager;
 
@@ -100,29 +113,40 @@ public class GroupRepositoryProvider
             throws IOException
     {
         Repository groupRepository = repositoryPath.getRepository();
-        Storage storage = groupRepository.getStorage();
+        String path = RepositoryFiles.relativizePath(repositoryPath);
+        long cacheVersion = groupRepositoryPathCache.getVersion();
 
-        // Iterate over the `repositories` collection.
-        for (String storageAndRepositoryId : groupRepository.getGroupRepositories())
+        // Start with the member which served the path last time.
+        String servedBy = groupRepositoryPathCache.getServedBy(groupRepository, path);
+        if (servedBy != null && groupRepository.getGroupRepositories().contains(servedBy))
         {
-            String sId = ConfigurationUtils.getStorageId(storage.getId(), storageAndRepositoryId);
-            String rId = ConfigurationUtils.getRepositoryId(storageAndRepositoryId);
+            RepositoryPath subRepositoryPath = resolvePathFromGroupMember(groupRepository, servedBy, repositoryPath,
+                                                                          cacheVersion);
+            if (subRepositoryPath != null)
+            {
+                logger.debug("Located artifact: [{}]", subRepositoryPath);
 
-            Repository subRepository = getConfiguration().getStorage(sId).getRepository(rId);
-            RepositoryPath subRepositoryPath = repositoryPathResolver.resolve(subRepository, repositoryPath);
+                return subRepositoryPath;
+            }
+        }
 
-            if (!isRepositoryResolvable(groupRepository, subRepository, subRepositoryPath))
+        // Iterate over the `repositories` collection.
+        for (String storageAndRepositoryId : groupRepository.getGroupRepositories())
+        {
+            if (storageAndRepositoryId.equals(servedBy))
             {
                 continue;
             }
 
-            subRepositoryPath = resolvePathFromGroupMemberOrTraverse(subRepositoryPath);
+            RepositoryPath subRepositoryPath = resolvePathFromGroupMember(groupRepository, storageAndRepositoryId,
+                                                                          repositoryPath, cacheVersion);
             if (subRepositoryPath == null)
             {
                 continue;
             }
 
             logger.debug("Located artifact: [{}]", subRepositoryPath);
+            groupRepositoryPathCache.putServedBy(groupRepository, path, storageAndRepositoryId, cacheVersion);
 
             return subRepositoryPath;
         }
@@ -130,6 +154,65 @@ public class GroupRepositoryProvider
         return null;
     }
 
+    private RepositoryPath resolvePathFromGroupMember(Repository groupRepository,
+                                                      String storageAndRepositoryId,
+                                                      RepositoryPath repositoryPath,
+                                                      long cacheVersion)
+            throws IOException
+    {
+        Storage storage = groupRepository.getStorage();
+        String sId = ConfigurationUtils.getStorageId(storage.getId(), storageAndRepositoryId);
+        String rId = ConfigurationUtils.getRepositoryId(storageAndRepositoryId);
+
+        Repository subRepository = getConfiguration().getStorage(sId).getRepository(rId);
+        RepositoryPath subRepositoryPath = repositoryPathResolver.resolve(subRepository, repositoryPath);
+
+        // Nested groups are cached by their own members.
+        boolean cacheable = !getAlias().equals(subRepository.getType());
+        String path = RepositoryFiles.relativizePath(subRepositoryPath);
+        if (cacheable && groupRepositoryPathCache.isNotFound(subRepository, path))
+        {
+            logger.debug("- Path [{}] was recently not found in [{}], skipping...",
+                         path, subRepository.getStorageIdAndRepositoryId());
+
+            return null;
+        }
+
+        if (!isRepositoryResolvable(groupRepository, subRepository, subRepositoryPath))
+        {
+            return null;
+        }
+
+        RepositoryPath result;
+        try
+        {
+            result = resolvePathFromGroupMemberOrTraverse(subRepositoryPath);
+        }
+        catch (IOException e)
+        {
+            // Not a miss, the member may have the path once it's available again.
+            logger.error("Failed to resolve path [{}]", subRepositoryPath);
+            return null;
+        }
+
+        if (result == null && cacheable && isRemoteAvailable(subRepository))
+        {
+            groupRepositoryPathCache.putNotFound(subRepository, path, cacheVersion);
+        }
+
+        return result;
+    }
+
+    /**
+     * The proxy repositories don't fetch anything while the remote repository
+     * is down, so their misses are not cached then.
+     */
+    private boolean isRemoteAvailable(Repository subRepository)
+    {
+        return !RepositoryTypeEnum.PROXY.getType().equals(subRepository.getType())
+               || remoteRepositoryAlivenessService.isAlive(subRepository.getRemoteRepository());
+    }
+
     private boolean isRepositoryResolvable(Repository groupRepository,
                                            Repository subRepository,
                                            RepositoryPath repositoryPath)
@@ -180,9 +263,9 @@ public class GroupRepositoryProvider
         {
             return (RepositoryPath) provider.fetchPath(repositoryPath);
         }
-        catch (IOException e)
+        catch (FileNotFoundException e)
         {
-            logger.error("Failed to resolve path [{}]", repositoryPath);
+            logger.debug("Path [{}] was not found", repositoryPath);
             return null;
         }
     }
@@ -216,6 +299,11 @@ public class GroupRepositoryProvider
             return new LinkedList<>();
         }
 
+        if (paginator.getCursor() != null)
+        {
+            return searchAfterCursor(groupRepositorySet, predicate, paginator);
+        }
+
         int skip = paginator.getSkip();
         int limit = paginator.getLimit();
 
@@ -280,11 +368,87 @@ public class GroupRepositoryProvider
         return resultList.subList(skip, toIndex);
     }
 
+    /**
+     * Keyset pagination of the group: the member repositories are searched
+     * after the cursor, and the member results are merged by `uuid`, which is
+     * the order of the cursor. Same coordinates are removed, so the members
+     * are searched again after the last merged `uuid` until the page has
+     * `limit` distinct coordinates, or the members have no more results.
+     * <br>
+     * The duplicates are removed within the page only: coordinates which were
+     * returned by a previous page can still be returned by the next ones.
+     */
+    private List<Path> searchAfterCursor(Set<Repository> groupRepositorySet,
+                                         Predicate predicate,
+                                         Paginator paginator)
+    {
+        int limit = paginator.getLimit();
+        String cursor = paginator.getCursor();
+
+        Function<Path, String> uuid = ThrowingFunction.unchecked(this::getUuid);
+        Function<Path, ArtifactCoordinates> coordinates = ThrowingFunction.unchecked(this::getArtifactCoordinates);
+
+        Set<Repository> members = new LinkedHashSet<>(groupRepositorySet);
+        Map<ArtifactCoordinates, Path> resultMap = new LinkedHashMap<>();
+        while (resultMap.size() < limit && !members.isEmpty())
+        {
+            Paginator paginatorLocal = new Paginator();
+            paginatorLocal.setLimit(limit);
+            paginatorLocal.setCursor(cursor);
+
+            TreeMap<String, Path> resultByUuid = new TreeMap<>();
+            // The members may have more results after the last `uuid` of
+            // their full page, so the merged results are complete up to the
+            // lowest of them.
+            String mergedUpTo = null;
+            for (Iterator<Repository> i = members.iterator(); i.hasNext(); )
+            {
+                Repository r = i.next();
+                RepositoryProvider repositoryProvider = repositoryProviderRegistry.getProvider(r.getType());
+
+                List<Path> repositoryResult = repositoryProvider.search(r.getStorage().getId(), r.getId(),
+                                                                        predicate, paginatorLocal);
+                if (repositoryResult.isEmpty())
+                {
+                    i.remove();
+                    continue;
+                }
+
+                repositoryResult.forEach(p -> resultByUuid.put(uuid.apply(p), p));
+
+                String lastUuid = uuid.apply(repositoryResult.get(repositoryResult.size() - 1));
+                if (repositoryResult.size() >= limit && (mergedUpTo == null || lastUuid.compareTo(mergedUpTo) < 0))
+                {
+                    mergedUpTo = lastUuid;
+                }
+            }
+
+            Map<String, Path> merged = mergedUpTo == null ? resultByUuid : resultByUuid.headMap(mergedUpTo, true);
+            for (Map.Entry<String, Path> e : merged.entrySet())
+            {
+                cursor = Paginator.toCursor(e.getKey());
+                resultMap.putIfAbsent(coordinates.apply(e.getValue()), e.getValue());
+
+                if (resultMap.size() >= limit)
+                {
+                    break;
+                }
+            }
+        }
+
+        return new LinkedList<>(resultMap.values());
+    }
+
     private ArtifactCoordinates getArtifactCoordinates(Path p) throws IOException
     {
         return RepositoryFiles.readCoordinates((RepositoryPath) p);
     }
 
+    private String getUuid(Path p) throws IOException
+    {
+        return ((RepositoryPath) p).getArtifactEntry().getUuid();
+    }
+
     @Override
     public Long count(String storageId,
                       String repositoryId,
@@ -5,12 +5,20 @@ import org.carlspring.strongbox.data.criteria.Paginator;
 import org.carlspring.strongbox.data.criteria.Predicate;
 import org.carlspring.strongbox.domain.ArtifactEntry;
 import org.carlspring.strongbox.domain.RemoteArtifactEntry;
+import org.carlspring.strongbox.io.LazyInputStream;
+import org.carlspring.strongbox.io.RepositoryStreamReadContext;
+import org.carlspring.strongbox.io.StreamUtils;
 import org.carlspring.strongbox.providers.io.AbstractRepositoryProvider;
 import org.carlspring.strongbox.providers.io.RepositoryFiles;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
 import org.carlspring.strongbox.providers.io.RepositoryPathLock;
+import org.carlspring.strongbox.providers.io.RepositoryStreamSupport;
+import org.carlspring.strongbox.providers.io.RepositoryStreamSupport.RepositoryInputStream;
 import org.carlspring.strongbox.providers.repository.event.ProxyRepositoryPathExpiredEvent;
 import org.carlspring.strongbox.providers.repository.event.RemoteRepositorySearchEvent;
+import org.carlspring.strongbox.providers.repository.proxied.InFlightRemoteArtifact;
+import org.carlspring.strongbox.providers.repository.proxied.InFlightRemoteArtifact.InFlightInputStream;
+import org.carlspring.strongbox.providers.repository.proxied.InFlightRemoteArtifactRegistry;
 import org.carlspring.strongbox.providers.repository.proxied.ProxyRepositoryArtifactResolver;
 
 import javax.inject.Inject;
@@ -20,6 +28,7 @@ import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 
@@ -49,6 +58,9 @@ public class ProxyRepositoryProvider
     @Inject
     private RepositoryPathLock repositoryPathLock;
 
+    @Inject
+    private InFlightRemoteArtifactRegistry inFlightRemoteArtifactRegistry;
+
     @Override
     public String getAlias()
     {
@@ -59,7 +71,71 @@ public class ProxyRepositoryProvider
     protected InputStream getInputStreamInternal(RepositoryPath path)
         throws IOException
     {
-        return hostedRepositoryProvider.getInputStreamInternal(path);
+        InFlightRemoteArtifact download = inFlightRemoteArtifactRegistry.get(path);
+        InputStream is = download == null ? null : download.newInputStream(repositoryPathLock.lock(path));
+        if (is == null)
+        {
+            return hostedRepositoryProvider.getInputStreamInternal(path);
+        }
+
+        logger.debug("Attached to the download in progress [{}].", path);
+
+        // `RepositoryInputStream` expects the `LazyInputStream` source.
+        LazyInputStream result = new LazyInputStream(() -> is);
+        result.init();
+
+        return result;
+    }
+
+    @Override
+    protected RepositoryInputStream decorate(RepositoryPath repositoryPath,
+                                             InputStream is)
+        throws IOException
+    {
+        InFlightInputStream inFlightInputStream = is == null ? null
+                : StreamUtils.findSource(InFlightInputStream.class, is);
+        if (inFlightInputStream == null)
+        {
+            return super.decorate(repositoryPath, is);
+        }
+
+        // The file being written is guarded by the write lock of the download,
+        // and the stream takes the read lock of the path itself, if it has to
+        // read the stored artifact.
+        RepositoryStreamSupport streamSupport = new RepositoryStreamSupport(inFlightInputStream.getLockSource(), this)
+        {
+
+            @Override
+            protected boolean artifactExists(RepositoryPath path)
+            {
+                return true;
+            }
+
+        };
+
+        return decorate(repositoryPath, is, streamSupport);
+    }
+
+    @Override
+    public void onBeforeRead(RepositoryStreamReadContext ctx)
+        throws IOException
+    {
+        if (StreamUtils.findSource(InFlightInputStream.class, ctx.getStream()) != null)
+        {
+            RepositoryPath repositoryPath = (RepositoryPath) ctx.getPath();
+            logger.debug("Reading the download in progress [{}]", repositoryPath);
+
+            // The artifact is not stored yet, so there is nothing to check,
+            // but the download still counts.
+            if (RepositoryFiles.isArtifact(repositoryPath))
+            {
+                artifactEventListenerRegistry.dispatchArtifactDownloadingEvent(repositoryPath);
+            }
+
+            return;
+        }
+
+        super.onBeforeRead(ctx);
     }
 
     @Override
@@ -68,7 +144,11 @@ public class ProxyRepositoryProvider
     {
         RepositoryPath targetPath = hostedRepositoryProvider.fetchPath(repositoryPath);
 
-        if (targetPath == null)
+        if (targetPath == null && inFlightRemoteArtifactRegistry.isEnabled())
+        {
+            targetPath = resolvePathStreaming(repositoryPath);
+        }
+        else if (targetPath == null)
         {
             targetPath = resolvePathExclusive(repositoryPath);
         }
@@ -113,6 +193,64 @@ public class ProxyRepositoryProvider
         }
     }
 
+    private RepositoryPath resolvePathStreaming(RepositoryPath repositoryPath)
+            throws IOException
+    {
+        InFlightRemoteArtifact download = inFlightRemoteArtifactRegistry.get(repositoryPath);
+        boolean rejected = false;
+        if (download == null)
+        {
+            ReadWriteLock lockSource = repositoryPathLock.lock(repositoryPath, "pre-remote-fetch");
+            Lock lock = lockSource.writeLock();
+            lock.lock();
+
+            try
+            {
+                // Things might have changed while we were waiting for the lock.
+                RepositoryPath targetPath = hostedRepositoryProvider.fetchPath(repositoryPath);
+                if (targetPath != null)
+                {
+                    return targetPath;
+                }
+                download = proxyRepositoryArtifactResolver.streamRemoteResource(repositoryPath);
+            }
+            catch (RejectedExecutionException e)
+            {
+                rejected = true;
+            }
+            finally
+            {
+                lock.unlock();
+            }
+        }
+
+        if (rejected)
+        {
+            logger.debug("Fall back to the exclusive fetch of [{}].", repositoryPath);
+
+            return resolvePathExclusive(repositoryPath);
+        }
+
+        if (download == null)
+        {
+            return null;
+        }
+
+        try
+        {
+            download.awaitStarted();
+        }
+        catch (IOException e)
+        {
+            logger.error("Failed to resolve Path for proxied artifact [{}]",
+                         repositoryPath, e);
+
+            throw e;
+        }
+
+        return repositoryPath;
+    }
+
     @Override
     protected OutputStream getOutputStreamInternal(RepositoryPath repositoryPath)
             throws IOException
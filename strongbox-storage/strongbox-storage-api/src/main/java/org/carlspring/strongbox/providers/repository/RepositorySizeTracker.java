@@ -0,0 +1,96 @@
+package org.carlspring.strongbox.providers.repository;
+
+import org.carlspring.strongbox.domain.ArtifactEntry;
+import org.carlspring.strongbox.domain.RemoteArtifactEntry;
+import org.carlspring.strongbox.services.ArtifactEntryService;
+import org.carlspring.strongbox.storage.repository.Repository;
+
+import javax.inject.Inject;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the total size of the stored artifacts of each repository, so that it
+ * is known without walking the repository directories.
+ * <br>
+ * The size of a repository is summed up from its {@link ArtifactEntry}-s once,
+ * when it's requested for the first time, and then it's only changed on the
+ * artifacts stored and deleted from then on.
+ * <br>
+ * The sizes are in-memory state of this node only. In a clustered deployment
+ * the artifacts stored and deleted on the other nodes are not counted here, so
+ * the size drifts from the actual one until the node is restarted, and the
+ * cache quota is enforced on a wrong size.
+ */
+@Component
+public class RepositorySizeTracker
+{
+
+    @Inject
+    private ArtifactEntryService artifactEntryService;
+
+    /**
+     * Keys are `storageId:repositoryId`.
+     */
+    private final Map<String, AtomicLong> sizes = new ConcurrentHashMap<>();
+
+    public long getSize(Repository repository)
+    {
+        return sizes.computeIfAbsent(getKey(repository),
+                                     k -> new AtomicLong(artifactEntryService.sumSizeInBytes(repository.getStorage()
+                                                                                                       .getId(),
+                                                                                             repository.getId())))
+                    .get();
+    }
+
+    public void onStored(Repository repository,
+                         long sizeInBytes)
+    {
+        add(repository, sizeInBytes);
+    }
+
+    public void onUpdated(Repository repository,
+                          Long oldSizeInBytes,
+                          long sizeInBytes)
+    {
+        add(repository, sizeInBytes - (oldSizeInBytes != null ? oldSizeInBytes : 0));
+    }
+
+    public void onDeleted(Repository repository,
+                          ArtifactEntry artifactEntry)
+    {
+        if (artifactEntry.getSizeInBytes() == null)
+        {
+            return;
+        }
+
+        // Not counted, see `ArtifactEntryService#sumSizeInBytes`.
+        if (artifactEntry instanceof RemoteArtifactEntry
+            && !Boolean.TRUE.equals(((RemoteArtifactEntry) artifactEntry).getIsCached()))
+        {
+            return;
+        }
+
+        add(repository, -artifactEntry.getSizeInBytes());
+    }
+
+    private void add(Repository repository,
+                     long delta)
+    {
+        // Not summed up yet, the new size will be summed up with the rest.
+        sizes.computeIfPresent(getKey(repository), (k, size) -> {
+            size.addAndGet(delta);
+
+            return size;
+        });
+    }
+
+    private String getKey(Repository repository)
+    {
+        return repository.getStorage().getId() + ":" + repository.getId();
+    }
+
+}
@@ -0,0 +1,179 @@
+package org.carlspring.strongbox.providers.repository.group;
+
+import org.carlspring.strongbox.event.artifact.ArtifactEvent;
+import org.carlspring.strongbox.event.artifact.ArtifactEventTypeEnum;
+import org.carlspring.strongbox.providers.io.RepositoryFiles;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.storage.repository.Repository;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Remembers the results of group repository path resolution:
+ * <ul>
+ * <li>the group member repositories which don't have the path, so that they
+ * are not probed again (including remote requests of the proxy
+ * repositories), unless the member failed or its remote repository was
+ * unavailable;</li>
+ * <li>the group member repository which served the path last time, so that
+ * the group resolution can start with it.</li>
+ * </ul>
+ * Entries expire after `strongbox.group.pathCache.ttlSeconds`, and are
+ * invalidated by the {@link ArtifactEvent}s of the stored, fetched and deleted
+ * paths.
+ */
+@Component
+public class GroupRepositoryPathCache
+        implements InitializingBean
+{
+
+    @Value("${strongbox.group.pathCache.ttlSeconds:60}")
+    private int ttlSeconds;
+
+    @Value("${strongbox.group.pathCache.maxSize:100000}")
+    private int maxSize;
+
+    /**
+     * Keys are `storageId:repositoryId:path` of the member repository paths
+     * which were not found.
+     */
+    private Cache<String, Boolean> notFound;
+
+    /**
+     * Keys are the paths, values are the group member entries (as listed in
+     * the group repository configuration) which served the path, per group
+     * repository.
+     */
+    private Cache<String, Map<String, String>> servedBy;
+
+    /**
+     * Incremented on each invalidation, so that the resolution which was
+     * started before the path was stored doesn't put stale entries.
+     */
+    private final AtomicLong version = new AtomicLong();
+
+    @Override
+    public void afterPropertiesSet()
+    {
+        notFound = CacheBuilder.newBuilder()
+                               .maximumSize(maxSize)
+                               .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                               .build();
+        servedBy = CacheBuilder.newBuilder()
+                               .maximumSize(maxSize)
+                               .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                               .build();
+    }
+
+    public long getVersion()
+    {
+        return version.get();
+    }
+
+    public boolean isNotFound(Repository subRepository,
+                              String path)
+    {
+        return notFound.getIfPresent(notFoundKey(subRepository, path)) != null;
+    }
+
+    public void putNotFound(Repository subRepository,
+                            String path,
+                            long expectedVersion)
+    {
+        String key = notFoundKey(subRepository, path);
+        notFound.put(key, Boolean.TRUE);
+
+        // Stored concurrently with the resolution.
+        if (version.get() != expectedVersion)
+        {
+            notFound.invalidate(key);
+        }
+    }
+
+    public String getServedBy(Repository groupRepository,
+                              String path)
+    {
+        Map<String, String> groups = servedBy.getIfPresent(path);
+
+        return groups == null ? null : groups.get(groupRepository.getStorageIdAndRepositoryId());
+    }
+
+    public void putServedBy(Repository groupRepository,
+                            String path,
+                            String storageAndRepositoryId,
+                            long expectedVersion)
+    {
+        Map<String, String> groups;
+        try
+        {
+            groups = servedBy.get(path, ConcurrentHashMap::new);
+        }
+        catch (ExecutionException e)
+        {
+            // `ConcurrentHashMap::new` doesn't throw.
+            throw new IllegalStateException(e);
+        }
+        groups.put(groupRepository.getStorageIdAndRepositoryId(), storageAndRepositoryId);
+
+        // Stored concurrently with the resolution.
+        if (version.get() != expectedVersion)
+        {
+            servedBy.invalidate(path);
+        }
+    }
+
+    public void invalidate(RepositoryPath repositoryPath)
+    {
+        version.incrementAndGet();
+
+        String path = RepositoryFiles.relativizePath(repositoryPath);
+        notFound.invalidate(notFoundKey(repositoryPath.getRepository(), path));
+        // The path may now be served by the member which goes before.
+        servedBy.invalidate(path);
+    }
+
+    @EventListener
+    public void handle(final ArtifactEvent<RepositoryPath> event)
+    {
+        if (!isPathChanged(event.getType()))
+        {
+            return;
+        }
+
+        invalidate(event.getPath());
+        if (event.getTargetPath() != null)
+        {
+            invalidate(event.getTargetPath());
+        }
+    }
+
+    private boolean isPathChanged(int type)
+    {
+        return type == ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_STORED.getType()
+               || type == ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_UPDATED.getType()
+               || type == ArtifactEventTypeEnum.EVENT_ARTIFACT_METADATA_STORED.getType()
+               || type == ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_FETCHED_FROM_REMOTE.getType()
+               || type == ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_COPIED.getType()
+               || type == ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_MOVED.getType()
+               || type == ArtifactEventTypeEnum.EVENT_ARTIFACT_PATH_DELETED.getType();
+    }
+
+    private String notFoundKey(Repository subRepository,
+                               String path)
+    {
+        return subRepository.getStorageIdAndRepositoryId() + ":" + path;
+    }
+
+}
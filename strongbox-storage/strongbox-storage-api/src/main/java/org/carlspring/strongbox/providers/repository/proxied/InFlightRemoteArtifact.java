@@ -0,0 +1,488 @@
+package org.carlspring.strongbox.providers.repository.proxied;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+
+import org.carlspring.strongbox.providers.io.RepositoryFiles;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.providers.io.TempRepositoryPath;
+
+/**
+ * Represents the remote artifact download which is currently in progress.
+ * <br>
+ * The remote bytes are stored as usual, into the {@link TempRepositoryPath}
+ * first, and the readers tail that file while it's being written, so that
+ * they don't wait for the whole artifact to be stored. The download only
+ * signals the progress of the remote bytes, there is no other copy of them.
+ * <br>
+ * The file being written is guarded by the write lock of the path, which the
+ * download holds until the artifact is stored. The readers which attach once
+ * it's stored read the artifact under the read lock of the path instead, see
+ * {@link InFlightInputStream}.
+ * <br>
+ * An open file is still readable once it's moved (or deleted) by the store,
+ * which is also the case on Windows, as NIO opens the files with
+ * `FILE_SHARE_DELETE`.
+ *
+ * @see InFlightRemoteArtifactRegistry
+ */
+public class InFlightRemoteArtifact
+{
+
+    private static final long AWAIT_TIMEOUT_MILLIS = 1000L;
+
+    private final RepositoryPath repositoryPath;
+
+    private final Path tempPath;
+
+    private final Path storedPath;
+
+    private volatile long contentLength = -1;
+
+    private boolean started;
+
+    /**
+     * Number of the remote bytes read so far.
+     */
+    private long length;
+
+    private boolean completed;
+
+    private IOException failure;
+
+    private boolean released;
+
+    public InFlightRemoteArtifact(RepositoryPath repositoryPath)
+        throws IOException
+    {
+        this(repositoryPath, RepositoryFiles.temporary(repositoryPath), repositoryPath);
+    }
+
+    InFlightRemoteArtifact(RepositoryPath repositoryPath,
+                           Path tempPath,
+                           Path storedPath)
+    {
+        this.repositoryPath = repositoryPath;
+        this.tempPath = tempPath;
+        this.storedPath = storedPath;
+    }
+
+    public RepositoryPath getRepositoryPath()
+    {
+        return repositoryPath;
+    }
+
+    /**
+     * @return the remote content length, or `-1` if remote did not provide it.
+     */
+    public long getContentLength()
+    {
+        return contentLength;
+    }
+
+    synchronized void start(long contentLength)
+    {
+        this.contentLength = contentLength;
+        started = true;
+        notifyAll();
+    }
+
+    /**
+     * Waits until the remote connection established.
+     *
+     * @throws IOException
+     *             if remote connection failed
+     */
+    public synchronized void awaitStarted()
+        throws IOException
+    {
+        while (!started && failure == null)
+        {
+            await();
+        }
+
+        if (failure != null && length == 0)
+        {
+            throw failure;
+        }
+    }
+
+    /**
+     * @return the remote bytes, which notify the readers as they are read.
+     */
+    InputStream tee(InputStream source)
+    {
+        return new FilterInputStream(source)
+        {
+
+            @Override
+            public int read()
+                throws IOException
+            {
+                int b = super.read();
+                if (b != -1)
+                {
+                    progress(1);
+                }
+                return b;
+            }
+
+            @Override
+            public int read(byte[] b,
+                            int off,
+                            int len)
+                throws IOException
+            {
+                int n = super.read(b, off, len);
+                if (n > 0)
+                {
+                    progress(n);
+                }
+                return n;
+            }
+
+        };
+    }
+
+    private synchronized void progress(int n)
+    {
+        length += n;
+        notifyAll();
+    }
+
+    /**
+     * Called once the artifact was stored.
+     */
+    synchronized void complete()
+    {
+        completed = true;
+        notifyAll();
+    }
+
+    synchronized void fail(IOException e)
+    {
+        failure = e;
+        notifyAll();
+    }
+
+    /**
+     * Called once the artifact was stored (or failed) and new readers should
+     * use the repository storage.
+     */
+    synchronized void release()
+    {
+        released = true;
+    }
+
+    /**
+     * @param lockSource
+     *            the lock of the path, which is read locked if the reader has
+     *            to read the stored artifact
+     * @return new {@link InputStream} positioned at the start of the artifact,
+     *         or `null` if the download already released it.
+     */
+    public synchronized InFlightInputStream newInputStream(ReadWriteLock lockSource)
+    {
+        if (released)
+        {
+            return null;
+        }
+
+        return new InFlightInputStream(lockSource.readLock());
+    }
+
+    private void await()
+        throws InterruptedIOException
+    {
+        try
+        {
+            wait(AWAIT_TIMEOUT_MILLIS);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(String.format("Interrupted while waiting for [%s].", repositoryPath));
+        }
+    }
+
+    private IOException readFailure()
+    {
+        return new IOException(String.format("Failed to fetch [%s].", repositoryPath), failure);
+    }
+
+    /**
+     * Reads the file being written, blocking while the remote bytes are not
+     * stored yet, or the stored artifact if the download is complete before
+     * the reader opened the file being written.
+     * <br>
+     * Unlike the other repository streams, it's not locked when it's
+     * opened, but once it has to read the stored artifact, see
+     * {@link #getLockSource()}.
+     */
+    public class InFlightInputStream extends InputStream
+    {
+
+        private final Lock storedReadLock;
+
+        private boolean storedReadLocked;
+
+        private FileChannel channel;
+
+        private long position;
+
+        private InFlightInputStream(Lock storedReadLock)
+        {
+            this.storedReadLock = storedReadLock;
+        }
+
+        /**
+         * @return the lock of the stream, to be used instead of the path lock
+         *         by the {@code RepositoryStreamSupport}: the read lock of the
+         *         path is taken by the stream itself, and released once it's
+         *         unlocked (or closed).
+         */
+        public ReadWriteLock getLockSource()
+        {
+            Lock readLock = new StoredReadLock();
+
+            return new ReadWriteLock()
+            {
+
+                @Override
+                public Lock readLock()
+                {
+                    return readLock;
+                }
+
+                @Override
+                public Lock writeLock()
+                {
+                    throw new UnsupportedOperationException();
+                }
+
+            };
+        }
+
+        @Override
+        public int read()
+            throws IOException
+        {
+            byte[] b = new byte[1];
+            int n = read(b, 0, 1);
+
+            return n == -1 ? -1 : b[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b,
+                        int off,
+                        int len)
+            throws IOException
+        {
+            if (len == 0)
+            {
+                return 0;
+            }
+
+            FileChannel channel = getChannel();
+            long available = awaitAvailable(channel);
+            if (available <= 0)
+            {
+                return -1;
+            }
+
+            ByteBuffer buffer = ByteBuffer.wrap(b, off, (int) Math.min(len, available));
+            int n = channel.read(buffer, position);
+            position += n;
+
+            return n;
+        }
+
+        @Override
+        public int available()
+            throws IOException
+        {
+            return channel == null ? 0 : (int) Math.min(Integer.MAX_VALUE, Math.max(channel.size() - position, 0));
+        }
+
+        /**
+         * The file being written is opened once the remote bytes are being
+         * read by the store, so it's not the previous (truncated) file.
+         */
+        private FileChannel getChannel()
+            throws IOException
+        {
+            while (channel == null)
+            {
+                boolean stored;
+                synchronized (InFlightRemoteArtifact.this)
+                {
+                    while (failure == null && !completed && length == 0)
+                    {
+                        await();
+                    }
+                    if (failure != null)
+                    {
+                        throw readFailure();
+                    }
+                    stored = completed;
+                }
+
+                if (stored)
+                {
+                    return channel = openStored();
+                }
+
+                try
+                {
+                    channel = FileChannel.open(tempPath, StandardOpenOption.READ);
+                }
+                catch (NoSuchFileException e)
+                {
+                    // Moved to the stored artifact (or failed) in the meantime.
+                    awaitDone();
+                }
+            }
+
+            return channel;
+        }
+
+        private FileChannel openStored()
+            throws IOException
+        {
+            storedReadLock.lock();
+            storedReadLocked = true;
+
+            return FileChannel.open(storedPath, StandardOpenOption.READ);
+        }
+
+        private void awaitDone()
+            throws IOException
+        {
+            synchronized (InFlightRemoteArtifact.this)
+            {
+                while (failure == null && !completed)
+                {
+                    await();
+                }
+            }
+        }
+
+        /**
+         * The file size is what was already written, the store only appends
+         * to it.
+         */
+        private long awaitAvailable(FileChannel channel)
+            throws IOException
+        {
+            while (true)
+            {
+                long size = channel.size();
+                if (size > position)
+                {
+                    return size - position;
+                }
+
+                synchronized (InFlightRemoteArtifact.this)
+                {
+                    if (failure != null)
+                    {
+                        throw readFailure();
+                    }
+                    if (completed)
+                    {
+                        // All the bytes were written before it was completed.
+                        return channel.size() - position;
+                    }
+
+                    await();
+                }
+            }
+        }
+
+        @Override
+        public void close()
+            throws IOException
+        {
+            try
+            {
+                if (channel != null)
+                {
+                    channel.close();
+                }
+            }
+            finally
+            {
+                unlockStored();
+            }
+        }
+
+        private void unlockStored()
+        {
+            if (!storedReadLocked)
+            {
+                return;
+            }
+            storedReadLocked = false;
+
+            storedReadLock.unlock();
+        }
+
+        /**
+         * Nothing to lock when the stream is opened, the read lock of the
+         * path is taken (if needed) when the stream is read.
+         */
+        private class StoredReadLock implements Lock
+        {
+
+            @Override
+            public void lock()
+            {
+            }
+
+            @Override
+            public void lockInterruptibly()
+            {
+            }
+
+            @Override
+            public boolean tryLock()
+            {
+                return true;
+            }
+
+            @Override
+            public boolean tryLock(long time,
+                                   TimeUnit unit)
+            {
+                return true;
+            }
+
+            @Override
+            public void unlock()
+            {
+                unlockStored();
+            }
+
+            @Override
+            public Condition newCondition()
+            {
+                throw new UnsupportedOperationException();
+            }
+
+        }
+
+    }
+
+}
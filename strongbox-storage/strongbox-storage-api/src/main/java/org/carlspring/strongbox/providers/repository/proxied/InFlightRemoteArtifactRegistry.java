@@ -0,0 +1,148 @@
+package org.carlspring.strongbox.providers.repository.proxied;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps track of the proxy repository downloads which are currently in
+ * progress, so that concurrent requests of the same path could attach to the
+ * download instead of waiting for it to complete.
+ * <br>
+ * Streaming ("tee") mode is disabled by default and can be enabled with
+ * `strongbox.proxy.streaming.enabled` property. The downloads are executed by
+ * `strongbox.proxy.streaming.threads` threads, and at most
+ * `strongbox.proxy.streaming.queueSize` of them can wait for a thread, the
+ * rest are rejected.
+ *
+ * @see InFlightRemoteArtifact
+ */
+@Component
+public class InFlightRemoteArtifactRegistry
+        implements InitializingBean, DisposableBean
+{
+
+    private static final Logger logger = LoggerFactory.getLogger(InFlightRemoteArtifactRegistry.class);
+
+    private final Map<URI, InFlightRemoteArtifact> inFlight = new ConcurrentHashMap<>();
+
+    @Value("${strongbox.proxy.streaming.enabled:false}")
+    private boolean enabled;
+
+    @Value("${strongbox.proxy.streaming.threads:16}")
+    private int threads;
+
+    @Value("${strongbox.proxy.streaming.queueSize:256}")
+    private int queueSize;
+
+    private ExecutorService executor;
+
+    @Override
+    public void afterPropertiesSet()
+    {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads,
+                                          threads,
+                                          0L,
+                                          TimeUnit.MILLISECONDS,
+                                          new ArrayBlockingQueue<>(queueSize),
+                                          r -> {
+                                              Thread thread = new Thread(r,
+                                                                         String.format("remote-fetch-%s",
+                                                                                       threadNumber.incrementAndGet()));
+                                              thread.setDaemon(true);
+
+                                              return thread;
+                                          });
+    }
+
+    @Override
+    public void destroy()
+    {
+        executor.shutdown();
+    }
+
+    public boolean isEnabled()
+    {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled)
+    {
+        this.enabled = enabled;
+    }
+
+    public InFlightRemoteArtifact get(RepositoryPath repositoryPath)
+    {
+        return inFlight.get(repositoryPath.toUri());
+    }
+
+    /**
+     * Registers the download and executes it in background.
+     *
+     * @return the download which is already in progress for the same path, or
+     *         `null` if the provided one was registered.
+     * @throws RejectedExecutionException
+     *             if there are too many downloads waiting for a thread, the
+     *             provided download is failed and unregistered then
+     */
+    InFlightRemoteArtifact submit(InFlightRemoteArtifact download,
+                                  Runnable task)
+    {
+        URI key = download.getRepositoryPath().toUri();
+        InFlightRemoteArtifact existing = inFlight.putIfAbsent(key, download);
+        if (existing != null)
+        {
+            download.release();
+
+            return existing;
+        }
+
+        logger.debug("Start streaming [{}].", key);
+        try
+        {
+            executor.execute(() -> {
+                try
+                {
+                    task.run();
+                }
+                finally
+                {
+                    inFlight.remove(key, download);
+                    download.release();
+
+                    logger.debug("Complete streaming [{}].", key);
+                }
+            });
+        }
+        catch (RejectedExecutionException e)
+        {
+            logger.warn("Too many downloads in progress, rejected streaming [{}].", key);
+
+            // Readers might have attached to it already.
+            inFlight.remove(key, download);
+            download.fail(new IOException(String.format("Rejected streaming [%s].", key), e));
+            download.release();
+
+            throw e;
+        }
+
+        return null;
+    }
+
+}
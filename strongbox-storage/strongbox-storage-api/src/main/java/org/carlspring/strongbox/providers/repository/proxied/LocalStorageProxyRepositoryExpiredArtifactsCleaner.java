@@ -5,6 +5,7 @@ import org.carlspring.strongbox.data.service.support.search.PagingCriteria;
 import org.carlspring.strongbox.domain.ArtifactEntry;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
 import org.carlspring.strongbox.providers.io.RepositoryPathResolver;
+import org.carlspring.strongbox.providers.repository.RepositorySizeTracker;
 import org.carlspring.strongbox.services.ArtifactEntryService;
 import org.carlspring.strongbox.services.ArtifactManagementService;
 import org.carlspring.strongbox.services.support.ArtifactEntrySearchCriteria;
@@ -15,17 +16,28 @@ import org.carlspring.strongbox.storage.repository.remote.heartbeat.RemoteReposi
 
 import javax.inject.Inject;
 import java.io.IOException;
-import java.util.Iterator;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayList;
 import java.util.List;
 
-import org.apache.commons.collections4.CollectionUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 import static org.carlspring.strongbox.services.support.ArtifactEntrySearchCriteria.Builder.anArtifactEntrySearchCriteria;
 
 /**
+ * Deletes the cached artifacts of the proxy repositories, either the expired
+ * ones or the least recently used ones of the repositories which exceed their
+ * {@link RemoteRepository#getCacheQuotaInBytes()}.
+ * <br>
+ * The artifacts are read in keyset pages and deleted in small batches, each
+ * one in its own transaction, so the memory use and the transaction size don't
+ * depend on the size of the cache.
+ *
  * @author Przemyslaw Fusik
  */
 @Component
@@ -49,7 +61,22 @@ public class LocalStorageProxyRepositoryExpiredArtifactsCleaner
     @Inject
     private ArtifactManagementService artifactManagementService;
 
-    @Transactional(rollbackFor = Exception.class)
+    @Inject
+    private RepositorySizeTracker repositorySizeTracker;
+
+    @Inject
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${strongbox.proxy.cleanup.batchSize:100}")
+    private int batchSize;
+
+    /**
+     * The part of the quota which the repository is cleaned up to, once it
+     * exceeds the quota.
+     */
+    @Value("${strongbox.proxy.cacheQuota.highWaterMark:0.9}")
+    private double highWaterMark;
+
     public void cleanup(final Integer lastAccessedTimeInDays,
                         final Long minSizeInBytes)
             throws IOException
@@ -59,64 +86,171 @@ public class LocalStorageProxyRepositoryExpiredArtifactsCleaner
                                                                    .withMinSizeInBytes(minSizeInBytes)
                                                                    .build();
 
-        final List<ArtifactEntry> artifactEntries = artifactEntryService.findMatching(searchCriteria,
-                                                                                      PagingCriteria.ALL);
-        filterAccessibleProxiedArtifacts(artifactEntries);
-
-        if (CollectionUtils.isEmpty(artifactEntries))
+        String lastArtifactEntryUuid = null;
+        List<ArtifactEntry> artifactEntries;
+        do
         {
-            return;
-        }
+            artifactEntries = artifactEntryService.findMatching(searchCriteria,
+                                                                new PagingCriteria(lastArtifactEntryUuid, batchSize));
+            if (artifactEntries.isEmpty())
+            {
+                break;
+            }
+            lastArtifactEntryUuid = artifactEntries.get(artifactEntries.size() - 1).getUuid();
+
+            final List<ArtifactEntry> expiredArtifactEntries = new ArrayList<>();
+            for (final ArtifactEntry artifactEntry : artifactEntries)
+            {
+                if (isAccessibleProxyRepository(getRepository(artifactEntry)))
+                {
+                    expiredArtifactEntries.add(artifactEntry);
+                }
+            }
 
-        logger.debug("Cleaning artifacts {}", artifactEntries);
-        deleteFromStorage(artifactEntries);
+            logger.debug("Cleaning artifacts {}", expiredArtifactEntries);
+            deleteFromStorage(expiredArtifactEntries);
+        }
+        while (artifactEntries.size() == batchSize);
     }
 
-    private void filterAccessibleProxiedArtifacts(final List<ArtifactEntry> artifactEntries)
+    /**
+     * Deletes the least recently used artifacts of the proxy repositories which
+     * exceed their quota, until they are under the high-water mark.
+     */
+    public void evictOverQuota()
+            throws IOException
     {
-        if (CollectionUtils.isEmpty(artifactEntries))
+        for (final Storage storage : configurationManager.getConfiguration().getStorages().values())
         {
-            return;
-        }
-        for (final Iterator<ArtifactEntry> it = artifactEntries.iterator(); it.hasNext(); )
-        {
-            final ArtifactEntry artifactEntry = it.next();
-            final Storage storage = configurationManager.getConfiguration().getStorage(artifactEntry.getStorageId());
-            final Repository repository = storage.getRepository(artifactEntry.getRepositoryId());
-            if (!repository.isProxyRepository())
+            for (final Repository repository : storage.getRepositories().values())
             {
-                it.remove();
-                continue;
+                if (!repository.isProxyRepository()
+                    || repository.getRemoteRepository() == null
+                    || repository.getRemoteRepository().getCacheQuotaInBytes() == null)
+                {
+                    continue;
+                }
+
+                final long quota = repository.getRemoteRepository().getCacheQuotaInBytes();
+                if (repositorySizeTracker.getSize(repository) <= quota || !isAccessibleProxyRepository(repository))
+                {
+                    continue;
+                }
+
+                evict(repository, (long) (quota * highWaterMark));
             }
-            final RemoteRepository remoteRepository = repository.getRemoteRepository();
-            if (remoteRepository == null)
+        }
+    }
+
+    private void evict(final Repository repository,
+                       final long targetSizeInBytes)
+            throws IOException
+    {
+        final String storageId = repository.getStorage().getId();
+        final String repositoryId = repository.getId();
+
+        long size = repositorySizeTracker.getSize(repository);
+        logger.info("Evicting artifacts of [{}:{}] from [{}] to [{}] bytes.",
+                    storageId, repositoryId, size, targetSizeInBytes);
+
+        ArtifactEntry lastArtifactEntry = null;
+        while (size > targetSizeInBytes)
+        {
+            final List<ArtifactEntry> artifactEntries = artifactEntryService.findLeastRecentlyUsed(storageId,
+                                                                                                   repositoryId,
+                                                                                                   lastArtifactEntry,
+                                                                                                   batchSize);
+            if (artifactEntries.isEmpty())
             {
-                logger.warn("Repository {} is not associated with remote repository", repository.getId());
-                it.remove();
-                continue;
+                break;
             }
-            if (!remoteRepositoryAlivenessCacheManager.isAlive(remoteRepository))
+            lastArtifactEntry = artifactEntries.get(artifactEntries.size() - 1);
+
+            // Only as many as needed to get under the target size.
+            final List<ArtifactEntry> evictedArtifactEntries = new ArrayList<>();
+            for (final ArtifactEntry artifactEntry : artifactEntries)
             {
-                logger.warn("Remote repository {} is down. Artifacts won't be cleaned up.", remoteRepository.getUrl());
-                it.remove();
-                continue;
+                if (size <= targetSizeInBytes)
+                {
+                    break;
+                }
+                evictedArtifactEntries.add(artifactEntry);
+                size -= artifactEntry.getSizeInBytes() != null ? artifactEntry.getSizeInBytes() : 0;
             }
+
+            logger.debug("Evicting artifacts {}", evictedArtifactEntries);
+            deleteFromStorage(evictedArtifactEntries);
+
+            size = repositorySizeTracker.getSize(repository);
         }
+    }
 
+    private boolean isAccessibleProxyRepository(final Repository repository)
+    {
+        if (!repository.isProxyRepository())
+        {
+            return false;
+        }
+        final RemoteRepository remoteRepository = repository.getRemoteRepository();
+        if (remoteRepository == null)
+        {
+            logger.warn("Repository {} is not associated with remote repository", repository.getId());
+            return false;
+        }
+        if (!remoteRepositoryAlivenessCacheManager.isAlive(remoteRepository))
+        {
+            logger.warn("Remote repository {} is down. Artifacts won't be cleaned up.", remoteRepository.getUrl());
+            return false;
+        }
+
+        return true;
     }
 
+    /**
+     * Deletes the artifacts in a new transaction, which is committed once
+     * they are all deleted.
+     */
     private void deleteFromStorage(final List<ArtifactEntry> artifactEntries)
             throws IOException
     {
-        for (final ArtifactEntry artifactEntry : artifactEntries)
+        if (artifactEntries.isEmpty())
+        {
+            return;
+        }
+
+        final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        try
         {
-            final Storage storage = configurationManager.getConfiguration().getStorage(artifactEntry.getStorageId());
-            final Repository repository = storage.getRepository(artifactEntry.getRepositoryId());
-            
-            RepositoryPath repositoryPath = repositoryPathResolver.resolve(repository).resolve(artifactEntry);
+            transactionTemplate.execute(t -> {
+                for (final ArtifactEntry artifactEntry : artifactEntries)
+                {
+                    final RepositoryPath repositoryPath = repositoryPathResolver.resolve(getRepository(artifactEntry))
+                                                                                .resolve(artifactEntry);
+                    try
+                    {
+                        artifactManagementService.delete(repositoryPath, true);
+                    }
+                    catch (IOException e)
+                    {
+                        throw new UndeclaredThrowableException(e);
+                    }
+                }
 
-            artifactManagementService.delete(repositoryPath, true);
+                return null;
+            });
         }
+        catch (UndeclaredThrowableException e)
+        {
+            throw (IOException) e.getUndeclaredThrowable();
+        }
+    }
+
+    private Repository getRepository(final ArtifactEntry artifactEntry)
+    {
+        final Storage storage = configurationManager.getConfiguration().getStorage(artifactEntry.getStorageId());
+
+        return storage.getRepository(artifactEntry.getRepositoryId());
     }
 
 }
@@ -12,8 +12,10 @@ import javax.inject.Inject;
 import org.carlspring.strongbox.client.RestArtifactResolver;
 import org.carlspring.strongbox.event.artifact.ArtifactEventListenerRegistry;
 import org.carlspring.strongbox.providers.io.RepositoryFileAttributes;
+import org.carlspring.strongbox.providers.io.RepositoryFiles;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
 import org.carlspring.strongbox.providers.io.RepositoryPathLock;
+import org.carlspring.strongbox.providers.io.RepositoryPathResolver;
 import org.carlspring.strongbox.services.ArtifactManagementService;
 import org.carlspring.strongbox.storage.repository.Repository;
 import org.carlspring.strongbox.storage.repository.remote.RemoteRepository;
@@ -45,6 +47,12 @@ public class ProxyRepositoryArtifactResolver
     @Inject
     private ArtifactManagementService artifactManagementService;
 
+    @Inject
+    private InFlightRemoteArtifactRegistry inFlightRemoteArtifactRegistry;
+
+    @Inject
+    private RepositoryPathResolver repositoryPathResolver;
+
     /**
      * This method has been developed to force fetch resource from remote.
      *
@@ -80,6 +88,80 @@ public class ProxyRepositoryArtifactResolver
         }
     }
 
+    /**
+     * Same as {@link #fetchRemoteResource(RepositoryPath)}, but the resource
+     * will be stored in background, so the caller can read the remote bytes
+     * while they are being stored.
+     *
+     * It should not contain any local / cache existence checks.
+     *
+     * @return the download in progress, or `null` if remote repository is down
+     */
+    public InFlightRemoteArtifact streamRemoteResource(RepositoryPath repositoryPath)
+        throws IOException
+    {
+        Repository repository = repositoryPath.getFileSystem().getRepository();
+        final RemoteRepository remoteRepository = repository.getRemoteRepository();
+        if (!remoteRepositoryAlivenessCacheManager.isAlive(remoteRepository))
+        {
+            logger.debug("Remote repository '{}' is down.", remoteRepository.getUrl());
+
+            return null;
+        }
+
+        // The path will be stored within another thread, so it should not share the state with the caller.
+        RepositoryPath downloadPath = repositoryPathResolver.resolve(repository,
+                                                                     RepositoryFiles.relativizePath(repositoryPath));
+        InFlightRemoteArtifact download = new InFlightRemoteArtifact(downloadPath);
+        InFlightRemoteArtifact existing = inFlightRemoteArtifactRegistry.submit(download,
+                                                                                () -> doStream(remoteRepository,
+                                                                                               download));
+
+        return existing != null ? existing : download;
+    }
+
+    private void doStream(RemoteRepository remoteRepository,
+                          InFlightRemoteArtifact download)
+    {
+        RepositoryPath repositoryPath = download.getRepositoryPath();
+        try
+        {
+            RestArtifactResolver client = restArtifactResolverFactory.newInstance(remoteRepository);
+
+            ReadWriteLock lockSource = repositoryPathLock.lock(repositoryPath, "remote-fetch");
+            Lock lock = lockSource.writeLock();
+            lock.lock();
+
+            try
+            {
+                ProxyRepositoryInputStream pris = new ProxyRepositoryInputStream(client, repositoryPath);
+                try (InputStream is = new BufferedInputStream(download.tee(pris)))
+                {
+                    //We need this to force initialize lazy connection to remote repository.
+                    pris.available();
+                    download.start(pris.getContentLength());
+
+                    doFetch(repositoryPath, is);
+                    download.complete();
+                }
+            }
+            finally
+            {
+                lock.unlock();
+            }
+        }
+        catch (IOException e)
+        {
+            logger.debug("Failed to stream [{}].", repositoryPath, e);
+            download.fail(e);
+        }
+        catch (RuntimeException e)
+        {
+            logger.error("Failed to stream [{}].", repositoryPath, e);
+            download.fail(new IOException(e));
+        }
+    }
+
     private RepositoryPath doFetch(RepositoryPath repositoryPath,
                                    InputStream is)
         throws IOException
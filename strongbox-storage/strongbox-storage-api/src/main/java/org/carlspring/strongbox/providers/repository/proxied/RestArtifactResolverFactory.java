@@ -1,8 +1,13 @@
 package org.carlspring.strongbox.providers.repository.proxied;
 
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.inject.Inject;
+import javax.ws.rs.client.Client;
 
 import org.carlspring.strongbox.client.RemoteRepositoryRetryArtifactDownloadConfiguration;
 import org.carlspring.strongbox.client.RestArtifactResolver;
@@ -11,50 +16,182 @@ import org.carlspring.strongbox.service.ProxyRepositoryConnectionPoolConfigurati
 import org.carlspring.strongbox.storage.repository.remote.RemoteRepository;
 import org.carlspring.strongbox.storage.repository.remote.heartbeat.RemoteRepositoryAlivenessService;
 import org.glassfish.jersey.client.authentication.HttpAuthenticationFeature;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.stereotype.Component;
 
 /**
+ * Creates {@link RestArtifactResolver}s, which share one client per remote
+ * repository URL. The client is created again only once the remote repository
+ * credentials were changed, and the replaced one is closed once all of its
+ * resolvers are closed.
+ * <br>
+ * Connections are pooled by {@link ProxyRepositoryConnectionPoolConfigurationService}
+ * for all the clients.
+ *
  * @author Przemyslaw Fusik
  */
 @Component
 public class RestArtifactResolverFactory
+        implements DisposableBean
 {
 
     @Inject
     private ProxyRepositoryConnectionPoolConfigurationService proxyRepositoryConnectionPoolConfigurationService;
-    
+
     @Inject
     private ConfigurationManager configurationManager;
-    
+
     @Inject
     private RemoteRepositoryAlivenessService remoteRepositoryAlivenessCacheManager;
 
+    private final Map<String, RemoteRepositoryClient> clients = new ConcurrentHashMap<>();
+
     public RestArtifactResolver newInstance(RemoteRepository repository)
     {
         Objects.requireNonNull(repository);
-        
+
         RemoteRepositoryRetryArtifactDownloadConfiguration configuration = configurationManager.getConfiguration()
                                                                                                .getRemoteRepositoriesConfiguration()
                                                                                                .getRemoteRepositoryRetryArtifactDownloadConfiguration();
-        
-        String username = repository.getUsername();
-        String password = repository.getPassword();
-        String url = repository.getUrl();
-        
-        final HttpAuthenticationFeature authenticationFeature = (username != null && password != null) ? HttpAuthenticationFeature.basic(username, password) : null;
-                
-        return new RestArtifactResolver(proxyRepositoryConnectionPoolConfigurationService.getRestClient(), url,
+
+        RemoteRepositoryClient remoteRepositoryClient = getClient(repository);
+
+        return new RestArtifactResolver(remoteRepositoryClient.client, repository.getUrl(),
                                         configuration,
-                                        authenticationFeature)
+                                        remoteRepositoryClient.authenticationFeature)
                                 {
-                        
+
+                                    private final AtomicBoolean closed = new AtomicBoolean();
+
                                     @Override
                                     public boolean isAlive()
                                     {
                                         return remoteRepositoryAlivenessCacheManager.isAlive(repository);
                                     }
-                        
+
+                                    @Override
+                                    public void close()
+                                    {
+                                        // The client is shared with other resolvers of this remote repository.
+                                        if (closed.compareAndSet(false, true))
+                                        {
+                                            remoteRepositoryClient.release();
+                                        }
+                                    }
+
                                 };
     }
 
+    private RemoteRepositoryClient getClient(RemoteRepository repository)
+    {
+        boolean logging = proxyRepositoryConnectionPoolConfigurationService.isRestClientLoggingEnabled();
+
+        return clients.compute(repository.getUrl(), (url, client) -> {
+            if (client != null && client.matches(repository, logging))
+            {
+                client.acquire();
+
+                return client;
+            }
+
+            // The replaced client can still be used by the ongoing requests,
+            // so it's closed once they are done.
+            if (client != null)
+            {
+                client.retire();
+            }
+
+            RemoteRepositoryClient result = new RemoteRepositoryClient(proxyRepositoryConnectionPoolConfigurationService.getRestClient(),
+                                                                       repository,
+                                                                       logging);
+            result.acquire();
+
+            return result;
+        });
+    }
+
+    @Override
+    public void destroy()
+    {
+        clients.values().forEach(RemoteRepositoryClient::close);
+        clients.clear();
+    }
+
+    private static class RemoteRepositoryClient
+    {
+
+        private final Client client;
+
+        private final String username;
+
+        private final String password;
+
+        private final boolean logging;
+
+        private final HttpAuthenticationFeature authenticationFeature;
+
+        /**
+         * Number of the resolvers which were not closed yet.
+         */
+        private final AtomicInteger users = new AtomicInteger();
+
+        private volatile boolean retired;
+
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private RemoteRepositoryClient(Client client,
+                                       RemoteRepository repository,
+                                       boolean logging)
+        {
+            this.client = client;
+            this.username = repository.getUsername();
+            this.password = repository.getPassword();
+            this.logging = logging;
+            this.authenticationFeature = (username != null && password != null) ? HttpAuthenticationFeature.basic(username, password) : null;
+        }
+
+        private boolean matches(RemoteRepository repository,
+                                boolean logging)
+        {
+            return Objects.equals(username, repository.getUsername())
+                   && Objects.equals(password, repository.getPassword())
+                   && this.logging == logging;
+        }
+
+        private void acquire()
+        {
+            users.incrementAndGet();
+        }
+
+        private void release()
+        {
+            if (users.decrementAndGet() == 0 && retired)
+            {
+                close();
+            }
+        }
+
+        /**
+         * Called once the client was replaced, so that it's not acquired
+         * anymore.
+         */
+        private void retire()
+        {
+            retired = true;
+            if (users.get() == 0)
+            {
+                close();
+            }
+        }
+
+        private void close()
+        {
+            if (closed.compareAndSet(false, true))
+            {
+                client.close();
+            }
+        }
+
+    }
+
 }
@@ -1,6 +1,7 @@
 package org.carlspring.strongbox.services;
 
 import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -77,4 +78,34 @@ public interface ArtifactEntryService
                                   String repositoryId,
                                   String path);
 
+    /**
+     * Increments the download count and sets the last used date of the
+     * artifact without loading the entity.
+     *
+     * @return number of updated entries
+     */
+    int updateDownloadStatistics(String uuid,
+                                 long downloadCount,
+                                 Date lastUsed);
+
+    /**
+     * @return the total size of the stored artifacts of the repository, the
+     *         remote artifacts which are not cached are not counted
+     */
+    long sumSizeInBytes(String storageId,
+                        String repositoryId);
+
+    /**
+     * Keyset pagination of the stored artifacts of the repository, ordered by
+     * `lastUsed` and `uuid`, so the least recently used ones go first. The
+     * never used artifacts go before all the others.
+     *
+     * @param after
+     *            the last entry of the previous page, `null` for the first page
+     */
+    List<ArtifactEntry> findLeastRecentlyUsed(String storageId,
+                                              String repositoryId,
+                                              ArtifactEntry after,
+                                              int limit);
+
 }
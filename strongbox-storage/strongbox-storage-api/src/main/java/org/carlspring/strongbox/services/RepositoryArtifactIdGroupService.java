@@ -1,6 +1,7 @@
 package org.carlspring.strongbox.services;
 
 import org.carlspring.strongbox.data.service.support.search.PagingCriteria;
+import org.carlspring.strongbox.domain.ArtifactEntry;
 import org.carlspring.strongbox.domain.RepositoryArtifactIdGroupEntry;
 
 import java.util.List;
@@ -27,6 +28,13 @@ public interface RepositoryArtifactIdGroupService
                                            String repositoryId,
                                            String artifactId);
 
+    /**
+     * Removes the entry from the group, the group entries are scanned for the
+     * new last version only if the last version was removed.
+     */
+    void removeArtifactFromGroup(RepositoryArtifactIdGroupEntry artifactGroup,
+                                 ArtifactEntry artifactEntry);
+
     @Override
     default Class<RepositoryArtifactIdGroupEntry> getEntityClass()
     {
@@ -1,9 +1,15 @@
 package org.carlspring.strongbox.services.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.carlspring.strongbox.artifact.coordinates.AbstractArtifactCoordinates;
+import org.carlspring.strongbox.data.domain.GenericEntity;
 import org.carlspring.strongbox.data.service.CommonCrudService;
 import org.springframework.stereotype.Component;
 
@@ -47,6 +53,43 @@ public class ArtifactCoordinatesService extends CommonCrudService<AbstractArtifa
         return true;
     }
 
+    @Override
+    protected void identifyEntities(Collection<? extends AbstractArtifactCoordinates> entities,
+                                    Set<GenericEntity> identified)
+    {
+        super.identifyEntities(entities, identified);
+
+        Map<String, List<AbstractArtifactCoordinates>> entitiesByPath = new HashMap<>();
+        for (AbstractArtifactCoordinates entity : entities)
+        {
+            if (entity.getObjectId() == null)
+            {
+                entitiesByPath.computeIfAbsent(entity.toPath(), k -> new ArrayList<>()).add(entity);
+            }
+        }
+
+        List<String> paths = new ArrayList<>(entitiesByPath.keySet());
+        for (int i = 0; i < paths.size(); i += IDENTIFY_BATCH_SIZE)
+        {
+            String sQuery = String.format("SELECT FROM INDEX:idx_artifact_coordinates WHERE key IN :paths");
+
+            OSQLSynchQuery<ODocument> oQuery = new OSQLSynchQuery<>(sQuery);
+
+            HashMap<String, Object> params = new HashMap<>();
+            params.put("paths", paths.subList(i, Math.min(i + IDENTIFY_BATCH_SIZE, paths.size())));
+
+            List<ODocument> resultList = getDelegate().command(oQuery).execute(params);
+            for (ODocument record : resultList)
+            {
+                ORID objectId = ((ODocument) record.field("rid")).getIdentity();
+                String path = record.field("key");
+
+                entitiesByPath.getOrDefault(path, Collections.emptyList())
+                              .forEach(e -> e.setObjectId(objectId.toString()));
+            }
+        }
+    }
+
     @Override
     public Class<AbstractArtifactCoordinates> getEntityClass()
     {
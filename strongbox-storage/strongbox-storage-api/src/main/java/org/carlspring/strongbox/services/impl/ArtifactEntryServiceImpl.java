@@ -2,6 +2,7 @@ package org.carlspring.strongbox.services.impl;
 
 import org.carlspring.strongbox.artifact.ArtifactTag;
 import org.carlspring.strongbox.artifact.coordinates.ArtifactCoordinates;
+import org.carlspring.strongbox.data.domain.GenericEntity;
 import org.carlspring.strongbox.data.service.support.search.PagingCriteria;
 import org.carlspring.strongbox.domain.ArtifactEntry;
 import org.carlspring.strongbox.domain.ArtifactTagEntry;
@@ -15,6 +16,7 @@ import java.util.stream.IntStream;
 
 import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.OCommandSQL;
 import com.orientechnologies.orient.core.sql.query.OSQLSynchQuery;
 import org.apache.commons.lang3.time.DateUtils;
 import org.javatuples.Pair;
@@ -41,7 +43,8 @@ class ArtifactEntryServiceImpl extends AbstractArtifactEntryService
     }
 
     @Override
-    protected <S extends ArtifactEntry> S cascadeEntitySave(ArtifactEntry entity)
+    protected <S extends ArtifactEntry> S cascadeEntitySave(ArtifactEntry entity,
+                                                            Set<GenericEntity> identified)
     {
         entity.setArtifactCoordinates(entity.getArtifactCoordinates());
         if (artifactEntryIsSavedForTheFirstTime(entity))
@@ -49,7 +52,7 @@ class ArtifactEntryServiceImpl extends AbstractArtifactEntryService
             entity.setCreated(new Date());
         }
 
-        return super.cascadeEntitySave(entity);
+        return super.cascadeEntitySave(entity, identified);
     }
 
     @Override
@@ -111,15 +114,12 @@ class ArtifactEntryServiceImpl extends AbstractArtifactEntryService
     {
         StringBuilder sb = new StringBuilder();
         sb.append("SELECT FROM ").append(getEntityClass().getSimpleName());
-        Map<String, Object> parameterMap = Collections.emptyMap();
+        Map<String, Object> parameterMap = new HashMap<>();
 
 
+        StringBuilder criteriaQueryClasuse = new StringBuilder();
         if (!searchCriteria.isEmpty())
         {
-            StringBuilder criteriaQueryClasuse = new StringBuilder();
-            sb.append(" WHERE ");
-            parameterMap = new HashMap<>();
-
             if (searchCriteria.getMinSizeInBytes() != null && searchCriteria.getMinSizeInBytes() > 0)
             {
                 criteriaQueryClasuse.append(" sizeInBytes >= :minSizeInBytes ");
@@ -135,11 +135,10 @@ class ArtifactEntryServiceImpl extends AbstractArtifactEntryService
                 criteriaQueryClasuse.append(" lastUsed < :lastUsed ");
                 parameterMap.put("lastUsed", lastUsed);
             }
-
-            sb.append(criteriaQueryClasuse);
         }
 
-        appendPagingCriteria(sb, pagingCriteria);
+        appendPagingCriteria(sb, criteriaQueryClasuse.toString(), pagingCriteria);
+        appendPagingParameters(parameterMap, pagingCriteria);
 
         logger.debug("Executing SQL query> {}", sb);
 
@@ -442,6 +441,119 @@ class ArtifactEntryServiceImpl extends AbstractArtifactEntryService
         return result;
     }
 
+    @Override
+    public int updateDownloadStatistics(String uuid,
+                                        long downloadCount,
+                                        Date lastUsed)
+    {
+        String sQuery = String.format("UPDATE %s SET lastUsed = :lastUsed INCREMENT downloadCount = :downloadCount WHERE uuid = :uuid",
+                                      getEntityClass().getSimpleName());
+
+        Map<String, Object> parameterMap = new HashMap<>();
+        parameterMap.put("uuid", uuid);
+        parameterMap.put("downloadCount", Math.toIntExact(downloadCount));
+        parameterMap.put("lastUsed", lastUsed);
+
+        return getDelegate().command(new OCommandSQL(sQuery)).execute(parameterMap);
+    }
+
+    @Override
+    public long sumSizeInBytes(String storageId,
+                               String repositoryId)
+    {
+        String sQuery = String.format("SELECT sum(sizeInBytes) AS size FROM %s " +
+                                      "WHERE storageId = :storageId AND repositoryId = :repositoryId " +
+                                      "AND (isCached IS NULL OR isCached = true)",
+                                      getEntityClass().getSimpleName());
+
+        Map<String, Object> parameterMap = new HashMap<>();
+        parameterMap.put("storageId", storageId);
+        parameterMap.put("repositoryId", repositoryId);
+
+        OSQLSynchQuery<ODocument> oQuery = new OSQLSynchQuery<>(sQuery);
+        List<ODocument> result = getDelegate().command(oQuery).execute(parameterMap);
+        if (result.isEmpty())
+        {
+            return 0;
+        }
+
+        Number size = result.iterator().next().field("size");
+
+        return size != null ? size.longValue() : 0;
+    }
+
+    /**
+     * The never used entries (`lastUsed IS NULL`) go first, ordered by `uuid`,
+     * because the null keys can't be compared in the keyset condition.
+     */
+    @Override
+    public List<ArtifactEntry> findLeastRecentlyUsed(String storageId,
+                                                     String repositoryId,
+                                                     ArtifactEntry after,
+                                                     int limit)
+    {
+        List<ArtifactEntry> result = new ArrayList<>();
+        if (after == null || after.getLastUsed() == null)
+        {
+            result.addAll(findLeastRecentlyUsed(storageId,
+                                                repositoryId,
+                                                after == null ? " AND lastUsed IS NULL"
+                                                              : " AND lastUsed IS NULL AND uuid > :after",
+                                                " ORDER BY uuid ASC",
+                                                after,
+                                                limit));
+            if (result.size() >= limit)
+            {
+                return result;
+            }
+
+            result.addAll(findLeastRecentlyUsed(storageId,
+                                                repositoryId,
+                                                " AND lastUsed IS NOT NULL",
+                                                " ORDER BY lastUsed ASC, uuid ASC",
+                                                null,
+                                                limit - result.size()));
+
+            return result;
+        }
+
+        return findLeastRecentlyUsed(storageId,
+                                     repositoryId,
+                                     " AND (lastUsed > :lastUsed OR (lastUsed = :lastUsed AND uuid > :after))",
+                                     " ORDER BY lastUsed ASC, uuid ASC",
+                                     after,
+                                     limit);
+    }
+
+    private List<ArtifactEntry> findLeastRecentlyUsed(String storageId,
+                                                      String repositoryId,
+                                                      String condition,
+                                                      String order,
+                                                      ArtifactEntry after,
+                                                      int limit)
+    {
+        StringBuilder sb = new StringBuilder();
+        sb.append("SELECT FROM ").append(getEntityClass().getSimpleName());
+        sb.append(" WHERE storageId = :storageId AND repositoryId = :repositoryId");
+        sb.append(" AND (isCached IS NULL OR isCached = true)");
+        sb.append(condition);
+        sb.append(order);
+        sb.append(String.format(" LIMIT %s", limit));
+
+        Map<String, Object> parameterMap = new HashMap<>();
+        parameterMap.put("storageId", storageId);
+        parameterMap.put("repositoryId", repositoryId);
+        if (after != null)
+        {
+            parameterMap.put("lastUsed", after.getLastUsed());
+            parameterMap.put("after", after.getUuid());
+        }
+
+        logger.debug("Executing SQL query> {}", sb);
+
+        OSQLSynchQuery<ArtifactEntry> oQuery = new OSQLSynchQuery<>(sb.toString());
 
+        return getDelegate().command(oQuery).execute(parameterMap);
+    }
 
 }
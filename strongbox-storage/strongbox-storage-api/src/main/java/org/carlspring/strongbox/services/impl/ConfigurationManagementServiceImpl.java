@@ -20,7 +20,6 @@ import java.io.IOException;
 import java.lang.reflect.UndeclaredThrowableException;
 import java.util.*;
 import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Consumer;
 
@@ -41,7 +40,7 @@ public class ConfigurationManagementServiceImpl
         implements ConfigurationManagementService
 {
 
-    private final ReadWriteLock configurationLock = new ReentrantReadWriteLock();
+    private final ReentrantReadWriteLock configurationLock = new ReentrantReadWriteLock();
 
     @Inject
     private ConfigurationFileManager configurationFileManager;
@@ -67,6 +66,14 @@ public class ConfigurationManagementServiceImpl
      */
     private MutableConfiguration configuration;
 
+    /**
+     * Immutable snapshot of the {@link #configuration}, which is published
+     * once per modification, so readers don't need any locking or copying.
+     *
+     * @see #modifyInLock(Consumer, boolean)
+     */
+    private volatile Configuration configurationSnapshot;
+
     @PostConstruct
     public void init()
     {
@@ -109,17 +116,7 @@ public class ConfigurationManagementServiceImpl
     @Override
     public Configuration getConfiguration()
     {
-        final Lock readLock = configurationLock.readLock();
-        readLock.lock();
-
-        try
-        {
-            return new Configuration(configuration);
-        }
-        finally
-        {
-            readLock.unlock();
-        }
+        return configurationSnapshot;
     }
 
     @Override
@@ -614,6 +611,11 @@ public class ConfigurationManagementServiceImpl
         }
         finally
         {
+            // Nested modifications are published once by the outermost one.
+            if (configurationLock.getWriteHoldCount() == 1)
+            {
+                configurationSnapshot = configuration != null ? new Configuration(configuration) : null;
+            }
             writeLock.unlock();
         }
     }
@@ -10,13 +10,21 @@ import org.carlspring.strongbox.services.ArtifactTagService;
 import org.carlspring.strongbox.services.RepositoryArtifactIdGroupService;
 
 import javax.inject.Inject;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import com.orientechnologies.common.concur.ONeedRetryException;
+import com.orientechnologies.orient.core.id.ORecordId;
 import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.OCommandSQL;
 import com.orientechnologies.orient.core.sql.query.OSQLSynchQuery;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -40,6 +48,10 @@ public class RepositoryArtifactIdGroupServiceImpl
     @Inject
     private ArtifactTagService artifactTagService;
 
+    /**
+     * The entry is linked with a targeted `ADD` of the group `artifactEntries`,
+     * so that the group entries are neither loaded nor saved.
+     */
     @Override
     public void addArtifactToGroup(RepositoryArtifactIdGroupEntry artifactGroup,
                                    ArtifactEntry artifactEntry)
@@ -49,25 +61,140 @@ public class RepositoryArtifactIdGroupServiceImpl
 
         ArtifactTag lastVersionTag = artifactTagService.findOneOrCreate(ArtifactTagEntry.LAST_VERSION);
 
-        artifactEntry.getTagSet().add(lastVersionTag);
-        artifactGroup.putArtifactEntry(artifactEntry);
+        Set<ArtifactEntry> lastVersionEntries = new HashSet<>(artifactGroup.getLastVersionEntries());
+        Set<ArtifactEntry> changedEntries = new HashSet<>();
 
-        artifactGroup.getArtifactEntries()
-                     .stream()
-                     .filter(e -> e.getTagSet().contains(lastVersionTag))
-                     .sorted((e1,
-                              e2) -> e1.getArtifactCoordinates().compareTo(e2.getArtifactCoordinates()))
-                     .forEach(e -> checkAndUpdateLastVersionTagIfNeeded(e, artifactEntry, lastVersionTag));
+        Optional<ArtifactEntry> lastVersionEntry = lastVersionEntries.stream()
+                                                                     .filter(Objects::nonNull)
+                                                                     .findFirst();
+        if (lastVersionEntry.isPresent())
+        {
+            checkAndUpdateLastVersionTagIfNeeded(lastVersionEntries,
+                                                 lastVersionEntry.get(),
+                                                 artifactEntry,
+                                                 lastVersionTag,
+                                                 changedEntries);
+        }
+        else
+        {
+            // The group was stored before the last version entries were
+            // introduced, or it's the first entry of the group.
+            Set<ArtifactEntry> artifactEntries = new HashSet<>(artifactGroup.getArtifactEntries());
+            artifactEntries.remove(artifactEntry);
+            artifactEntries.add(artifactEntry);
+
+            updateLastVersionTag(artifactGroup, artifactEntries, lastVersionEntries, lastVersionTag, changedEntries);
+        }
+
+        // The entry `objectId` (and so it's hash code) is assigned on save.
+        changedEntries.remove(artifactEntry);
+        List<ArtifactEntry> lastVersionEntryList = new ArrayList<>(lastVersionEntries);
 
+        ArtifactEntry savedEntry = (ArtifactEntry) tryToCascadeEntitySave(artifactEntry);
+        changedEntries.forEach(this::tryToCascadeEntitySave);
 
-        save(artifactGroup);
+        lastVersionEntryList.replaceAll(e -> e == artifactEntry ? savedEntry : e);
+
+        String groupId = identifyGroup(artifactGroup);
+        updateArtifactEntries("ADD", groupId, savedEntry);
+        updateLastVersionEntries(groupId, lastVersionEntryList);
     }
 
-    private <S extends ArtifactEntry> Optional<S> checkAndUpdateLastVersionTagIfNeeded(S lastVersionEntry,
-                                                                                       S entity,
-                                                                                       ArtifactTag lastVersionTag)
+    @Override
+    public void removeArtifactFromGroup(RepositoryArtifactIdGroupEntry artifactGroup,
+                                        ArtifactEntry artifactEntry)
+    {
+        if (artifactEntry.getObjectId() == null)
+        {
+            // Never stored, so it can't be linked.
+            return;
+        }
+
+        String groupId = identifyGroup(artifactGroup);
+        updateArtifactEntries("REMOVE", groupId, artifactEntry);
+
+        Set<ArtifactEntry> lastVersionEntries = new HashSet<>(artifactGroup.getLastVersionEntries());
+        if (!lastVersionEntries.remove(artifactEntry))
+        {
+            return;
+        }
+
+        if (lastVersionEntries.isEmpty())
+        {
+            logger.debug("Last version [{}] of [{}] removed",
+                         artifactEntry.getArtifactCoordinates().getVersion(),
+                         artifactGroup.getArtifactId());
+
+            Set<ArtifactEntry> artifactEntries = new HashSet<>(artifactGroup.getArtifactEntries());
+            artifactEntries.remove(artifactEntry);
+
+            Set<ArtifactEntry> changedEntries = new HashSet<>();
+            updateLastVersionTag(artifactGroup,
+                                 artifactEntries,
+                                 lastVersionEntries,
+                                 artifactTagService.findOneOrCreate(ArtifactTagEntry.LAST_VERSION),
+                                 changedEntries);
+            changedEntries.forEach(this::tryToCascadeEntitySave);
+        }
+
+        updateLastVersionEntries(groupId, lastVersionEntries);
+    }
+
+    private String identifyGroup(RepositoryArtifactIdGroupEntry artifactGroup)
+    {
+        if (artifactGroup.getObjectId() != null)
+        {
+            return artifactGroup.getObjectId();
+        }
+
+        return save(artifactGroup).getObjectId();
+    }
+
+    /**
+     * Executes `UPDATE ... ADD|REMOVE artifactEntries = :artifactEntry` for
+     * the group record.
+     */
+    private void updateArtifactEntries(String operation,
+                                       String groupId,
+                                       ArtifactEntry artifactEntry)
+    {
+        String sQuery = String.format("UPDATE %s %s artifactEntries = :artifactEntry WHERE @rid = :artifactGroup",
+                                      getEntityClass().getSimpleName(),
+                                      operation);
+
+        Map<String, Object> params = new HashMap<>();
+        params.put("artifactEntry", new ORecordId(artifactEntry.getObjectId()));
+        params.put("artifactGroup", new ORecordId(groupId));
+
+        logger.debug("Executing SQL query> {}", sQuery);
+
+        getDelegate().command(new OCommandSQL(sQuery)).execute(params);
+    }
+
+    private void updateLastVersionEntries(String groupId,
+                                          Collection<ArtifactEntry> lastVersionEntries)
+    {
+        String sQuery = String.format("UPDATE %s SET lastVersionEntries = :lastVersionEntries WHERE @rid = :artifactGroup",
+                                      getEntityClass().getSimpleName());
+
+        Map<String, Object> params = new HashMap<>();
+        params.put("lastVersionEntries", lastVersionEntries.stream()
+                                                           .filter(Objects::nonNull)
+                                                           .map(e -> new ORecordId(e.getObjectId()))
+                                                           .collect(Collectors.toSet()));
+        params.put("artifactGroup", new ORecordId(groupId));
+
+        logger.debug("Executing SQL query> {}", sQuery);
+
+        getDelegate().command(new OCommandSQL(sQuery)).execute(params);
+    }
+
+    private void checkAndUpdateLastVersionTagIfNeeded(Set<ArtifactEntry> lastVersionEntries,
+                                                      ArtifactEntry lastVersionEntry,
+                                                      ArtifactEntry entity,
+                                                      ArtifactTag lastVersionTag,
+                                                      Set<ArtifactEntry> changedEntries)
     {
-        Optional<S> result = Optional.empty();
         ArtifactCoordinates coordinates = entity.getArtifactCoordinates();
 
         int artifactCoordinatesComparison = entity.getArtifactCoordinates()
@@ -78,6 +205,9 @@ public class RepositoryArtifactIdGroupServiceImpl
                          entity.getArtifactPath(),
                          coordinates.getVersion());
             entity.getTagSet().add(lastVersionTag);
+
+            lastVersionEntries.remove(entity);
+            lastVersionEntries.add(entity);
         }
         else if (artifactCoordinatesComparison > 0)
         {
@@ -87,8 +217,15 @@ public class RepositoryArtifactIdGroupServiceImpl
                          coordinates.getVersion());
             entity.getTagSet().add(lastVersionTag);
 
-            lastVersionEntry.getTagSet().remove(lastVersionTag);
-            result = Optional.of(lastVersionEntry);
+            lastVersionEntries.stream()
+                              .filter(Objects::nonNull)
+                              .filter(e -> !e.equals(entity))
+                              .forEach(e -> {
+                                  e.getTagSet().remove(lastVersionTag);
+                                  changedEntries.add(e);
+                              });
+            lastVersionEntries.clear();
+            lastVersionEntries.add(entity);
         }
         else
         {
@@ -97,8 +234,52 @@ public class RepositoryArtifactIdGroupServiceImpl
                          lastVersionEntry.getArtifactCoordinates().getVersion());
             entity.getTagSet().remove(lastVersionTag);
         }
+    }
+
+    /**
+     * Scans all the group entries, which is only needed when the last version
+     * entries are unknown.
+     */
+    private void updateLastVersionTag(RepositoryArtifactIdGroupEntry artifactGroup,
+                                      Set<ArtifactEntry> artifactEntries,
+                                      Set<ArtifactEntry> lastVersionEntries,
+                                      ArtifactTag lastVersionTag,
+                                      Set<ArtifactEntry> changedEntries)
+    {
+        lastVersionEntries.clear();
+
+        Optional<ArtifactEntry> lastVersionEntry = artifactEntries.stream()
+                                                                  .filter(Objects::nonNull)
+                                                                  .max((e1,
+                                                                        e2) -> e1.getArtifactCoordinates().compareTo(e2.getArtifactCoordinates()));
+        if (!lastVersionEntry.isPresent())
+        {
+            return;
+        }
 
-        return result;
+        ArtifactCoordinates lastVersionCoordinates = lastVersionEntry.get().getArtifactCoordinates();
+        logger.debug("Set [{}] last version to [{}]",
+                     artifactGroup.getArtifactId(),
+                     lastVersionCoordinates.getVersion());
+
+        artifactEntries.stream()
+                       .filter(Objects::nonNull)
+                       .forEach(e -> {
+                           boolean changed;
+                           if (e.getArtifactCoordinates().compareTo(lastVersionCoordinates) == 0)
+                           {
+                               changed = e.getTagSet().add(lastVersionTag);
+                               lastVersionEntries.add(e);
+                           }
+                           else
+                           {
+                               changed = e.getTagSet().remove(lastVersionTag);
+                           }
+                           if (changed)
+                           {
+                               changedEntries.add(e);
+                           }
+                       });
     }
 
     @Override
@@ -128,10 +309,10 @@ public class RepositoryArtifactIdGroupServiceImpl
         params.put("storageId", storageId);
         params.put("repositoryId", repositoryId);
 
-        String sQuery = buildQuery(params);
-
-        StringBuilder sb = new StringBuilder(sQuery);
-        appendPagingCriteria(sb, pagingCriteria);
+        StringBuilder sb = new StringBuilder();
+        sb.append("SELECT * FROM ").append(getEntityClass().getSimpleName());
+        appendPagingCriteria(sb, buildCondition(params), pagingCriteria);
+        appendPagingParameters(params, pagingCriteria);
 
         logger.debug("Executing SQL query> {}", sb);
 
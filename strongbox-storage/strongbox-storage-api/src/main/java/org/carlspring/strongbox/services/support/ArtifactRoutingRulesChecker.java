@@ -4,15 +4,11 @@ import org.carlspring.strongbox.configuration.ConfigurationManager;
 import org.carlspring.strongbox.providers.io.RepositoryFiles;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
 import org.carlspring.strongbox.storage.repository.Repository;
-import org.carlspring.strongbox.storage.routing.RepositoryIdentifiable;
-import org.carlspring.strongbox.storage.routing.RoutingRule;
 import org.carlspring.strongbox.storage.routing.RoutingRules;
 
 import javax.inject.Inject;
 import java.io.IOException;
-import java.util.List;
 
-import org.apache.commons.lang3.StringUtils;
 import org.springframework.stereotype.Component;
 
 /**
@@ -26,85 +22,31 @@ public class ArtifactRoutingRulesChecker
     @Inject
     private ConfigurationManager configurationManager;
 
+    /**
+     * Compiled form of the current {@link RoutingRules}, it's rebuilt once the
+     * routing rules were changed.
+     */
+    private volatile ArtifactRoutingRulesIndex index;
+
     public boolean isDenied(Repository groupRepository,
                             RepositoryPath repositoryPath)
             throws IOException
     {
         final RoutingRules routingRules = configurationManager.getConfiguration().getRoutingRules();
-        final boolean hasDenyRules = hasCandidates(groupRepository, repositoryPath, routingRules.getDenied());
-        final boolean hasAcceptRules = hasCandidates(groupRepository, repositoryPath, routingRules.getAccepted());
-
-        return hasDenyRules && !hasAcceptRules;
-    }
-
-    private boolean hasCandidates(Repository groupRepository,
-                                  RepositoryPath repositoryPath,
-                                  List<RoutingRule> routingRules)
-            throws IOException
-    {
-
-        String artifactPath = RepositoryFiles.relativizePath(repositoryPath);
-        Repository subRepository = repositoryPath.getRepository();
-
-        return routingRules.stream()
-                           .anyMatch(rule -> {
-                               boolean result = false;
-
-                               if ((isMatch(rule, groupRepository))
-                                   && rule.getRegex().matcher(artifactPath).matches())
-                               {
-                                   // an empty collection means the rule is applied to **all** repositories in the group.
-                                   if (rule.getRepositories().size() == 0)
-                                   {
-                                       result = true;
-                                   }
-                                   else
-                                   {
-                                       result = rule.getRepositories()
-                                                    .stream()
-                                                    .anyMatch(r -> isMatch(r, subRepository));
-                                   }
-                               }
-
-                               return result;
-                           });
-
-    }
-
-    private boolean isMatch(RepositoryIdentifiable rule,
-                            Repository repository)
-    {
-        boolean result = false;
-
-        // exact match == storageId:repositoryId
-        if (equalsIgnoreCase(rule.getStorageIdAndRepositoryId(), repository.getStorageIdAndRepositoryId()))
-        {
-            result = true;
-        }
-        // wildcard == *:*
-        else if (equalsIgnoreCase(rule.getStorageIdAndRepositoryId(), StringUtils.EMPTY))
-        {
-            result = true;
-        }
-        // wildcard == storageId:*
-        else if (equalsIgnoreCase(rule.getRepositoryId(), StringUtils.EMPTY) &&
-                 equalsIgnoreCase(rule.getStorageId(), repository.getStorage().getId()))
+        if (routingRules == null)
         {
-            result = true;
+            return false;
         }
-        // wildcard == *:repositoryId
-        else if (equalsIgnoreCase(rule.getStorageId(), StringUtils.EMPTY) &&
-                 equalsIgnoreCase(rule.getRepositoryId(), repository.getId()))
+
+        ArtifactRoutingRulesIndex routingRulesIndex = index;
+        if (routingRulesIndex == null || routingRulesIndex.getRoutingRules() != routingRules)
         {
-            result = true;
+            index = routingRulesIndex = new ArtifactRoutingRulesIndex(routingRules);
         }
 
-        return result;
-    }
+        String artifactPath = RepositoryFiles.relativizePath(repositoryPath);
 
-    private boolean equalsIgnoreCase(final String a,
-                                     final String b)
-    {
-        return StringUtils.trimToEmpty(a).equalsIgnoreCase(StringUtils.trimToEmpty(b));
+        return routingRulesIndex.isDenied(groupRepository, repositoryPath.getRepository(), artifactPath);
     }
+
 }
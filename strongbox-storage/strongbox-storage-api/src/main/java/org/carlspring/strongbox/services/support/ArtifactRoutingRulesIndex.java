@@ -0,0 +1,162 @@
+package org.carlspring.strongbox.services.support;
+
+import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.storage.routing.RepositoryIdentifiable;
+import org.carlspring.strongbox.storage.routing.RoutingRule;
+import org.carlspring.strongbox.storage.routing.RoutingRules;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * {@link RoutingRules} compiled for lookups by group repository and member
+ * repository.
+ * <br>
+ * Rules which apply to a group and member pair are selected once, on first
+ * lookup of the pair, and their patterns are merged into single regex, so
+ * that each artifact path is matched once for denied and once for accepted
+ * rules.
+ *
+ * @see ArtifactRoutingRulesChecker
+ */
+class ArtifactRoutingRulesIndex
+{
+
+    /**
+     * Patterns with back references can't be merged, because the group
+     * numbers change.
+     */
+    private static final Pattern BACK_REFERENCE = Pattern.compile("\\\\(\\d|k<)");
+
+    private final RoutingRules routingRules;
+
+    private final Map<String, RepositoryRoutingRules> index = new ConcurrentHashMap<>();
+
+    ArtifactRoutingRulesIndex(RoutingRules routingRules)
+    {
+        this.routingRules = routingRules;
+    }
+
+    RoutingRules getRoutingRules()
+    {
+        return routingRules;
+    }
+
+    boolean isDenied(Repository groupRepository,
+                     Repository subRepository,
+                     String artifactPath)
+    {
+        String key = groupRepository.getStorageIdAndRepositoryId() + ">" + subRepository.getStorageIdAndRepositoryId();
+
+        return index.computeIfAbsent(key, k -> new RepositoryRoutingRules(groupRepository, subRepository))
+                    .isDenied(artifactPath);
+    }
+
+    private class RepositoryRoutingRules
+    {
+
+        private final Predicate<String> denied;
+
+        private final Predicate<String> accepted;
+
+        private RepositoryRoutingRules(Repository groupRepository,
+                                       Repository subRepository)
+        {
+            denied = compile(select(routingRules.getDenied(), groupRepository, subRepository));
+            accepted = compile(select(routingRules.getAccepted(), groupRepository, subRepository));
+        }
+
+        private boolean isDenied(String artifactPath)
+        {
+            return denied.test(artifactPath) && !accepted.test(artifactPath);
+        }
+
+    }
+
+    private static List<RoutingRule> select(List<RoutingRule> routingRules,
+                                            Repository groupRepository,
+                                            Repository subRepository)
+    {
+        return routingRules.stream()
+                           .filter(rule -> isMatch(rule, groupRepository))
+                           // an empty collection means the rule is applied to **all** repositories in the group.
+                           .filter(rule -> rule.getRepositories().isEmpty() ||
+                                           rule.getRepositories()
+                                               .stream()
+                                               .anyMatch(r -> isMatch(r, subRepository)))
+                           .collect(Collectors.toList());
+    }
+
+    private static Predicate<String> compile(List<RoutingRule> routingRules)
+    {
+        List<Pattern> patterns = new ArrayList<>();
+        List<String> mergeable = new ArrayList<>();
+        for (RoutingRule rule : routingRules)
+        {
+            if (BACK_REFERENCE.matcher(rule.getPattern()).find())
+            {
+                patterns.add(rule.getRegex());
+            }
+            else
+            {
+                mergeable.add("(?:" + rule.getPattern() + ")");
+            }
+        }
+
+        if (mergeable.size() == 1)
+        {
+            patterns.add(Pattern.compile(mergeable.get(0)));
+        }
+        else if (mergeable.size() > 1)
+        {
+            patterns.add(Pattern.compile(String.join("|", mergeable)));
+        }
+
+        return artifactPath -> patterns.stream().anyMatch(p -> p.matcher(artifactPath).matches());
+    }
+
+    private static boolean isMatch(RepositoryIdentifiable rule,
+                                   Repository repository)
+    {
+        boolean result = false;
+
+        // exact match == storageId:repositoryId
+        if (equalsIgnoreCase(rule.getStorageIdAndRepositoryId(), repository.getStorageIdAndRepositoryId()))
+        {
+            result = true;
+        }
+        // wildcard == *:*
+        else if (equalsIgnoreCase(rule.getStorageIdAndRepositoryId(), StringUtils.EMPTY))
+        {
+            result = true;
+        }
+        // wildcard == storageId:*
+        else if (equalsIgnoreCase(rule.getRepositoryId(), StringUtils.EMPTY) &&
+                 equalsIgnoreCase(rule.getStorageId(), repository.getStorage().getId()))
+        {
+            result = true;
+        }
+        // wildcard == *:repositoryId
+        else if (equalsIgnoreCase(rule.getStorageId(), StringUtils.EMPTY) &&
+                 equalsIgnoreCase(rule.getRepositoryId(), repository.getId()))
+        {
+            result = true;
+        }
+
+        return result;
+    }
+
+    private static boolean equalsIgnoreCase(final String a,
+                                            final String b)
+    {
+        return StringUtils.trimToEmpty(a).equalsIgnoreCase(StringUtils.trimToEmpty(b));
+    }
+
+}
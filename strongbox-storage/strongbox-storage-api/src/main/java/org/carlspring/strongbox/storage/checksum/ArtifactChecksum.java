@@ -1,8 +1,8 @@
 package org.carlspring.strongbox.storage.checksum;
 
-import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -13,40 +13,25 @@ public class ArtifactChecksum
 
     /**
      * Key: Algorithm Value: Checksum
+     * <p>
+     * Read without locking while the checksums of the other algorithms are
+     * added.
      */
-    private Map<String, String> checksums = new LinkedHashMap<>();
-
-    /**
-     * The last time this checksum object was accessed in any way. Used to determine when to remove entries from the
-     * cache manager.
-     */
-    private long lastAccessed;
+    private Map<String, String> checksums = new ConcurrentHashMap<>();
 
     private AtomicInteger numberOfChecksums = new AtomicInteger(0);
 
     private AtomicInteger numberOfValidatedChecksums = new AtomicInteger(0);
 
-    public ArtifactChecksum()
-    {
-        updateLastAccessedTime();
-    }
-
     public synchronized void addChecksum(String algorithm,
                                          String checksum)
     {
         checksums.put(algorithm, checksum);
         incrementNumberOfChecksums();
-        updateLastAccessedTime();
-    }
-
-    private void updateLastAccessedTime()
-    {
-        lastAccessed = System.currentTimeMillis();
     }
 
     public synchronized Optional<String> removeChecksum(String algorithm)
     {
-        updateLastAccessedTime();
         return checksums.keySet()
                         .stream()
                         .filter(k -> k.replace("-", "")
@@ -58,7 +43,6 @@ public class ArtifactChecksum
 
     public String getChecksum(String algorithm)
     {
-        updateLastAccessedTime();
         return checksums.get(algorithm);
     }
 
@@ -82,16 +66,6 @@ public class ArtifactChecksum
         this.checksums = checksums;
     }
 
-    public long getLastAccessed()
-    {
-        return lastAccessed;
-    }
-
-    public void setLastAccessed(long lastAccessed)
-    {
-        this.lastAccessed = lastAccessed;
-    }
-
     @Override
     public String toString()
     {
@@ -0,0 +1,120 @@
+package org.carlspring.strongbox.storage.checksum;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+/**
+ * Compact key of the {@link ChecksumCacheManager} entries.
+ * <br>
+ * The artifact path URI (`strongbox:/{storageId}/{repositoryId}/{path}`) is
+ * split into it's storage, repository and relative path parts. The storage
+ * and repository ids are interned, so all of the cached paths of a repository
+ * share the same two strings, and only the relative path is kept per entry.
+ * Paths without the storage and repository parts are kept as is.
+ *
+ * @see #of(String)
+ */
+public final class ArtifactChecksumKey
+{
+
+    private static final Interner<String> IDS = Interners.newWeakInterner();
+
+    private static final String EMPTY = "";
+
+    private final String storageId;
+
+    private final String repositoryId;
+
+    private final String path;
+
+    private final int hash;
+
+    private ArtifactChecksumKey(String storageId,
+                                String repositoryId,
+                                String path)
+    {
+        this.storageId = storageId;
+        this.repositoryId = repositoryId;
+        this.path = path;
+
+        int result = storageId.hashCode();
+        result = 31 * result + repositoryId.hashCode();
+        result = 31 * result + path.hashCode();
+        this.hash = result;
+    }
+
+    public static ArtifactChecksumKey of(String artifactPath)
+    {
+        int start = 0;
+
+        int schemeEnd = artifactPath.indexOf(':');
+        int firstSlash = artifactPath.indexOf('/');
+        if (schemeEnd >= 0 && (firstSlash < 0 || schemeEnd < firstSlash))
+        {
+            start = schemeEnd + 1;
+        }
+        while (start < artifactPath.length() && artifactPath.charAt(start) == '/')
+        {
+            start++;
+        }
+
+        int storageEnd = artifactPath.indexOf('/', start);
+        int repositoryEnd = storageEnd < 0 ? -1 : artifactPath.indexOf('/', storageEnd + 1);
+        if (repositoryEnd < 0)
+        {
+            return new ArtifactChecksumKey(EMPTY, EMPTY, artifactPath);
+        }
+
+        return new ArtifactChecksumKey(IDS.intern(artifactPath.substring(start, storageEnd)),
+                                       IDS.intern(artifactPath.substring(storageEnd + 1, repositoryEnd)),
+                                       artifactPath.substring(repositoryEnd + 1));
+    }
+
+    public String getStorageId()
+    {
+        return storageId;
+    }
+
+    public String getRepositoryId()
+    {
+        return repositoryId;
+    }
+
+    public String getPath()
+    {
+        return path;
+    }
+
+    @Override
+    public boolean equals(Object o)
+    {
+        if (this == o)
+        {
+            return true;
+        }
+        if (!(o instanceof ArtifactChecksumKey))
+        {
+            return false;
+        }
+
+        ArtifactChecksumKey that = (ArtifactChecksumKey) o;
+
+        return hash == that.hash
+               && path.equals(that.path)
+               && repositoryId.equals(that.repositoryId)
+               && storageId.equals(that.storageId);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return hash;
+    }
+
+    @Override
+    public String toString()
+    {
+        return storageId.isEmpty() ? path : String.format("%s/%s/%s", storageId, repositoryId, path);
+    }
+
+}
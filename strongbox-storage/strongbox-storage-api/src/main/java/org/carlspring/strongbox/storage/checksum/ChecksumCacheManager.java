@@ -1,14 +1,18 @@
 package org.carlspring.strongbox.storage.checksum;
 
-import java.util.LinkedHashMap;
-import java.util.LinkedHashSet;
-import java.util.Map;
-import java.util.Optional;
-import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
 /**
  * All artifacts should pass through here.
  * Any deployed file which doesn't end in a checksum format (md5, sha1, gpg)
@@ -25,19 +29,27 @@ import org.slf4j.LoggerFactory;
  * - a checksum is not claimed within cachedChecksumLifetime, trigger an event and log
  * this, then remove the checksum from the cache. (If this checksums set is empty,
  * remove the respective Checksum from the cachedChecksums).
+ * <p>
+ * The cached checksums are kept in a size bounded Guava {@link Cache}, which
+ * expires them after `cachedChecksumLifetime` without access, so there is no
+ * need to scan all of them for the expired ones. The artifact paths are kept as
+ * compact {@link ArtifactChecksumKey}s. The cache size, hit rate and evictions
+ * are published as `strongbox.checksum.cache.*` gauges, see
+ * {@link #bindTo(MeterRegistry)}.
  *
  * @author mtodorov
  */
 public class ChecksumCacheManager
+        implements MeterBinder
 {
 
     private static Logger logger = LoggerFactory.getLogger(ChecksumCacheManager.class);
 
     /**
-     * Key:     Artifact path
+     * Key:     Artifact path, see {@link ArtifactChecksumKey}
      * Value:   Artifact checksum.
      */
-    private Map<String, ArtifactChecksum> cachedChecksums = new LinkedHashMap<>();
+    private volatile Cache<ArtifactChecksumKey, ArtifactChecksum> cachedChecksums;
 
     /**
      * Specifies how long to keep the cached checksums.
@@ -47,19 +59,57 @@ public class ChecksumCacheManager
     private long cachedChecksumLifetime = 5 * 60000;
 
     /**
-     * Specifies at what interval to check if the checksums have expired.
-     * The default is to check once every minute.
+     * Specifies at what interval to clean up the expired checksums, which
+     * are otherwise only cleaned up along with the cache reads and writes.
+     * The default is to clean up once every minute.
      */
     private long cachedChecksumExpiredCheckInterval = 60000L;
 
+    /**
+     * Specifies how many artifact paths to keep the checksums for.
+     */
+    private long cachedChecksumMaxSize = 100000L;
+
 
     public ChecksumCacheManager()
     {
+        buildCache();
+    }
+
+    /**
+     * Registers the cache gauges, Spring Boot binds the {@link MeterBinder}
+     * beans to the meter registries once.
+     */
+    @Override
+    public void bindTo(MeterRegistry registry)
+    {
+        Gauge.builder("strongbox.checksum.cache.size", this, ChecksumCacheManager::getSize)
+             .description("Number of artifact paths with cached checksums")
+             .register(registry);
+        Gauge.builder("strongbox.checksum.cache.hit.rate", this, ChecksumCacheManager::getHitRate)
+             .description("Ratio of the cached checksum lookups which were found")
+             .register(registry);
+        Gauge.builder("strongbox.checksum.cache.evictions", this, ChecksumCacheManager::getEvictionCount)
+             .description("Number of artifact paths evicted because of the size bound or expiry")
+             .register(registry);
+    }
+
+    /**
+     * The cache is rebuilt on each setting change, so the settings should be
+     * changed before the cache is used.
+     */
+    private void buildCache()
+    {
+        cachedChecksums = CacheBuilder.newBuilder()
+                                      .maximumSize(cachedChecksumMaxSize)
+                                      .expireAfterAccess(cachedChecksumLifetime, TimeUnit.MILLISECONDS)
+                                      .recordStats()
+                                      .build();
     }
 
     public boolean containsArtifactPath(String artifactPath)
     {
-        final boolean containsChecksum = cachedChecksums.containsKey(artifactPath);
+        final boolean containsChecksum = cachedChecksums.asMap().containsKey(ArtifactChecksumKey.of(artifactPath));
         if (containsChecksum)
         {
             logger.debug("Cache contains artifact path '{}'.", artifactPath);
@@ -71,12 +121,12 @@ public class ChecksumCacheManager
     public String getArtifactChecksum(String artifactBasePath,
                                       String algorithm)
     {
-        if (!cachedChecksums.containsKey(artifactBasePath))
+        final ArtifactChecksum artifactChecksum = getArtifactChecksum(artifactBasePath);
+        if (artifactChecksum == null)
         {
             return null;
         }
 
-        final ArtifactChecksum artifactChecksum = getArtifactChecksum(artifactBasePath);
         final String checksum = artifactChecksum.getChecksum(algorithm);
         if (checksum != null)
         {
@@ -88,7 +138,7 @@ public class ChecksumCacheManager
 
     public ArtifactChecksum getArtifactChecksum(String artifactBasePath)
     {
-        return cachedChecksums.get(artifactBasePath);
+        return cachedChecksums.getIfPresent(ArtifactChecksumKey.of(artifactBasePath));
     }
 
     public boolean validateChecksum(String artifactPath,
@@ -98,30 +148,24 @@ public class ChecksumCacheManager
         return getArtifactChecksum(artifactPath, algorithm).equals(checksum);
     }
 
-    public synchronized void addArtifactChecksum(String artifactBasePath,
-                                                 String algorithm,
-                                                 String checksum)
+    public void addArtifactChecksum(String artifactBasePath,
+                                    String algorithm,
+                                    String checksum)
     {
         logger.debug("Adding checksum '{}' [{}] for '{}' in cache.", checksum, algorithm, artifactBasePath);
 
-        if (cachedChecksums.containsKey(artifactBasePath))
-        {
-            final ArtifactChecksum artifactChecksum = getArtifactChecksum(artifactBasePath);
-            artifactChecksum.addChecksum(algorithm, checksum);
-        }
-        else
-        {
-            ArtifactChecksum artifactChecksum = new ArtifactChecksum();
-            artifactChecksum.addChecksum(algorithm, checksum);
+        cachedChecksums.asMap().compute(ArtifactChecksumKey.of(artifactBasePath), (k, artifactChecksum) -> {
+            ArtifactChecksum result = artifactChecksum != null ? artifactChecksum : new ArtifactChecksum();
+            result.addChecksum(algorithm, checksum);
 
-            cachedChecksums.put(artifactBasePath, artifactChecksum);
-        }
+            return result;
+        });
     }
 
-    public synchronized void removeArtifactChecksum(String artifactBasePath,
-                                                    String algorithm)
+    public void removeArtifactChecksum(String artifactBasePath,
+                                       String algorithm)
     {
-        Optional.ofNullable(getArtifactChecksum(artifactBasePath)).map(ac -> {
+        cachedChecksums.asMap().computeIfPresent(ArtifactChecksumKey.of(artifactBasePath), (k, ac) -> {
             logger.debug(ac.removeChecksum(algorithm)
                            .map(c -> String.format("Removed [%s] artifact checksum value [%s] from cache.",
                                                    artifactBasePath,
@@ -129,40 +173,23 @@ public class ChecksumCacheManager
                            .orElseGet(() -> String.format("Checksum algorithm [%s] not found for [%s] in cache.",
                                                           algorithm,
                                                           artifactBasePath)));
-            return ac;
-        }).filter(ac -> ac.getChecksums().isEmpty()).ifPresent(ac -> cachedChecksums.values().remove(ac));
-    }
 
-    public synchronized void removeArtifactChecksum(String artifactBasePath)
-    {
-        Optional.ofNullable(cachedChecksums.remove(artifactBasePath))
-                .ifPresent(ac -> logger.debug("Removed [{}] artifact checksum value [{}] from cache.",
-                                              artifactBasePath, ac));
+            return ac.getChecksums().isEmpty() ? null : ac;
+        });
     }
 
-    public synchronized void removeExpiredChecksums()
+    public void removeArtifactChecksum(String artifactBasePath)
     {
-        for (String checksum : getExpiredChecksums())
+        ArtifactChecksum artifactChecksum = cachedChecksums.asMap().remove(ArtifactChecksumKey.of(artifactBasePath));
+        if (artifactChecksum != null)
         {
-            removeArtifactChecksum(checksum);
+            logger.debug("Removed [{}] artifact checksum value [{}] from cache.", artifactBasePath, artifactChecksum);
         }
     }
 
-    private Set<String> getExpiredChecksums()
+    public void removeExpiredChecksums()
     {
-        Set<String> expiredChecksums = new LinkedHashSet<>();
-
-        for (Map.Entry<String, ArtifactChecksum> artifactChecksumEntry : cachedChecksums.entrySet())
-        {
-            ArtifactChecksum checksum = artifactChecksumEntry.getValue();
-
-            if (System.currentTimeMillis() - checksum.getLastAccessed() > cachedChecksumLifetime)
-            {
-                expiredChecksums.add(artifactChecksumEntry.getKey());
-            }
-        }
-
-        return expiredChecksums;
+        cachedChecksums.cleanUp();
     }
 
     public long getCachedChecksumLifetime()
@@ -173,6 +200,7 @@ public class ChecksumCacheManager
     public void setCachedChecksumLifetime(long cachedChecksumLifetime)
     {
         this.cachedChecksumLifetime = cachedChecksumLifetime;
+        buildCache();
     }
 
     public long getCachedChecksumExpiredCheckInterval()
@@ -185,42 +213,44 @@ public class ChecksumCacheManager
         this.cachedChecksumExpiredCheckInterval = cachedChecksumExpiredCheckInterval;
     }
 
+    public long getCachedChecksumMaxSize()
+    {
+        return cachedChecksumMaxSize;
+    }
+
+    public void setCachedChecksumMaxSize(long cachedChecksumMaxSize)
+    {
+        this.cachedChecksumMaxSize = cachedChecksumMaxSize;
+        buildCache();
+    }
+
     public long getSize()
     {
         return cachedChecksums.size();
     }
 
-    public void startMonitor()
+    public double getHitRate()
     {
-        new CachedChecksumExpirer();
+        return cachedChecksums.stats().hitRate();
     }
 
-    private class CachedChecksumExpirer
-            extends Thread
+    public long getEvictionCount()
     {
+        return cachedChecksums.stats().evictionCount();
+    }
 
-        private CachedChecksumExpirer()
-        {
-            start();
-        }
-
-        @Override
-        public void run()
-        {
-            try
-            {
-                //noinspection InfiniteLoopStatement
-                while (true)
-                {
-                    Thread.sleep(getCachedChecksumExpiredCheckInterval());
-                    removeExpiredChecksums();
-                }
-            }
-            catch (InterruptedException e)
-            {
-                logger.error(e.getMessage(), e);
-            }
-        }
+    public void startMonitor()
+    {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "checksum-cache-expirer");
+            thread.setDaemon(true);
+
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::removeExpiredChecksums,
+                                        cachedChecksumExpiredCheckInterval,
+                                        cachedChecksumExpiredCheckInterval,
+                                        TimeUnit.MILLISECONDS);
     }
 
 }
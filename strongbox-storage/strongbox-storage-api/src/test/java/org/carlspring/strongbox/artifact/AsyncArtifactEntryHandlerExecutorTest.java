@@ -0,0 +1,213 @@
+package org.carlspring.strongbox.artifact;
+
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+
+import java.net.URI;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AsyncArtifactEntryHandlerExecutorTest
+{
+
+    private static final String HANDLER_NAME = "TestHandler";
+
+    private static final String POOL_THREAD_PREFIX = "artifact-entry-handler-";
+
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private AsyncArtifactEntryHandlerExecutor executor;
+
+    @AfterEach
+    public void tearDown()
+            throws Exception
+    {
+        release.countDown();
+        callers.shutdownNow();
+        if (executor != null)
+        {
+            executor.destroy();
+        }
+    }
+
+    @Test
+    public void eventsOfQueuedPathShouldBeCoalesced()
+            throws Exception
+    {
+        executor = createExecutor(Runnable::run, 1, 10);
+
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(HANDLER_NAME, path("a"), block(started));
+        assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+
+        AtomicInteger handled = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(1);
+        executor.execute(HANDLER_NAME, path("b"), () -> {
+            handled.incrementAndGet();
+            done.countDown();
+        });
+        executor.execute(HANDLER_NAME, path("b"), handled::incrementAndGet);
+
+        release.countDown();
+
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        awaitIdle();
+        assertThat(handled.get()).isEqualTo(1);
+
+        // Once handled, the events of the path are handled again.
+        CountDownLatch handledAgain = new CountDownLatch(1);
+        executor.execute(HANDLER_NAME, path("b"), handledAgain::countDown);
+
+        assertThat(handledAgain.await(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void handlerShouldBeExecutedByCallerOnceQueueIsFull()
+            throws Exception
+    {
+        executor = createExecutor(Runnable::run, 1, 1);
+
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(HANDLER_NAME, path("a"), block(started));
+        assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+        executor.execute(HANDLER_NAME, path("b"), () -> {
+        });
+
+        Queue<String> threads = new ConcurrentLinkedQueue<>();
+        executor.execute(HANDLER_NAME, path("c"), () -> threads.add(Thread.currentThread().getName()));
+
+        assertThat(threads).containsExactly(Thread.currentThread().getName());
+    }
+
+    @Test
+    public void synchronousCallerShouldWaitOnceQueueIsFull()
+            throws Exception
+    {
+        executor = createExecutor(new SyncTaskExecutor(), 1, 1);
+
+        CountDownLatch started = new CountDownLatch(1);
+        Future<?> blocked = callers.submit(() -> executor.execute(HANDLER_NAME, path("a"), block(started)));
+        assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+        Future<?> queued = callers.submit(() -> executor.execute(HANDLER_NAME, path("b"), () -> {
+        }));
+        awaitQueueSize(1);
+
+        Queue<String> threads = new ConcurrentLinkedQueue<>();
+        Future<?> waiting = callers.submit(() -> executor.execute(HANDLER_NAME,
+                                                                  path("c"),
+                                                                  () -> threads.add(Thread.currentThread()
+                                                                                          .getName())));
+
+        // Neither executed by the caller, nor rejected.
+        Thread.sleep(200);
+        assertThat(waiting.isDone()).isFalse();
+        assertThat(threads).isEmpty();
+
+        release.countDown();
+
+        blocked.get(10, TimeUnit.SECONDS);
+        queued.get(10, TimeUnit.SECONDS);
+        waiting.get(10, TimeUnit.SECONDS);
+        assertThat(threads).hasSize(1);
+        assertThat(threads.peek()).startsWith(POOL_THREAD_PREFIX);
+    }
+
+    @Test
+    public void eventsShouldBeRejectedOnceShutDown()
+            throws Exception
+    {
+        for (Executor eventTaskExecutor : new Executor[]{ Runnable::run,
+                                                          new SyncTaskExecutor() })
+        {
+            AsyncArtifactEntryHandlerExecutor shutDownExecutor = createExecutor(eventTaskExecutor, 1, 1);
+            shutDownExecutor.destroy();
+
+            AtomicInteger handled = new AtomicInteger();
+            shutDownExecutor.execute(HANDLER_NAME, path("a"), handled::incrementAndGet);
+            shutDownExecutor.execute(HANDLER_NAME, path("a"), handled::incrementAndGet);
+
+            assertThat(handled.get()).isZero();
+        }
+    }
+
+    private AsyncArtifactEntryHandlerExecutor createExecutor(Executor eventTaskExecutor,
+                                                             int threads,
+                                                             int queueCapacity)
+    {
+        AsyncArtifactEntryHandlerExecutor result = new AsyncArtifactEntryHandlerExecutor();
+        ReflectionTestUtils.setField(result, "eventTaskExecutor", eventTaskExecutor);
+        ReflectionTestUtils.setField(result, "threads", threads);
+        ReflectionTestUtils.setField(result, "queueCapacity", queueCapacity);
+        result.afterPropertiesSet();
+
+        return result;
+    }
+
+    private Runnable block(CountDownLatch started)
+    {
+        return () -> {
+            started.countDown();
+            try
+            {
+                release.await(10, TimeUnit.SECONDS);
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+            }
+        };
+    }
+
+    private void awaitQueueSize(int size)
+            throws InterruptedException
+    {
+        ThreadPoolExecutor threadPoolExecutor = (ThreadPoolExecutor) ReflectionTestUtils.getField(executor,
+                                                                                                  "executor");
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (threadPoolExecutor.getQueue().size() != size && System.currentTimeMillis() < deadline)
+        {
+            Thread.sleep(10);
+        }
+        assertThat(threadPoolExecutor.getQueue()).hasSize(size);
+    }
+
+    private void awaitIdle()
+            throws InterruptedException
+    {
+        awaitQueueSize(0);
+
+        ThreadPoolExecutor threadPoolExecutor = (ThreadPoolExecutor) ReflectionTestUtils.getField(executor,
+                                                                                                  "executor");
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (threadPoolExecutor.getActiveCount() > 0 && System.currentTimeMillis() < deadline)
+        {
+            Thread.sleep(10);
+        }
+        assertThat(threadPoolExecutor.getActiveCount()).isZero();
+    }
+
+    private RepositoryPath path(String name)
+    {
+        RepositoryPath result = Mockito.mock(RepositoryPath.class);
+        Mockito.when(result.toUri()).thenReturn(URI.create("strongbox:/storage0/releases/" + name));
+
+        return result;
+    }
+
+}
@@ -0,0 +1,63 @@
+package org.carlspring.strongbox.artifact.archive;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.apache.commons.compress.archivers.ArchiveInputStream;
+import org.apache.commons.compress.archivers.zip.ZipArchiveInputStream;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ZipArchiveListingFunctionTest
+{
+
+    private static final int ENTRIES = 10000;
+
+    @Test
+    public void centralDirectoryListingShouldMatchStreamListing()
+            throws IOException
+    {
+        Path archivePath = Files.createTempFile("listing-test", ".jar");
+        try
+        {
+            writeArchive(archivePath);
+
+            Set<String> filenames = ZipArchiveListingFunction.INSTANCE.getZipEntryNames(archivePath);
+
+            assertThat(filenames).hasSize(ENTRIES);
+            try (InputStream is = Files.newInputStream(archivePath);
+                 BufferedInputStream bis = new BufferedInputStream(is);
+                 ArchiveInputStream ais = new ZipArchiveInputStream(bis))
+            {
+                assertThat(filenames).isEqualTo(ZipArchiveListingFunction.INSTANCE.getEntryNames(ais));
+            }
+        }
+        finally
+        {
+            Files.deleteIfExists(archivePath);
+        }
+    }
+
+    private void writeArchive(Path archivePath)
+            throws IOException
+    {
+        try (OutputStream os = Files.newOutputStream(archivePath);
+             ZipOutputStream zos = new ZipOutputStream(os))
+        {
+            for (int i = 0; i < ENTRIES; i++)
+            {
+                zos.putNextEntry(new ZipEntry(String.format("org/carlspring/strongbox/Class%s.class", i)));
+                zos.write(new byte[128]);
+                zos.closeEntry();
+            }
+        }
+    }
+
+}
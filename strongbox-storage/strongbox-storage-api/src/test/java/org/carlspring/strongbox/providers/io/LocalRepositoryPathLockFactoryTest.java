@@ -0,0 +1,71 @@
+package org.carlspring.strongbox.providers.io;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.Lock;
+
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LocalRepositoryPathLockFactoryTest
+{
+
+    @Test
+    public void lockShouldBeExclusiveWhileItIsHeld()
+        throws Exception
+    {
+        LocalRepositoryPathLockFactory lockFactory = new LocalRepositoryPathLockFactory();
+
+        Lock lock = lockFactory.getLock("storage0/releases/org.carlspring:test").writeLock();
+        lock.lock();
+        try
+        {
+            // Only the write lock view is referenced here.
+            System.gc();
+
+            boolean locked = CompletableFuture.supplyAsync(() -> {
+                Lock other = lockFactory.getLock("storage0/releases/org.carlspring:test").readLock();
+                boolean result = other.tryLock();
+                if (result)
+                {
+                    other.unlock();
+                }
+                return result;
+            }).get();
+
+            assertThat(locked).isFalse();
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    @Test
+    public void differentNamesShouldNotShareLocks()
+        throws Exception
+    {
+        LocalRepositoryPathLockFactory lockFactory = new LocalRepositoryPathLockFactory();
+
+        Lock lock = lockFactory.getLock("storage0/releases/org.carlspring:test-1").writeLock();
+        lock.lock();
+        try
+        {
+            boolean locked = CompletableFuture.supplyAsync(() -> {
+                Lock other = lockFactory.getLock("storage0/releases/org.carlspring:test-2").writeLock();
+                boolean result = other.tryLock();
+                if (result)
+                {
+                    other.unlock();
+                }
+                return result;
+            }).get();
+
+            assertThat(locked).isTrue();
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+}
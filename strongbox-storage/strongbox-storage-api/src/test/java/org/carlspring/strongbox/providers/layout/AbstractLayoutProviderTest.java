@@ -135,6 +135,22 @@ class AbstractLayoutProviderTest
         assertThat(repositoryArtifactIdGroup.getClass()).isEqualTo((RepositoryArtifactIdGroupEntry.class));
     }
     
+    @Test
+    public void shouldParseArtifactCoordinatesOnce()
+            throws IOException
+    {
+        RepositoryPath path = new RepositoryPath(REPOSITORY_BASEDIR, repositoryFileSystem).resolve("org")
+                                                                                          .resolve("carlspring")
+                                                                                          .resolve("abs-lay-prov-test")
+                                                                                          .resolve("1.9")
+                                                                                          .resolve("abs-lay-prov-test-1.9.jar");
+
+        assertThat(layoutProvider.getCachedArtifactCoordinates(path)).isSameAs(artifactCoordinates);
+        assertThat(layoutProvider.getCachedArtifactCoordinates(path.normalize())).isSameAs(artifactCoordinates);
+
+        Mockito.verify(layoutProvider, Mockito.times(1)).getArtifactCoordinates(any(RepositoryPath.class));
+    }
+
     private class StorageFileSystemProviderTest extends LayoutFileSystemProvider
     {
         
@@ -0,0 +1,213 @@
+package org.carlspring.strongbox.providers.repository.proxied;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class InFlightRemoteArtifactTest
+{
+
+    private static final int BUFFER_SIZE = 4096;
+
+    private Path directory;
+
+    private Path tempPath;
+
+    private Path storedPath;
+
+    private ReentrantReadWriteLock lockSource;
+
+    private InFlightRemoteArtifact download;
+
+    @BeforeEach
+    public void setUp()
+        throws IOException
+    {
+        directory = Files.createTempDirectory("in-flight-remote-artifact");
+        tempPath = directory.resolve("artifact.jar.tmp");
+        storedPath = directory.resolve("artifact.jar");
+        lockSource = new ReentrantReadWriteLock();
+
+        download = new InFlightRemoteArtifact(null, tempPath, storedPath);
+    }
+
+    @AfterEach
+    public void tearDown()
+        throws IOException
+    {
+        FileUtils.deleteDirectory(directory.toFile());
+    }
+
+    @Test
+    public void testConcurrentReadersTailTheDownload()
+        throws Exception
+    {
+        byte[] content = createContent(1024 * 1024);
+        download.start(content.length);
+
+        InputStream firstReader = download.newInputStream(lockSource);
+        CompletableFuture<byte[]> firstResult = CompletableFuture.supplyAsync(() -> readFully(firstReader));
+
+        try (InputStream source = download.tee(new ByteArrayInputStream(content));
+             OutputStream target = Files.newOutputStream(tempPath))
+        {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int n = source.read(buffer);
+            target.write(buffer, 0, n);
+
+            // Second reader attaches in the middle of the download.
+            InputStream secondReader = download.newInputStream(lockSource);
+            CompletableFuture<byte[]> secondResult = CompletableFuture.supplyAsync(() -> readFully(secondReader));
+
+            while ((n = source.read(buffer)) != -1)
+            {
+                target.write(buffer, 0, n);
+            }
+            target.close();
+            store();
+
+            assertThat(firstResult.get(10, TimeUnit.SECONDS)).isEqualTo(content);
+            assertThat(secondResult.get(10, TimeUnit.SECONDS)).isEqualTo(content);
+        }
+
+        // Released by the readers.
+        assertThat(lockSource.getReadLockCount()).isZero();
+        assertThat(download.newInputStream(lockSource)).isNull();
+    }
+
+    @Test
+    public void testStoredArtifactIsReadUnderThePathLock()
+        throws Exception
+    {
+        byte[] content = createContent(100 * 1024);
+        download.start(content.length);
+
+        InputStream reader = download.newInputStream(lockSource);
+
+        try (InputStream source = download.tee(new ByteArrayInputStream(content));
+             OutputStream target = Files.newOutputStream(tempPath))
+        {
+            IOUtils.copy(source, target);
+        }
+        store();
+
+        assertThat(reader.read()).isEqualTo(0);
+        assertThat(lockSource.getReadLockCount()).isEqualTo(1);
+
+        assertThat(IOUtils.toByteArray(reader)).hasSize(content.length - 1);
+        reader.close();
+        assertThat(lockSource.getReadLockCount()).isZero();
+    }
+
+    @Test
+    public void testFailedUpstreamMidStream()
+        throws Exception
+    {
+        byte[] content = createContent(100 * 1024);
+        download.start(content.length);
+
+        InputStream reader = download.newInputStream(lockSource);
+        CompletableFuture<byte[]> result = CompletableFuture.supplyAsync(() -> readFully(reader));
+
+        // The remote connection is lost once the half of the artifact was read.
+        InputStream upstream = new ByteArrayInputStream(content, 0, content.length / 2)
+        {
+
+            @Override
+            public synchronized int read(byte[] b,
+                                         int off,
+                                         int len)
+            {
+                int n = super.read(b, off, len);
+                if (n == -1)
+                {
+                    throw new IllegalStateException("Connection reset.");
+                }
+                return n;
+            }
+
+        };
+
+        try (InputStream source = download.tee(upstream);
+             OutputStream target = Files.newOutputStream(tempPath))
+        {
+            IOUtils.copy(source, target);
+        }
+        catch (IllegalStateException e)
+        {
+            // The store removes the file being written.
+            Files.delete(tempPath);
+            download.fail(new IOException(e));
+            download.release();
+        }
+
+        assertThatThrownBy(() -> result.get(10, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class)
+                                                                  .hasRootCauseInstanceOf(IllegalStateException.class);
+
+        // Remote bytes were read, so the download was started.
+        download.awaitStarted();
+        assertThat(lockSource.getReadLockCount()).isZero();
+    }
+
+    @Test
+    public void testFailedDownload()
+        throws Exception
+    {
+        download.fail(new IOException("Not found."));
+
+        assertThatThrownBy(download::awaitStarted).isInstanceOf(IOException.class);
+
+        try (InputStream reader = download.newInputStream(lockSource))
+        {
+            assertThatThrownBy(() -> reader.read()).isInstanceOf(IOException.class);
+        }
+        download.release();
+    }
+
+    private void store()
+        throws IOException
+    {
+        Files.move(tempPath, storedPath);
+        download.complete();
+        download.release();
+    }
+
+    private static byte[] createContent(int length)
+    {
+        byte[] result = new byte[length];
+        for (int i = 0; i < result.length; i++)
+        {
+            result[i] = (byte) i;
+        }
+
+        return result;
+    }
+
+    private static byte[] readFully(InputStream is)
+    {
+        try (InputStream reader = is)
+        {
+            return IOUtils.toByteArray(reader);
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+}
@@ -0,0 +1,125 @@
+package org.carlspring.strongbox.providers.repository.proxied;
+
+import org.carlspring.strongbox.client.RestArtifactResolver;
+import org.carlspring.strongbox.configuration.ConfigurationManager;
+import org.carlspring.strongbox.service.ProxyRepositoryConnectionPoolConfigurationService;
+import org.carlspring.strongbox.storage.repository.remote.RemoteRepository;
+
+import javax.ws.rs.client.Client;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RestArtifactResolverFactoryTest
+{
+
+    private static final String URL = "https://repo.maven.apache.org/maven2/";
+
+    private RestArtifactResolverFactory factory;
+
+    @BeforeEach
+    public void setUp()
+    {
+        ProxyRepositoryConnectionPoolConfigurationService connectionPoolConfigurationService = Mockito.mock(
+                ProxyRepositoryConnectionPoolConfigurationService.class);
+        Mockito.when(connectionPoolConfigurationService.getRestClient())
+               .thenAnswer(invocation -> Mockito.mock(Client.class));
+
+        factory = new RestArtifactResolverFactory();
+        ReflectionTestUtils.setField(factory,
+                                     "proxyRepositoryConnectionPoolConfigurationService",
+                                     connectionPoolConfigurationService);
+        ReflectionTestUtils.setField(factory,
+                                     "configurationManager",
+                                     Mockito.mock(ConfigurationManager.class, Mockito.RETURNS_DEEP_STUBS));
+    }
+
+    @Test
+    public void clientShouldBeReusedForSameRemoteRepository()
+    {
+        RestArtifactResolver first = factory.newInstance(remoteRepository(URL, "user", "password"));
+        RestArtifactResolver second = factory.newInstance(remoteRepository(URL, "user", "password"));
+
+        assertThat(clientOf(second)).isSameAs(clientOf(first));
+
+        // Closing one of the resolvers doesn't close the shared client.
+        first.close();
+        first.close();
+        Mockito.verify(clientOf(first), Mockito.never()).close();
+
+        RestArtifactResolver third = factory.newInstance(remoteRepository(URL, "user", "password"));
+        assertThat(clientOf(third)).isSameAs(clientOf(first));
+
+        // Other remote repositories have their own client.
+        RestArtifactResolver other = factory.newInstance(remoteRepository("https://other.example.com/", "user",
+                                                                          "password"));
+        assertThat(clientOf(other)).isNotSameAs(clientOf(first));
+    }
+
+    @Test
+    public void replacedClientShouldBeClosedOnceItsResolversAreClosed()
+    {
+        RestArtifactResolver first = factory.newInstance(remoteRepository(URL, "user", "password"));
+        RestArtifactResolver second = factory.newInstance(remoteRepository(URL, "user", "password"));
+        Client replacedClient = clientOf(first);
+
+        // The credentials were changed.
+        RestArtifactResolver replacing = factory.newInstance(remoteRepository(URL, "user", "changed"));
+        assertThat(clientOf(replacing)).isNotSameAs(replacedClient);
+
+        // Still used by the second resolver.
+        first.close();
+        Mockito.verify(replacedClient, Mockito.never()).close();
+
+        second.close();
+        Mockito.verify(replacedClient).close();
+
+        // The new client is kept.
+        replacing.close();
+        Mockito.verify(clientOf(replacing), Mockito.never()).close();
+        assertThat(clientOf(factory.newInstance(remoteRepository(URL, "user", "changed"))))
+                .isSameAs(clientOf(replacing));
+    }
+
+    @Test
+    public void replacedClientShouldBeClosedIfNotUsed()
+    {
+        RestArtifactResolver first = factory.newInstance(remoteRepository(URL, "user", "password"));
+        first.close();
+
+        factory.newInstance(remoteRepository(URL, null, null));
+
+        Mockito.verify(clientOf(first)).close();
+    }
+
+    @Test
+    public void clientsShouldBeClosedOnDestroy()
+    {
+        RestArtifactResolver resolver = factory.newInstance(remoteRepository(URL, "user", "password"));
+
+        factory.destroy();
+
+        Mockito.verify(clientOf(resolver)).close();
+    }
+
+    private RemoteRepository remoteRepository(String url,
+                                              String username,
+                                              String password)
+    {
+        RemoteRepository result = Mockito.mock(RemoteRepository.class);
+        Mockito.when(result.getUrl()).thenReturn(url);
+        Mockito.when(result.getUsername()).thenReturn(username);
+        Mockito.when(result.getPassword()).thenReturn(password);
+
+        return result;
+    }
+
+    private Client clientOf(RestArtifactResolver resolver)
+    {
+        return (Client) ReflectionTestUtils.getField(resolver, "client");
+    }
+
+}
@@ -12,6 +12,7 @@ import org.carlspring.strongbox.services.ArtifactEntryService;
 import javax.inject.Inject;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -189,6 +190,45 @@ public class ArtifactEntryServiceTest
         assertThat(artifactEntryOptional).isPresent();
     }
 
+    @Test
+    public void saveAllShouldWork(TestInfo testInfo)
+    {
+        final String groupId = getGroupId(GROUP_ID, testInfo);
+
+        ArtifactCoordinates jarCoordinates = createArtifactCoordinates(groupId, ARTIFACT_ID + "123", "1.2.3", "jar");
+        int all = count(groupId);
+
+        ArtifactEntry existingArtifactEntry = artifactEntryService.findOneArtifact(STORAGE_ID,
+                                                                                   REPOSITORY_ID,
+                                                                                   jarCoordinates.toPath());
+        assertThat(existingArtifactEntry).isNotNull();
+        existingArtifactEntry.setDownloadCount(5);
+
+        List<ArtifactEntry> artifactEntries = new ArrayList<>();
+        artifactEntries.add(existingArtifactEntry);
+        for (int i = 0; i < 10; i++)
+        {
+            ArtifactEntry artifactEntry = new ArtifactEntry();
+            artifactEntry.setStorageId(STORAGE_ID);
+            artifactEntry.setRepositoryId(REPOSITORY_ID);
+            artifactEntry.setArtifactCoordinates(createArtifactCoordinates(groupId, ARTIFACT_ID + "bulk", "1.0." + i, "jar"));
+
+            artifactEntries.add(artifactEntry);
+        }
+
+        List<ArtifactEntry> result = artifactEntryService.saveAll(artifactEntries);
+
+        assertThat(result).hasSize(11);
+        assertThat(result).allSatisfy(e -> assertThat(e.getCreated()).isNotNull());
+        assertThat(count(groupId)).isEqualTo(all + 10);
+
+        ArtifactEntry artifactEntry = artifactEntryService.findOneArtifact(STORAGE_ID,
+                                                                           REPOSITORY_ID,
+                                                                           jarCoordinates.toPath());
+        assertThat(artifactEntry.getUuid()).isEqualTo(existingArtifactEntry.getUuid());
+        assertThat(artifactEntry.getDownloadCount()).isEqualTo(5);
+    }
+
     private ArtifactEntry save(ArtifactEntry artifactEntry)
     {
         return artifactEntryService.save(artifactEntry);
@@ -118,6 +118,22 @@ public class ConfigurationManagementServiceImplTest
         assertThat(iterator.next()).isEqualTo("jboss-public-releases");
     }
 
+    @Test
+    public void configurationSnapshotShouldBeRepublishedOnlyOnModification()
+            throws IOException
+    {
+        Configuration configuration = configurationManagementService.getConfiguration();
+        assertThat(configurationManagementService.getConfiguration()).isSameAs(configuration);
+
+        String instanceName = configuration.getInstanceName();
+        configurationManagementService.setInstanceName(instanceName);
+
+        Configuration modified = configurationManagementService.getConfiguration();
+        assertThat(modified).isNotSameAs(configuration);
+        assertThat(modified.getInstanceName()).isEqualTo(instanceName);
+        assertThat(configurationManagementService.getConfiguration()).isSameAs(modified);
+    }
+
     @Test
     public void testGetRepositories()
     {
@@ -0,0 +1,108 @@
+package org.carlspring.strongbox.services.support;
+
+import org.carlspring.strongbox.storage.Storage;
+import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.storage.routing.MutableRoutingRule;
+import org.carlspring.strongbox.storage.routing.MutableRoutingRuleRepository;
+import org.carlspring.strongbox.storage.routing.MutableRoutingRules;
+import org.carlspring.strongbox.storage.routing.RoutingRuleTypeEnum;
+import org.carlspring.strongbox.storage.routing.RoutingRules;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ArtifactRoutingRulesIndexTest
+{
+
+    private final Repository group = mockRepository("storage0", "group");
+
+    private final Repository releases = mockRepository("storage0", "releases");
+
+    private final Repository snapshots = mockRepository("storage1", "snapshots");
+
+    @Test
+    public void testDeniedAndAccepted()
+    {
+        ArtifactRoutingRulesIndex index = new ArtifactRoutingRulesIndex(
+                routingRules(MutableRoutingRule.create("storage0", "group",
+                                                       Collections.emptyList(),
+                                                       "org/carlspring/.*",
+                                                       RoutingRuleTypeEnum.DENY),
+                             MutableRoutingRule.create("storage0", "group",
+                                                       repositories("storage0:releases"),
+                                                       "org/carlspring/strongbox/.*",
+                                                       RoutingRuleTypeEnum.ACCEPT)));
+
+        assertThat(index.isDenied(group, releases, "org/carlspring/commons/1.0/commons-1.0.jar")).isTrue();
+        assertThat(index.isDenied(group, releases, "org/carlspring/strongbox/1.0/strongbox-1.0.jar")).isFalse();
+        assertThat(index.isDenied(group, snapshots, "org/carlspring/strongbox/1.0/strongbox-1.0.jar")).isTrue();
+        assertThat(index.isDenied(group, releases, "com/example/1.0/example-1.0.jar")).isFalse();
+    }
+
+    @Test
+    public void testWildcardsAndMergedPatterns()
+    {
+        List<MutableRoutingRule> rules = new ArrayList<>();
+        for (int i = 0; i < 100; i++)
+        {
+            rules.add(MutableRoutingRule.create("", "",
+                                                repositories("storage1:"),
+                                                String.format("com/example%s/.*", i),
+                                                RoutingRuleTypeEnum.DENY));
+        }
+        // back references are matched separately
+        rules.add(MutableRoutingRule.create("storage0", "",
+                                            Collections.emptyList(),
+                                            "(\\w+)/\\1/.*",
+                                            RoutingRuleTypeEnum.DENY));
+
+        ArtifactRoutingRulesIndex index = new ArtifactRoutingRulesIndex(routingRules(rules.toArray(new MutableRoutingRule[0])));
+
+        assertThat(index.isDenied(group, snapshots, "com/example42/1.0/example42-1.0.jar")).isTrue();
+        assertThat(index.isDenied(group, releases, "com/example42/1.0/example42-1.0.jar")).isFalse();
+        assertThat(index.isDenied(group, snapshots, "com/example420/1.0/example420-1.0.jar")).isFalse();
+        assertThat(index.isDenied(group, releases, "foo/foo/1.0/foo-1.0.jar")).isTrue();
+        assertThat(index.isDenied(group, releases, "foo/bar/1.0/bar-1.0.jar")).isFalse();
+    }
+
+    private static RoutingRules routingRules(MutableRoutingRule... rules)
+    {
+        MutableRoutingRules routingRules = new MutableRoutingRules();
+        routingRules.setRules(new ArrayList<>(Arrays.asList(rules)));
+
+        return new RoutingRules(routingRules);
+    }
+
+    private static List<MutableRoutingRuleRepository> repositories(String... storageIdAndRepositoryIds)
+    {
+        List<MutableRoutingRuleRepository> result = new ArrayList<>();
+        for (String storageIdAndRepositoryId : storageIdAndRepositoryIds)
+        {
+            String[] ids = storageIdAndRepositoryId.split(":", -1);
+            result.add(new MutableRoutingRuleRepository(ids[0], ids[1]));
+        }
+
+        return result;
+    }
+
+    private static Repository mockRepository(String storageId,
+                                             String repositoryId)
+    {
+        Storage storage = Mockito.mock(Storage.class);
+        Mockito.when(storage.getId()).thenReturn(storageId);
+
+        Repository repository = Mockito.mock(Repository.class);
+        Mockito.when(repository.getId()).thenReturn(repositoryId);
+        Mockito.when(repository.getStorage()).thenReturn(storage);
+        Mockito.when(repository.getStorageIdAndRepositoryId()).thenReturn(storageId + ":" + repositoryId);
+
+        return repository;
+    }
+
+}
@@ -6,7 +6,15 @@ import org.carlspring.strongbox.util.MessageDigestUtils;
 import java.io.IOException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
-
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import static org.assertj.core.api.Assertions.fail;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -54,6 +62,116 @@ public class ChecksumCacheManagerTest
         checkerThread.interrupt();
     }
 
+    @Test
+    public void testConcurrentChecksumManagement()
+            throws Exception
+    {
+        final int threads = 16;
+        final int paths = 1000;
+
+        ChecksumCacheManager manager = new ChecksumCacheManager();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try
+        {
+            List<Callable<Void>> tasks = new ArrayList<>();
+            for (int t = 0; t < threads; t++)
+            {
+                final int thread = t;
+                tasks.add(() -> {
+                    for (int i = 0; i < paths; i++)
+                    {
+                        // Half of the paths are shared between the threads.
+                        boolean shared = i % 2 == 0;
+                        String path = shared ? String.format("shared/artifact-%s.jar", i)
+                                             : String.format("thread-%s/artifact-%s.jar", thread, i);
+
+                        manager.addArtifactChecksum(path, "md5", "md5-" + i);
+                        manager.addArtifactChecksum(path, "sha1", "sha1-" + i);
+
+                        String checksum = manager.getArtifactChecksum(path, "sha1");
+                        if (!shared)
+                        {
+                            assertThat(checksum).isEqualTo("sha1-" + i);
+                        }
+
+                        manager.removeArtifactChecksum(path, "md5");
+                        manager.removeArtifactChecksum(path, "sha1");
+                    }
+
+                    return null;
+                });
+            }
+
+            for (Future<Void> future : executor.invokeAll(tasks))
+            {
+                future.get();
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+
+        assertThat(manager.getSize()).isEqualTo(0);
+        assertThat(manager.getHitRate()).isGreaterThan(0);
+    }
+
+    @Test
+    public void testChecksumCacheSizeBound()
+    {
+        ChecksumCacheManager manager = new ChecksumCacheManager();
+        manager.setCachedChecksumMaxSize(100);
+
+        for (int i = 0; i < 1000; i++)
+        {
+            manager.addArtifactChecksum(String.format("artifact-%s.jar", i), "md5", "md5-" + i);
+        }
+
+        assertThat(manager.getSize()).isLessThanOrEqualTo(100);
+        assertThat(manager.getEvictionCount()).isGreaterThanOrEqualTo(900);
+    }
+
+    @Test
+    public void testCacheGauges()
+    {
+        ChecksumCacheManager manager = new ChecksumCacheManager();
+        MeterRegistry registry = new SimpleMeterRegistry();
+        manager.bindTo(registry);
+
+        manager.addArtifactChecksum("artifact-1.jar", "md5", "md5-1");
+        manager.getArtifactChecksum("artifact-1.jar", "md5");
+        manager.getArtifactChecksum("artifact-2.jar", "md5");
+
+        assertThat(registry.get("strongbox.checksum.cache.size").gauge().value()).isEqualTo(1);
+        assertThat(registry.get("strongbox.checksum.cache.hit.rate").gauge().value()).isEqualTo(0.5);
+        assertThat(registry.get("strongbox.checksum.cache.evictions").gauge().value()).isEqualTo(0);
+    }
+
+    @Test
+    public void testArtifactChecksumKey()
+    {
+        ArtifactChecksumKey key = ArtifactChecksumKey.of("strongbox:/storage0/releases/org/carlspring/test-1.0.jar");
+
+        assertThat(key.getStorageId()).isEqualTo("storage0");
+        assertThat(key.getRepositoryId()).isEqualTo("releases");
+        assertThat(key.getPath()).isEqualTo("org/carlspring/test-1.0.jar");
+        assertThat(key).isEqualTo(ArtifactChecksumKey.of("strongbox:/storage0/releases/org/carlspring/test-1.0.jar"));
+        assertThat(key.getStorageId()).isSameAs(ArtifactChecksumKey.of("strongbox:/storage0/releases/a.jar")
+                                                                   .getStorageId());
+        assertThat(key).isNotEqualTo(ArtifactChecksumKey.of("strongbox:/storage0/snapshots/org/carlspring/test-1.0.jar"));
+
+        assertThat(ArtifactChecksumKey.of("artifact-1.jar").getPath()).isEqualTo("artifact-1.jar");
+
+        ChecksumCacheManager manager = new ChecksumCacheManager();
+        manager.addArtifactChecksum("strongbox:/storage0/releases/org/carlspring/test-1.0.jar", "md5", "md5-1");
+
+        assertThat(manager.getArtifactChecksum("strongbox:/storage0/releases/org/carlspring/test-1.0.jar", "md5"))
+                .isEqualTo("md5-1");
+        assertThat(manager.containsArtifactPath("strongbox:/storage0/snapshots/org/carlspring/test-1.0.jar"))
+                .isFalse();
+    }
+
     @Test
     public void testDigests()
             throws NoSuchAlgorithmException, IOException, CloneNotSupportedException
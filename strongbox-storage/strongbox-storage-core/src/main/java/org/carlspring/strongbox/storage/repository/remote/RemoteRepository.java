@@ -27,6 +27,12 @@ public interface RemoteRepository
 
     Integer getCheckIntervalSeconds();
 
+    /**
+     * @return the maximum size of the locally cached artifacts, in bytes, or
+     *         `null` if the cache is not limited
+     */
+    Long getCacheQuotaInBytes();
+
     boolean allowsDirectoryBrowsing();
 
     boolean isAutoImportRemoteSSLCertificate();
@@ -30,6 +30,8 @@ public class RemoteRepositoryDto
 
     private Integer checkIntervalSeconds = DEFAULT_HEARTBEAT_INTERVAL_SECONDS;
 
+    private Long cacheQuotaInBytes;
+
     private boolean allowsDirectoryBrowsing = true;
 
     private boolean autoImportRemoteSSLCertificate;
@@ -116,6 +118,16 @@ public class RemoteRepositoryDto
         this.checkIntervalSeconds = checkIntervalSeconds;
     }
 
+    public Long getCacheQuotaInBytes()
+    {
+        return cacheQuotaInBytes;
+    }
+
+    public void setCacheQuotaInBytes(Long cacheQuotaInBytes)
+    {
+        this.cacheQuotaInBytes = cacheQuotaInBytes;
+    }
+
     public void setAllowsDirectoryBrowsing(boolean allowsDirectoryBrowsing)
     {
         this.allowsDirectoryBrowsing = allowsDirectoryBrowsing;
@@ -1,13 +1,15 @@
 package org.carlspring.strongbox.controllers;
 
 import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.providers.io.RepositoryStreamSupport.RepositoryInputStream;
+import org.carlspring.strongbox.providers.repository.proxied.InFlightRemoteArtifact;
+import org.carlspring.strongbox.providers.repository.proxied.InFlightRemoteArtifactRegistry;
 import org.carlspring.strongbox.services.ArtifactManagementService;
 import org.carlspring.strongbox.utils.ArtifactControllerHelper;
 
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
-import java.io.InputStream;
 
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -21,6 +23,9 @@ public abstract class BaseArtifactController
     @Inject
     protected ArtifactManagementService artifactManagementService;
 
+    @Inject
+    private InFlightRemoteArtifactRegistry inFlightRemoteArtifactRegistry;
+
     protected boolean provideArtifactDownloadResponse(HttpServletRequest request,
                                                       HttpServletResponse response,
                                                       HttpHeaders httpHeaders,
@@ -28,25 +33,43 @@ public abstract class BaseArtifactController
             throws Exception
     {
         logger.debug("Resolved path: {}", repositoryPath);
-        ArtifactControllerHelper.provideArtifactHeaders(response, repositoryPath);
+        InFlightRemoteArtifact download = repositoryPath == null ? null : inFlightRemoteArtifactRegistry.get(repositoryPath);
+        if (download != null)
+        {
+            ArtifactControllerHelper.provideInFlightArtifactHeaders(response, repositoryPath, download.getContentLength());
+        }
+        else
+        {
+            ArtifactControllerHelper.provideArtifactHeaders(response, repositoryPath);
+        }
         if (response.getStatus() == HttpStatus.NOT_FOUND.value())
         {
             return false;
         }
+        else if (download == null && ArtifactControllerHelper.checkNotModified(request, response))
+        {
+            logger.debug("Not modified: {}", repositoryPath);
+
+            return true;
+        }
         else if (request.getMethod().equals(RequestMethod.HEAD.name()))
         {
             return true;
         }
 
-        
-        try (InputStream is = artifactResolutionService.getInputStream(repositoryPath))
+        try (RepositoryInputStream is = artifactResolutionService.getInputStream(repositoryPath))
         {
-            if (ArtifactControllerHelper.isRangedRequest(httpHeaders))
+            // Ranges are ignored while the artifact is still being downloaded.
+            if (download == null && ArtifactControllerHelper.isRangedRequest(httpHeaders))
             {
                 logger.debug("Detected ranged request.");
 
                 ArtifactControllerHelper.handlePartialDownload(is, httpHeaders, response);
             }
+            else if (download == null && is.isTransferSupported())
+            {
+                transferToResponse(is, 0, is.size(), response);
+            }
             else
             {
                 copyToResponse(is, response);
@@ -8,6 +8,7 @@ import org.carlspring.strongbox.controllers.support.ListEntityBody;
 import org.carlspring.strongbox.controllers.support.ResponseEntityBody;
 import org.carlspring.strongbox.exception.ExceptionHandlingOutputStream;
 import org.carlspring.strongbox.providers.io.RepositoryPathResolver;
+import org.carlspring.strongbox.providers.io.RepositoryStreamSupport.RepositoryInputStream;
 import org.carlspring.strongbox.services.ArtifactResolutionService;
 import org.carlspring.strongbox.services.ConfigurationManagementService;
 import org.carlspring.strongbox.storage.Storage;
@@ -18,6 +19,8 @@ import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.util.List;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -308,4 +311,29 @@ public abstract class BaseController
             response.flushBuffer();
         }
     }
+
+    /**
+     * Transfers the artifact file region into the response, without reading it
+     * through the stream decorators (digests, byte ranges and buffered copy).
+     * <br>
+     * This is not a zero-copy transfer: the servlet output stream is not a
+     * channel, so the JDK copies the file region through a buffer into it.
+     *
+     * @see RepositoryInputStream#transferTo(long, long, WritableByteChannel)
+     */
+    public static void transferToResponse(RepositoryInputStream is,
+                                          long position,
+                                          long count,
+                                          HttpServletResponse response)
+            throws IOException
+    {
+        response.setHeader(HttpHeaders.CONTENT_LENGTH, Long.toString(count));
+
+        try (OutputStream os = new ExceptionHandlingOutputStream(response.getOutputStream()))
+        {
+            is.transferTo(position, count, Channels.newChannel(os));
+
+            response.flushBuffer();
+        }
+    }
 }
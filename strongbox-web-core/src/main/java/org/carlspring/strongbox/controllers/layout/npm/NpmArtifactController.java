@@ -14,7 +14,6 @@ import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 import javax.servlet.ServletInputStream;
@@ -27,7 +26,6 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
 import org.apache.commons.compress.compressors.gzip.GzipCompressorInputStream;
@@ -42,15 +40,13 @@ import org.carlspring.strongbox.data.criteria.Paginator;
 import org.carlspring.strongbox.data.criteria.Predicate;
 import org.carlspring.strongbox.npm.NpmSearchRequest;
 import org.carlspring.strongbox.npm.NpmViewRequest;
-import org.carlspring.strongbox.npm.metadata.DistTags;
 import org.carlspring.strongbox.npm.metadata.PackageFeed;
 import org.carlspring.strongbox.npm.metadata.PackageVersion;
 import org.carlspring.strongbox.npm.metadata.SearchResults;
-import org.carlspring.strongbox.npm.metadata.Time;
-import org.carlspring.strongbox.npm.metadata.Versions;
 import org.carlspring.strongbox.providers.ProviderImplementationException;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
 import org.carlspring.strongbox.providers.layout.NpmPackageDesc;
+import org.carlspring.strongbox.providers.layout.NpmPackageFeedService;
 import org.carlspring.strongbox.providers.layout.NpmPackageSupplier;
 import org.carlspring.strongbox.providers.layout.NpmSearchResultSupplier;
 import org.carlspring.strongbox.providers.layout.NpmUnpublishService;
@@ -61,6 +57,7 @@ import org.carlspring.strongbox.repository.NpmRepositoryFeatures.ViewPackageEven
 import org.carlspring.strongbox.storage.repository.Repository;
 import org.carlspring.strongbox.storage.validation.artifact.ArtifactCoordinatesValidationException;
 import org.carlspring.strongbox.users.userdetails.SpringSecurityUser;
+import org.carlspring.strongbox.utils.ArtifactControllerHelper;
 import org.carlspring.strongbox.web.LayoutRequestMapping;
 import org.carlspring.strongbox.web.RepositoryMapping;
 
@@ -113,6 +110,9 @@ public class NpmArtifactController
     @Inject
     private NpmPackageSupplier npmPackageSupplier;
 
+    @Inject
+    private NpmPackageFeedService npmPackageFeedService;
+
     @Inject
     private NpmSearchResultSupplier npmSearchResultSupplier;
 
@@ -220,99 +220,64 @@ public class NpmArtifactController
     public void viewPackageFeedWithScope(@RepositoryMapping Repository repository,
                                          @PathVariable(name = "packageScope") String packageScope,
                                          @PathVariable(name = "packageName") String packageName,
+                                         HttpServletRequest request,
                                          HttpServletResponse response)
             throws Exception
     {
-        final String storageId = repository.getStorage().getId();
-        final String repositoryId = repository.getId();
-
         String packageId = NpmArtifactCoordinates.calculatePackageId(packageScope, packageName);
 
         NpmViewRequest npmSearchRequest = new NpmViewRequest();
         npmSearchRequest.setPackageId(packageId);
         viewPackageEventListener.setNpmSearchRequest(npmSearchRequest);
 
-        PackageFeed packageFeed = new PackageFeed();
-
-        packageFeed.setName(packageId);
-        packageFeed.setAdditionalProperty("_id", packageId);
-
-        Predicate predicate = createSearchPredicate(packageScope, packageName);
-
-        RepositoryProvider provider = repositoryProviderRegistry.getProvider(repository.getType());
-
-        Paginator paginator = new Paginator();
-        paginator.setProperty("version");
-
-        List<Path> searchResult = provider.search(storageId, repositoryId, predicate, paginator);
-
-        Versions versions = new Versions();
-        packageFeed.setVersions(versions);
-
-        Time npmTime = new Time();
-        packageFeed.setTime(npmTime);
-
-        DistTags distTags = new DistTags();
-        packageFeed.setDistTags(distTags);
-
-        searchResult.stream().map(npmPackageSupplier).forEach(p -> {
-            PackageVersion npmPackage = p.getNpmPackage();
-            versions.setAdditionalProperty(npmPackage.getVersion(), npmPackage);
-
-            npmTime.setAdditionalProperty(npmPackage.getVersion(), p.getReleaseDate());
+        boolean abbreviated = isAbbreviatedPackageFeedRequest(request);
+        String contentType = abbreviated ? NpmPackageFeedService.ABBREVIATED_PACKAGE_FEED_MEDIA_TYPE
+                                         : MediaType.APPLICATION_JSON_VALUE;
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
 
-            Date created = npmTime.getCreated();
-            npmTime.setCreated(created == null || created.before(p.getReleaseDate()) ? p.getReleaseDate() : created);
-
-            Date modified = npmTime.getModified();
-            npmTime.setModified(modified == null || modified.before(p.getReleaseDate()) ? p.getReleaseDate()
-                                                                                        : modified);
+        RepositoryPath packageFeedPath = npmPackageFeedService.resolvePackageFeed(repository, packageScope,
+                                                                                  packageName, abbreviated);
+        if (packageFeedPath != null)
+        {
+            ArtifactControllerHelper.provideArtifactHeaders(response, packageFeedPath);
+            response.setContentType(contentType);
+            if (ArtifactControllerHelper.checkNotModified(request, response))
+            {
+                return;
+            }
 
-            if (p.isLastVersion())
+            try (InputStream is = Files.newInputStream(packageFeedPath))
             {
-                distTags.setLatest(npmPackage.getVersion());
+                copyToResponse(is, response);
             }
 
-        });
-        packageFeed.setAdditionalProperty("_rev", generateRevisionHashcode(packageFeed));
-        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-        response.getOutputStream().write(npmJacksonMapper.writeValueAsBytes(packageFeed));
+            return;
+        }
+
+        PackageFeed packageFeed = npmPackageFeedService.buildPackageFeed(repository, packageScope, packageName);
+
+        response.setContentType(contentType);
+        response.getOutputStream().write(abbreviated ?
+                                         npmJacksonMapper.writeValueAsBytes(npmPackageFeedService.toAbbreviated(packageFeed)) :
+                                         npmJacksonMapper.writeValueAsBytes(packageFeed));
     }
 
-    private String generateRevisionHashcode(PackageFeed packageFeed)
+    private boolean isAbbreviatedPackageFeedRequest(HttpServletRequest request)
     {
-        String versionsShasum = packageFeed.getVersions().getAdditionalProperties()
-                                           .values()
-                                           .stream()
-                                           .map(x -> x.getDist().getShasum())
-                                           .collect(Collectors.joining());
-        return packageFeed.getVersions().getAdditionalProperties().size() + "-" +
-               DigestUtils.sha1Hex(versionsShasum).substring(0, 16);
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+
+        return accept != null && accept.contains(NpmPackageFeedService.ABBREVIATED_PACKAGE_FEED_MEDIA_TYPE);
     }
 
     @GetMapping(path = "{storageId}/{repositoryId}/{packageName}")
     @PreAuthorize("hasAuthority('ARTIFACTS_VIEW')")
     public void viewPackageFeed(@RepositoryMapping Repository repository,
                                 @PathVariable(name = "packageName") String packageName,
+                                HttpServletRequest request,
                                 HttpServletResponse response)
             throws Exception
     {
-        viewPackageFeedWithScope(repository, null, packageName, response);
-    }
-
-    private Predicate createSearchPredicate(String packageScope,
-                                            String packageName)
-    {
-        Predicate rootPredicate = Predicate.empty();
-
-        rootPredicate.and(Predicate.of(ExpOperator.EQ.of("artifactCoordinates.coordinates.extension", "tgz")));
-        rootPredicate.and(Predicate.of(ExpOperator.EQ.of("artifactCoordinates.coordinates.name", packageName)));
-        if (packageScope != null)
-        {
-            rootPredicate.and(Predicate.of(ExpOperator.EQ.of("artifactCoordinates.coordinates.scope", packageScope)));
-        }
-
-        return rootPredicate;
+        viewPackageFeedWithScope(repository, null, packageName, request, response);
     }
 
     @PreAuthorize("hasAuthority('ARTIFACTS_RESOLVE')")
@@ -432,6 +397,7 @@ public class NpmArtifactController
         NpmArtifactCoordinates coordinates = NpmArtifactCoordinates.of(name, packageJson.getVersion());
 
         storeNpmPackage(repository, coordinates, packageJson, packageTgz);
+        npmPackageFeedService.materialize(repository, coordinates.getScope(), coordinates.getName());
 
         return ResponseEntity.ok("");
     }
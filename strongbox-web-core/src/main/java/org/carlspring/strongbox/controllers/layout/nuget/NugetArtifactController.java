@@ -1,12 +1,12 @@
 package org.carlspring.strongbox.controllers.layout.nuget;
 
-import org.carlspring.strongbox.artifact.ArtifactTag;
 import org.carlspring.strongbox.artifact.coordinates.NugetArtifactCoordinates;
 import org.carlspring.strongbox.artifact.coordinates.PathNupkg;
 import org.carlspring.strongbox.artifact.coordinates.versioning.SemanticVersion;
 import org.carlspring.strongbox.controllers.BaseArtifactController;
 import org.carlspring.strongbox.data.criteria.Expression.ExpOperator;
 import org.carlspring.strongbox.data.criteria.Paginator;
+import org.carlspring.strongbox.data.criteria.Paginator.Order;
 import org.carlspring.strongbox.data.criteria.Predicate;
 import org.carlspring.strongbox.domain.ArtifactEntry;
 import org.carlspring.strongbox.domain.ArtifactTagEntry;
@@ -16,7 +16,6 @@ import org.carlspring.strongbox.providers.io.RepositoryPath;
 import org.carlspring.strongbox.providers.repository.RepositoryProvider;
 import org.carlspring.strongbox.providers.repository.RepositoryProviderRegistry;
 import org.carlspring.strongbox.repository.NugetRepositoryFeatures.RepositorySearchEventListener;
-import org.carlspring.strongbox.services.ArtifactTagService;
 import org.carlspring.strongbox.storage.metadata.nuget.NugetFormatException;
 import org.carlspring.strongbox.storage.metadata.nuget.Nupkg;
 import org.carlspring.strongbox.storage.metadata.nuget.Nuspec;
@@ -50,6 +49,8 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 import org.springframework.core.io.InputStreamResource;
@@ -87,8 +88,24 @@ public class NugetArtifactController
         extends BaseArtifactController
 {
 
-    @Inject
-    private ArtifactTagService artifactTagService;
+    /**
+     * The supported `$orderby` properties, keys are case insensitive.
+     */
+    private static final Map<String, String> ORDER_BY_PROPERTIES = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+    private static final Map<String, Order> ORDER_BY_DIRECTIONS = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+    static
+    {
+        ORDER_BY_PROPERTIES.put("Id", "artifactCoordinates.coordinates.id");
+        ORDER_BY_PROPERTIES.put("Version", "artifactCoordinates.coordinates.version");
+        ORDER_BY_PROPERTIES.put("LastUpdated", "lastUpdated");
+        ORDER_BY_PROPERTIES.put("Published", "created");
+        ORDER_BY_PROPERTIES.put("DownloadCount", "downloadCount");
+
+        ORDER_BY_DIRECTIONS.put("asc", Order.ASC);
+        ORDER_BY_DIRECTIONS.put("desc", Order.DESC);
+    }
 
     @Inject
     private RepositoryProviderRegistry repositoryProviderRegistry;
@@ -245,15 +262,10 @@ public class NugetArtifactController
         properties.setRating(Double.valueOf(0));
         properties.setVersionRating(Double.valueOf(0));
 
-        ArtifactTag lastVersionTag = artifactTagService.findOneOrCreate(ArtifactTagEntry.LAST_VERSION);
-        if (artifactEntry.getTagSet().contains(lastVersionTag))
-        {
-            properties.setIsLatestVersion(true);
-        }
-        else
-        {
-            properties.setIsLatestVersion(false);
-        }
+        // The tag set is already fetched with the artifact entry, so no lookup of the tag is needed.
+        properties.setIsLatestVersion(artifactEntry.getTagSet()
+                                                   .stream()
+                                                   .anyMatch(t -> ArtifactTagEntry.LAST_VERSION.equals(t.getName())));
 
     }
 
@@ -325,13 +337,40 @@ public class NugetArtifactController
         Paginator paginator = new Paginator();
         paginator.setSkip(skip);
         paginator.setLimit(top);
-        paginator.setProperty(orderBy);
+        applyOrderBy(paginator, orderBy);
 
         Predicate rootPredicate = createSearchPredicate(filter, searchTerm);
 
         return searchNupkg(storageId, repositoryId, provider, paginator, rootPredicate);
     }
 
+    /**
+     * Maps the OData `$orderby` option (for example `Id`, `Version desc`) onto
+     * the artifact entry properties, so that the feed is ordered by the
+     * database. The feed is ordered by `Id` if the option is not supported.
+     */
+    private void applyOrderBy(Paginator paginator,
+                              String orderBy)
+    {
+        String[] orderByParts = orderBy == null ? new String[0] : orderBy.trim().split("\\s+");
+
+        String property = orderByParts.length > 0 ? ORDER_BY_PROPERTIES.get(orderByParts[0]) : null;
+        Order order = orderByParts.length > 1 ? ORDER_BY_DIRECTIONS.get(orderByParts[1]) : Order.ASC;
+        if (property == null || order == null || orderByParts.length > 2)
+        {
+            if (orderBy != null && !orderBy.trim().isEmpty())
+            {
+                logger.debug("Unsupported $orderby [{}], the feed is ordered by [Id].", orderBy);
+            }
+
+            property = ORDER_BY_PROPERTIES.get("Id");
+            order = Order.ASC;
+        }
+
+        paginator.setProperty(property);
+        paginator.setOrder(order);
+    }
+
     private List<PathNupkg> searchNupkg(String storageId,
                                         String repositoryId,
                                         RepositoryProvider provider,
@@ -6,12 +6,14 @@ import org.carlspring.strongbox.data.criteria.Expression.ExpOperator;
 import org.carlspring.strongbox.data.criteria.Paginator;
 import org.carlspring.strongbox.data.criteria.Predicate;
 import org.carlspring.strongbox.providers.ProviderImplementationException;
+import org.carlspring.strongbox.providers.io.RepositoryFiles;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
 import org.carlspring.strongbox.providers.repository.RepositoryProvider;
 import org.carlspring.strongbox.providers.repository.RepositoryProviderRegistry;
 import org.carlspring.strongbox.storage.metadata.pypi.PypiArtifactMetadata;
 import org.carlspring.strongbox.storage.repository.Repository;
 import org.carlspring.strongbox.storage.validation.artifact.ArtifactCoordinatesValidationException;
+import org.carlspring.strongbox.utils.ArtifactControllerHelper;
 import org.carlspring.strongbox.utils.PypiPackageNameConverter;
 import org.carlspring.strongbox.web.LayoutRequestMapping;
 import org.carlspring.strongbox.web.RepositoryMapping;
@@ -22,13 +24,17 @@ import javax.servlet.http.HttpServletResponse;
 import javax.ws.rs.core.MediaType;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.HttpURLConnection;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -71,6 +77,9 @@ public class PypiArtifactController extends BaseArtifactController
     @Inject
     private PypiBrowsePackageHtmlResponseBuilder htmlResponseBuilder;
 
+    @Inject
+    private PypiSimpleIndexService pypiSimpleIndexService;
+
     @ApiOperation(value = "This end point will be used to upload/deploy python package.")
     @ApiResponses(value = { @ApiResponse(code = HttpURLConnection.HTTP_OK, message = "python package was deployed successfully."),
                             @ApiResponse(code = HttpURLConnection.HTTP_INTERNAL_ERROR, message = "An error occurred while executing request."),
@@ -221,16 +230,17 @@ public class PypiArtifactController extends BaseArtifactController
 
     @ApiOperation(value = "This Endpoint will be used to retreive all the versions of packages present in artifactory.")
     @ApiResponses(value = { @ApiResponse(code = HttpURLConnection.HTTP_OK, message = "Success"),
+                            @ApiResponse(code = HttpURLConnection.HTTP_NOT_MODIFIED, message = "Not Modified"),
                             @ApiResponse(code = HttpURLConnection.HTTP_NOT_FOUND, message = "Request Url Not Found"),
                             @ApiResponse(code = HttpURLConnection.HTTP_INTERNAL_ERROR, message = "An error occurred while executing download request."),
                             @ApiResponse(code = HttpURLConnection.HTTP_UNAVAILABLE, message = "Service Unavailable.") })
     @PreAuthorize("hasAuthority('ARTIFACTS_RESOLVE')")
     @RequestMapping(path = "/{storageId}/{repositoryId}/simple/{packageName}", method = RequestMethod.GET, produces = MediaType.TEXT_HTML)
-    public ResponseEntity<String> browsePackage(@RepositoryMapping Repository repository,
-                                                @PathVariable(name = "packageName") String packageName,
-                                                HttpServletRequest request,
-                                                HttpServletResponse response,
-                                                @RequestHeader HttpHeaders headers)
+    public void browsePackage(@RepositoryMapping Repository repository,
+                              @PathVariable(name = "packageName") String packageName,
+                              HttpServletRequest request,
+                              HttpServletResponse response,
+                              @RequestHeader HttpHeaders headers)
         throws Exception
     {
 
@@ -240,20 +250,90 @@ public class PypiArtifactController extends BaseArtifactController
                     repository.getStorage().getId(),
                     repository.getId(), packageNameToDownload);
 
-        RepositoryProvider repositoryProvider = repositoryProviderRegistry.getProvider(repository.getType());
+        RepositoryPath simpleIndexPath = pypiSimpleIndexService.resolveSimpleIndex(repository, packageNameToDownload);
+        if (simpleIndexPath != null)
+        {
+            provideSimpleIndexResponse(request, response, simpleIndexPath);
 
-        Predicate predicate = Predicate.empty();
-        predicate.and(Predicate.of(ExpOperator.EQ.of("artifactCoordinates.coordinates.packaging",
-                                                     PypiArtifactCoordinates.WHEEL_EXTENSION)));
-        predicate.and(Predicate.of(ExpOperator.EQ.of("artifactCoordinates.coordinates.distribution",
-                                                     packageNameToDownload)));
+            return;
+        }
 
-        Paginator paginator = new Paginator();
-        List<Path> searchResult = repositoryProvider.search(repository.getStorage().getId(), repository.getId(),
-                                                            predicate, paginator);
+        List<Path> searchResult = pypiSimpleIndexService.searchPackages(repository, packageNameToDownload);
 
         String searchPackageHtmlResponse = htmlResponseBuilder.getHtmlResponse(searchResult);
-        return ResponseEntity.status(HttpStatus.OK).body(searchPackageHtmlResponse);
+        writeHtmlResponse(response, searchPackageHtmlResponse);
+    }
+
+    @ApiOperation(value = "This Endpoint will be used to retreive the projects present in artifactory.")
+    @ApiResponses(value = { @ApiResponse(code = HttpURLConnection.HTTP_OK, message = "Success"),
+                            @ApiResponse(code = HttpURLConnection.HTTP_NOT_MODIFIED, message = "Not Modified"),
+                            @ApiResponse(code = HttpURLConnection.HTTP_INTERNAL_ERROR, message = "An error occurred while executing request."),
+                            @ApiResponse(code = HttpURLConnection.HTTP_UNAVAILABLE, message = "Service Unavailable.") })
+    @PreAuthorize("hasAuthority('ARTIFACTS_RESOLVE')")
+    @RequestMapping(path = { "/{storageId}/{repositoryId}/simple",
+                             "/{storageId}/{repositoryId}/simple/" }, method = RequestMethod.GET, produces = MediaType.TEXT_HTML)
+    public void browseRoot(@RepositoryMapping Repository repository,
+                           HttpServletRequest request,
+                           HttpServletResponse response)
+        throws Exception
+    {
+        RepositoryPath simpleIndexPath = pypiSimpleIndexService.resolveRootSimpleIndex(repository);
+        if (simpleIndexPath != null)
+        {
+            provideSimpleIndexResponse(request, response, simpleIndexPath);
+
+            return;
+        }
+
+        RepositoryProvider repositoryProvider = repositoryProviderRegistry.getProvider(repository.getType());
+
+        Predicate predicate = Predicate.of(ExpOperator.EQ.of("artifactCoordinates.coordinates.packaging",
+                                                             PypiArtifactCoordinates.WHEEL_EXTENSION));
+        List<Path> searchResult = repositoryProvider.search(repository.getStorage().getId(), repository.getId(),
+                                                            predicate, new Paginator());
+
+        Set<String> packageNames = new TreeSet<>();
+        for (Path path : searchResult)
+        {
+            packageNames.add(RepositoryFiles.readCoordinates((RepositoryPath) path).getId());
+        }
+
+        writeHtmlResponse(response, htmlResponseBuilder.getRootHtmlResponse(repository, packageNames));
+    }
+
+    private void provideSimpleIndexResponse(HttpServletRequest request,
+                                            HttpServletResponse response,
+                                            RepositoryPath simpleIndexPath)
+        throws IOException
+    {
+        ArtifactControllerHelper.provideArtifactHeaders(response, simpleIndexPath);
+        response.setContentType(MediaType.TEXT_HTML);
+
+        // PyPI checksums are SHA-256, so the ETag isn't provided with the headers.
+        String checksum = response.getHeader("Checksum-SHA256");
+        if (checksum != null)
+        {
+            response.setHeader(HttpHeaders.ETAG, String.format("\"%s\"", checksum));
+        }
+
+        if (ArtifactControllerHelper.checkNotModified(request, response))
+        {
+            return;
+        }
+
+        try (InputStream is = Files.newInputStream(simpleIndexPath))
+        {
+            copyToResponse(is, response);
+        }
+    }
+
+    private void writeHtmlResponse(HttpServletResponse response,
+                                   String html)
+        throws IOException
+    {
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.TEXT_HTML);
+        response.getOutputStream().write(html.getBytes(StandardCharsets.UTF_8));
     }
 
     private ResponseEntity<String> validateAndUploadPackage(PypiArtifactMetadata pypiArtifactMetadata,
@@ -277,6 +357,8 @@ public class PypiArtifactController extends BaseArtifactController
                                                                        coordinates.toPath());
         artifactManagementService.validateAndStore(repositoryPath, file.getInputStream());
 
+        pypiSimpleIndexService.materialize(repositoryPath.getRepository(), coordinates.getId());
+
         return ResponseEntity.status(HttpStatus.OK).body("The artifact was deployed successfully.");
     }
 
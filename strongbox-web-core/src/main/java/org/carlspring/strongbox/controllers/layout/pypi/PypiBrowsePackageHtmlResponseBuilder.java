@@ -6,9 +6,13 @@ import org.carlspring.strongbox.providers.io.RepositoryPath;
 import org.carlspring.strongbox.storage.repository.Repository;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.List;
 
+import org.apache.commons.codec.digest.MessageDigestAlgorithms;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -58,6 +62,30 @@ public class PypiBrowsePackageHtmlResponseBuilder
         return htmlResponse;
     }
 
+    /**
+     * @return the root page of the simple index, with the links to the pages
+     *         of the projects
+     */
+    public String getRootHtmlResponse(Repository repository,
+                                      Collection<String> packageNames)
+    {
+        StringBuilder packageLinks = new StringBuilder();
+        for (String packageName : packageNames)
+        {
+            packageLinks.append("<a href=\"" + "/storages/" + repository.getStorage().getId() + "/" + repository.getId() +
+                                "/simple/" + packageName + "/\">" + packageName + "</a><br>\n");
+        }
+
+        return "<html>\n" +
+               "        <head>\n" +
+               "            <title>Simple Index</title>\n" +
+               "        </head>\n" +
+               "        <body>\n" +
+               "                   " + packageLinks +
+               "        </body>\n" +
+               "</html>";
+    }
+
     private String getPackageLinks(List<Path> filePaths)
         throws IOException
     {
@@ -71,11 +99,30 @@ public class PypiBrowsePackageHtmlResponseBuilder
 
             Repository repository = repositoryPath.getRepository();
             packageLinks += "<a href=\"" + "/storages/" + repository.getStorage().getId() + "/" + repository.getId() +
-                            "/packages/" + artifactCoordinates.buildWheelPackageFileName() + "\">" +
+                            "/packages/" + artifactCoordinates.buildWheelPackageFileName() + getHashFragment(repositoryPath) + "\">" +
                             artifactCoordinates.buildWheelPackageFileName() + "</a><br>\n";
         }
 
         return packageLinks;
     }
 
+    /**
+     * @return the `#sha256=...` URL fragment, which lets pip verify the
+     *         package, or an empty string if there is no checksum file
+     */
+    private String getHashFragment(RepositoryPath repositoryPath)
+        throws IOException
+    {
+        RepositoryPath checksumPath = repositoryPath.getFileSystem()
+                                                    .provider()
+                                                    .resolveChecksumPathMap(repositoryPath)
+                                                    .get(MessageDigestAlgorithms.SHA_256);
+        if (checksumPath == null || !Files.exists(checksumPath))
+        {
+            return "";
+        }
+
+        return "#sha256=" + new String(Files.readAllBytes(checksumPath), StandardCharsets.UTF_8).trim();
+    }
+
 }
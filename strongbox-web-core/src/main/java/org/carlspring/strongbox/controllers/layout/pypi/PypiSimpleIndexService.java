@@ -0,0 +1,224 @@
+package org.carlspring.strongbox.controllers.layout.pypi;
+
+import org.carlspring.strongbox.artifact.coordinates.PypiArtifactCoordinates;
+import org.carlspring.strongbox.data.criteria.Expression.ExpOperator;
+import org.carlspring.strongbox.data.criteria.Paginator;
+import org.carlspring.strongbox.data.criteria.Predicate;
+import org.carlspring.strongbox.event.artifact.ArtifactEvent;
+import org.carlspring.strongbox.providers.io.MaterializedIndex;
+import org.carlspring.strongbox.providers.io.RepositoryFiles;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.providers.io.RepositoryPathResolver;
+import org.carlspring.strongbox.providers.layout.PypiLayoutProvider;
+import org.carlspring.strongbox.providers.repository.RepositoryProvider;
+import org.carlspring.strongbox.providers.repository.RepositoryProviderRegistry;
+import org.carlspring.strongbox.storage.repository.Repository;
+
+import javax.inject.Inject;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.apache.commons.codec.digest.MessageDigestAlgorithms;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Materializes the PEP 503 simple index pages of the hosted PyPI repositories.
+ * <br>
+ * The project pages, which already have the `#sha256=...` hash fragments, and
+ * the root page are stored with their SHA-256 checksums, see
+ * {@link MaterializedIndex}. A project page and the root page are deleted once
+ * a package file of the project was stored or deleted, and stored again on
+ * upload and on the next request.
+ */
+@Component
+public class PypiSimpleIndexService
+{
+
+    private static final Logger logger = LoggerFactory.getLogger(PypiSimpleIndexService.class);
+
+    @Inject
+    private RepositoryProviderRegistry repositoryProviderRegistry;
+
+    @Inject
+    private RepositoryPathResolver repositoryPathResolver;
+
+    @Inject
+    private PypiBrowsePackageHtmlResponseBuilder htmlResponseBuilder;
+
+    private final MaterializedIndex materializedIndex = new MaterializedIndex(MessageDigestAlgorithms.SHA_256,
+                                                                              ".sha256");
+
+    public boolean isMaterialized(Repository repository)
+    {
+        return repository.isHostedRepository();
+    }
+
+    /**
+     * @return the materialized project page, which is stored first if needed,
+     *         or `null` if the repository pages are not materialized or the
+     *         project doesn't have packages
+     */
+    public RepositoryPath resolveSimpleIndex(Repository repository,
+                                             String packageName)
+            throws IOException
+    {
+        if (!isMaterialized(repository))
+        {
+            return null;
+        }
+
+        RepositoryPath simpleIndexPath = resolveSimpleIndexPath(repository, packageName);
+        if (Files.exists(simpleIndexPath))
+        {
+            return simpleIndexPath;
+        }
+
+        materialize(repository, packageName);
+
+        return Files.exists(simpleIndexPath) ? simpleIndexPath : null;
+    }
+
+    /**
+     * @return the materialized root page, which is stored first if needed, or
+     *         `null` if the repository pages are not materialized
+     */
+    public RepositoryPath resolveRootSimpleIndex(Repository repository)
+            throws IOException
+    {
+        if (!isMaterialized(repository))
+        {
+            return null;
+        }
+
+        RepositoryPath simpleIndexPath = resolveSimpleIndexPath(repository, null);
+        if (Files.exists(simpleIndexPath))
+        {
+            return simpleIndexPath;
+        }
+
+        long expectedVersion = materializedIndex.getVersion(simpleIndexPath);
+
+        RepositoryPath rootPath = repositoryPathResolver.resolve(repository);
+        List<String> packageNames = MaterializedIndex.listDirectories(rootPath)
+                                                     .stream()
+                                                     .map(p -> p.getFileName().toString())
+                                                     .filter(n -> !n.startsWith("."))
+                                                     .sorted()
+                                                     .collect(Collectors.toList());
+
+        return store(expectedVersion, simpleIndexPath,
+                     htmlResponseBuilder.getRootHtmlResponse(repository, packageNames)) ? simpleIndexPath : null;
+    }
+
+    /**
+     * Stores the project page, or deletes it if the project doesn't have
+     * packages.
+     */
+    public void materialize(Repository repository,
+                            String packageName)
+            throws IOException
+    {
+        if (!isMaterialized(repository))
+        {
+            return;
+        }
+
+        RepositoryPath simpleIndexPath = resolveSimpleIndexPath(repository, packageName);
+
+        long expectedVersion = materializedIndex.getVersion(simpleIndexPath);
+
+        List<Path> packagePaths = searchPackages(repository, packageName);
+        if (packagePaths.isEmpty())
+        {
+            materializedIndex.delete(simpleIndexPath);
+
+            return;
+        }
+
+        store(expectedVersion, simpleIndexPath, htmlResponseBuilder.getHtmlResponse(packagePaths));
+    }
+
+    public List<Path> searchPackages(Repository repository,
+                                     String packageName)
+    {
+        RepositoryProvider repositoryProvider = repositoryProviderRegistry.getProvider(repository.getType());
+
+        Predicate predicate = Predicate.empty();
+        predicate.and(Predicate.of(ExpOperator.EQ.of("artifactCoordinates.coordinates.packaging",
+                                                     PypiArtifactCoordinates.WHEEL_EXTENSION)));
+        predicate.and(Predicate.of(ExpOperator.EQ.of("artifactCoordinates.coordinates.distribution",
+                                                     packageName)));
+
+        return repositoryProvider.search(repository.getStorage().getId(), repository.getId(), predicate,
+                                         new Paginator());
+    }
+
+    /**
+     * @param packageName the project name, or `null` for the root page
+     */
+    public RepositoryPath resolveSimpleIndexPath(Repository repository,
+                                                 String packageName)
+    {
+        return repositoryPathResolver.resolve(repository,
+                                              packageName == null ? PypiLayoutProvider.SIMPLE_INDEX_FILE_NAME :
+                                              String.format("%s/%s", packageName,
+                                                            PypiLayoutProvider.SIMPLE_INDEX_FILE_NAME));
+    }
+
+    @EventListener
+    public void handle(final ArtifactEvent<RepositoryPath> event)
+            throws IOException
+    {
+        RepositoryPath path = event.getPath();
+        if (!PypiLayoutProvider.ALIAS.equals(path.getRepository().getLayout())
+            || !isMaterialized(path.getRepository())
+            || !MaterializedIndex.isPackageChanged(event.getType())
+            || path.getFileName().toString().startsWith(PypiLayoutProvider.SIMPLE_INDEX_FILE_NAME))
+        {
+            return;
+        }
+
+        // Package files are `{distribution}/{version}/{file}`, while a deleted
+        // path can also be a project or a version directory.
+        String[] pathElements = RepositoryFiles.relativizePath(path).split("/");
+        if (pathElements.length == 0 || pathElements[0].isEmpty() || pathElements[0].startsWith("."))
+        {
+            return;
+        }
+
+        invalidate(path.getRepository(), pathElements[0]);
+        invalidate(path.getRepository(), null);
+    }
+
+    private void invalidate(Repository repository,
+                            String packageName)
+            throws IOException
+    {
+        materializedIndex.invalidate(resolveSimpleIndexPath(repository, packageName));
+    }
+
+    private boolean store(long expectedVersion,
+                          RepositoryPath simpleIndexPath,
+                          String html)
+            throws IOException
+    {
+        boolean stored = materializedIndex.store(expectedVersion,
+                                                 Collections.singletonMap(simpleIndexPath,
+                                                                          html.getBytes(StandardCharsets.UTF_8)));
+        if (stored)
+        {
+            logger.debug("Stored simple index page [{}].", simpleIndexPath);
+        }
+
+        return stored;
+    }
+
+}
@@ -26,6 +26,7 @@ public enum RemoteRepositoryFormConverter
         result.setPassword(source.getPassword());
         result.setChecksumPolicy(source.getChecksumPolicy());
         result.setCheckIntervalSeconds(source.getCheckIntervalSeconds());
+        result.setCacheQuotaInBytes(source.getCacheQuotaInBytes());
         result.setAllowsDirectoryBrowsing(source.isAllowsDirectoryBrowsing());
         result.setAutoImportRemoteSSLCertificate(source.isAutoImportRemoteSSLCertificate());
         return result;
@@ -20,6 +20,8 @@ import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 /**
  * @author sbespalov
@@ -28,6 +30,10 @@ import org.springframework.stereotype.Component;
 @Component
 public class ExtendedAuthoritiesVoter extends PreInvocationAuthorizationAdviceVoter
 {
+
+    private static final String STORAGE_AUTHORITIES_ATTRIBUTE = ExtendedAuthoritiesVoter.class.getName() +
+                                                                ".storageAuthorities.";
+
     private final Logger logger = LoggerFactory.getLogger(ExtendedAuthoritiesVoter.class);
 
     public ExtendedAuthoritiesVoter()
@@ -93,8 +99,7 @@ public class ExtendedAuthoritiesVoter extends PreInvocationAuthorizationAdviceVo
             }
 
             SpringSecurityUser userDetails = (SpringSecurityUser) authentication.getPrincipal();
-            // calculate privileges based on roles access model
-            Collection<Privileges> storageAuthorities = userDetails.getStorageAuthorities(UrlUtils.getRequestUri());
+            Collection<Privileges> storageAuthorities = getStorageAuthorities(userDetails, requestUri);
             if (storageAuthorities.isEmpty())
             {
                 return apiAuthorities;
@@ -107,6 +112,31 @@ public class ExtendedAuthoritiesVoter extends PreInvocationAuthorizationAdviceVo
             return extendedAuthorities;
         }
 
+        /**
+         * The storage authorities are calculated once per request, as they
+         * only depend on the user and the request URI.
+         */
+        @SuppressWarnings("unchecked")
+        private Collection<Privileges> getStorageAuthorities(SpringSecurityUser userDetails,
+                                                             String requestUri)
+        {
+            RequestAttributes requestAttributes = RequestContextHolder.currentRequestAttributes();
+            String attributeName = STORAGE_AUTHORITIES_ATTRIBUTE + userDetails.getUsername() + ":" + requestUri;
+
+            Collection<Privileges> result = (Collection<Privileges>) requestAttributes.getAttribute(attributeName,
+                                                                                                   RequestAttributes.SCOPE_REQUEST);
+            if (result != null)
+            {
+                return result;
+            }
+
+            // calculate privileges based on roles access model
+            result = userDetails.getStorageAuthorities(requestUri);
+            requestAttributes.setAttribute(attributeName, result, RequestAttributes.SCOPE_REQUEST);
+
+            return result;
+        }
+
         public String getName()
         {
             return getSourceAuthentication().getName();
@@ -6,29 +6,42 @@ import org.carlspring.commons.http.range.validation.ByteRangeValidationException
 import org.carlspring.strongbox.exception.ExceptionHandlingOutputStream;
 import org.carlspring.strongbox.io.ByteRangeInputStream;
 import org.carlspring.strongbox.io.StreamUtils;
-import org.carlspring.strongbox.providers.io.RepositoryFileAttributes;
 import org.carlspring.strongbox.providers.io.RepositoryFiles;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.providers.io.RepositoryStreamSupport.RepositoryInputStream;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.net.URI;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.apache.commons.codec.digest.MessageDigestAlgorithms;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.util.CollectionUtils;
+import org.springframework.web.context.request.ServletWebRequest;
 import static org.carlspring.strongbox.controllers.BaseController.copyToResponse;
+import static org.carlspring.strongbox.controllers.BaseController.transferToResponse;
 import static org.springframework.http.HttpStatus.PARTIAL_CONTENT;
 import static org.springframework.http.HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE;
 
@@ -50,6 +63,10 @@ public class ArtifactControllerHelper
 
     private static final String CRLF = "\r\n";
 
+    private static final Cache<URI, CachedChecksum> checksumCache = CacheBuilder.newBuilder()
+                                                                           .maximumSize(10000)
+                                                                           .build();
+
     private ArtifactControllerHelper()
     {
     }
@@ -94,6 +111,30 @@ public class ArtifactControllerHelper
                                                              HttpServletResponse response)
             throws IOException
     {
+        RepositoryInputStream ris = getTransferableStream(is);
+        if (ris != null)
+        {
+            long inputLength = ris.size();
+            if (byteRange.getOffset() >= inputLength)
+            {
+                setRangeNotSatisfiable(response, inputLength);
+
+                return;
+            }
+
+            long end = getRangeEnd(byteRange, inputLength);
+
+            response.setHeader(HttpHeaders.CONTENT_RANGE, String.format("bytes %d-%d/%d",
+                                                                        byteRange.getOffset(),
+                                                                        end,
+                                                                        inputLength));
+            response.setStatus(PARTIAL_CONTENT.value());
+
+            transferToResponse(ris, byteRange.getOffset(), end - byteRange.getOffset() + 1, response);
+
+            return;
+        }
+
         ByteRangeInputStream bris = StreamUtils.findSource(ByteRangeInputStream.class, is);
         long inputLength = bris != null ? StreamUtils.getLength(bris) : 0;
 
@@ -116,8 +157,9 @@ public class ArtifactControllerHelper
                                                                 HttpServletResponse response)
             throws IOException
     {
+        RepositoryInputStream ris = getTransferableStream(is);
         ByteRangeInputStream bris = StreamUtils.findSource(ByteRangeInputStream.class, is);
-        long length = bris != null ? StreamUtils.getLength(bris) : 0;
+        long length = ris != null ? ris.size() : bris != null ? StreamUtils.getLength(bris) : 0;
 
         boolean anyByteRangeNotSatisfiable = byteRanges.stream()
                                                        .anyMatch(byteRange -> byteRange.getOffset() >= length);
@@ -132,7 +174,14 @@ public class ArtifactControllerHelper
 
             prepareResponseBuilderForPartialRequestWithMultipleRanges(response);
 
-            copyPartialMultipleRangeToResponse(is, response, byteRanges, rangesContentType);
+            if (ris != null)
+            {
+                transferPartialMultipleRangeToResponse(ris, length, response, byteRanges, rangesContentType);
+            }
+            else
+            {
+                copyPartialMultipleRangeToResponse(is, response, byteRanges, rangesContentType);
+            }
         }
     }
 
@@ -184,12 +233,12 @@ public class ArtifactControllerHelper
                                               RepositoryPath path)
             throws IOException
     {
-        if (path == null || Files.notExists(path) || Files.isDirectory(path))
+        BasicFileAttributes fileAttributes = path == null ? null : readAttributes(path);
+        if (fileAttributes == null || fileAttributes.isDirectory())
         {
             response.setStatus(HttpStatus.NOT_FOUND.value());
             return;
         }
-        RepositoryFileAttributes fileAttributes = Files.readAttributes(path, RepositoryFileAttributes.class);
 
         response.setHeader(HttpHeaders.CONTENT_LENGTH, String.valueOf(fileAttributes.size()));
         response.setHeader(HttpHeaders.LAST_MODIFIED, DateTimeFormatter.RFC_1123_DATE_TIME.format(
@@ -202,12 +251,8 @@ public class ArtifactControllerHelper
         response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
 
         path.getFileSystem().provider().resolveChecksumPathMap(path).forEach((key, value) -> {
-            String checksumValue;
-            try
-            {
-                checksumValue = new String(Files.readAllBytes(value), StandardCharsets.UTF_8).trim();
-            }
-            catch (IOException ioe)
+            String checksumValue = readChecksum(value);
+            if (checksumValue == null)
             {
                 return;
             }
@@ -216,9 +261,102 @@ public class ArtifactControllerHelper
                                                 key.toUpperCase().replace("-", ""));
 
             response.setHeader(checksumName, checksumValue);
+
+            if (MessageDigestAlgorithms.SHA_1.equals(key))
+            {
+                response.setHeader(HttpHeaders.ETAG, String.format("\"%s\"", checksumValue));
+            }
         });
     }
 
+    private static BasicFileAttributes readAttributes(RepositoryPath path)
+            throws IOException
+    {
+        try
+        {
+            return Files.readAttributes(path, BasicFileAttributes.class);
+        }
+        catch (NoSuchFileException e)
+        {
+            return null;
+        }
+    }
+
+    /**
+     * Reads the checksum file value, which is cached until the checksum file
+     * modified.
+     *
+     * @return the checksum value, or `null` if there is no checksum file
+     */
+    private static String readChecksum(RepositoryPath checksumPath)
+    {
+        try
+        {
+            BasicFileAttributes attributes = readAttributes(checksumPath);
+            if (attributes == null)
+            {
+                return null;
+            }
+
+            URI key = checksumPath.toUri();
+            CachedChecksum cachedChecksum = checksumCache.getIfPresent(key);
+            if (cachedChecksum != null && cachedChecksum.isValid(attributes))
+            {
+                return cachedChecksum.value;
+            }
+
+            String value = new String(Files.readAllBytes(checksumPath), StandardCharsets.UTF_8).trim();
+            checksumCache.put(key, new CachedChecksum(attributes, value));
+
+            return value;
+        }
+        catch (IOException ioe)
+        {
+            return null;
+        }
+    }
+
+    /**
+     * Checks the conditional request headers (`If-None-Match` and
+     * `If-Modified-Since`) against the `ETag` and `Last-Modified` headers
+     * already provided with {@link #provideArtifactHeaders(HttpServletResponse, RepositoryPath)},
+     * and sets the `304 Not Modified` status if the client has the actual
+     * artifact.
+     *
+     * @return `true` if the artifact was not modified and no content should
+     *         be sent
+     */
+    public static boolean checkNotModified(HttpServletRequest request,
+                                           HttpServletResponse response)
+    {
+        String etag = response.getHeader(HttpHeaders.ETAG);
+        String lastModifiedHeader = response.getHeader(HttpHeaders.LAST_MODIFIED);
+        long lastModified = lastModifiedHeader == null ? -1 :
+                            ZonedDateTime.parse(lastModifiedHeader, DateTimeFormatter.RFC_1123_DATE_TIME)
+                                         .toInstant()
+                                         .toEpochMilli();
+
+        return new ServletWebRequest(request, response).checkNotModified(etag, lastModified);
+    }
+
+    /**
+     * Provides headers for the proxied artifact which is still being downloaded
+     * from remote, so it's local file and checksums are not available yet.
+     */
+    public static void provideInFlightArtifactHeaders(HttpServletResponse response,
+                                                      RepositoryPath path,
+                                                      long contentLength)
+            throws IOException
+    {
+        if (contentLength >= 0)
+        {
+            response.setHeader(HttpHeaders.CONTENT_LENGTH, String.valueOf(contentLength));
+        }
+
+        String contentType = getContentType(path);
+        response.setContentType(contentType);
+    }
+
     private static String getContentType(RepositoryPath path)
             throws IOException
     {
@@ -239,6 +377,106 @@ public class ArtifactControllerHelper
 
     }
 
+    /**
+     * @return the {@link RepositoryInputStream} if the artifact file could be
+     *         read with positional transfers, or `null` otherwise
+     */
+    private static RepositoryInputStream getTransferableStream(InputStream is)
+            throws IOException
+    {
+        if (is instanceof RepositoryInputStream && ((RepositoryInputStream) is).isTransferSupported())
+        {
+            return (RepositoryInputStream) is;
+        }
+
+        return null;
+    }
+
+    /**
+     * @return the last byte position of the range, which is the end of the
+     *         input for the ranges without the limit (like `bytes=100-`)
+     */
+    private static long getRangeEnd(ByteRange byteRange,
+                                    long inputLength)
+    {
+        Long limit = byteRange.getLimit();
+        if (limit == null || limit <= 0)
+        {
+            return inputLength - 1L;
+        }
+
+        return Math.min(limit, inputLength - 1L);
+    }
+
+    private static void transferPartialMultipleRangeToResponse(RepositoryInputStream is,
+                                                               long inputLength,
+                                                               HttpServletResponse response,
+                                                               List<ByteRange> byteRanges,
+                                                               String contentType)
+            throws IOException
+    {
+        // The part headers are prepared upfront, so that the `Content-Length`
+        // is known before the body is written.
+        List<byte[]> partHeaders = new ArrayList<>();
+        long contentLength = 0L;
+        for (ByteRange byteRange : byteRanges)
+        {
+            long start = byteRange.getOffset();
+            long end = getRangeEnd(byteRange, inputLength);
+
+            byte[] partHeader = toPartHeader(contentType, start, end, inputLength);
+            partHeaders.add(partHeader);
+
+            contentLength += partHeader.length + end - start + 1;
+        }
+
+        byte[] closingBoundary = toByteArray(CRLF + "--" + MULTIPART_BOUNDARY + "--");
+        contentLength += closingBoundary.length;
+
+        response.setHeader(HttpHeaders.CONTENT_LENGTH, Long.toString(contentLength));
+
+        try (OutputStream os = new ExceptionHandlingOutputStream(response.getOutputStream()))
+        {
+            WritableByteChannel channel = Channels.newChannel(os);
+            for (int i = 0; i < byteRanges.size(); i++)
+            {
+                long start = byteRanges.get(i).getOffset();
+                long count = getRangeEnd(byteRanges.get(i), inputLength) - start + 1;
+
+                os.write(partHeaders.get(i));
+
+                long transferred = is.transferTo(start, count, channel);
+                if (transferred < count)
+                {
+                    throw new IOException(String.format("Only [%d] of [%d] bytes transferred, the file was changed.",
+                                                        transferred,
+                                                        count));
+                }
+            }
+
+            os.write(closingBoundary);
+            os.flush();
+
+            response.flushBuffer();
+        }
+    }
+
+    /**
+     * @return the multipart boundary and the part headers, the same as written
+     *         with {@link #copyPartialMultipleRangeToResponse(InputStream, HttpServletResponse, List, String)}
+     */
+    private static byte[] toPartHeader(String contentType,
+                                       long start,
+                                       long end,
+                                       long inputLength)
+    {
+        return (CRLF
+                + "--" + MULTIPART_BOUNDARY + CRLF
+                + String.format("%s: %s", HttpHeaders.CONTENT_TYPE, contentType) + CRLF
+                + String.format("%s: bytes %d-%d/%d", HttpHeaders.CONTENT_RANGE, start, end, inputLength) + CRLF
+                + CRLF).getBytes(StandardCharsets.UTF_8);
+    }
+
     private static void copyPartialMultipleRangeToResponse(InputStream is,
                                                            HttpServletResponse response,
                                                            List<ByteRange> byteRanges,
@@ -330,4 +568,28 @@ public class ArtifactControllerHelper
         return (string.concat(CRLF)).getBytes(StandardCharsets.UTF_8);
     }
 
-}
\ No newline at end of file
+    private static class CachedChecksum
+    {
+
+        private final FileTime lastModifiedTime;
+
+        private final long size;
+
+        private final String value;
+
+        private CachedChecksum(BasicFileAttributes attributes,
+                               String value)
+        {
+            this.lastModifiedTime = attributes.lastModifiedTime();
+            this.size = attributes.size();
+            this.value = value;
+        }
+
+        private boolean isValid(BasicFileAttributes attributes)
+        {
+            return lastModifiedTime.equals(attributes.lastModifiedTime()) && size == attributes.size();
+        }
+
+    }
+
+}
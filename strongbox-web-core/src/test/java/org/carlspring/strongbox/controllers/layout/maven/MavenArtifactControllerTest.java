@@ -40,10 +40,12 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.zip.ZipEntry;
@@ -365,6 +367,45 @@ public class MavenArtifactControllerTest
         assertHeadersEquals(headersFromGET, headersFromHEAD);
     }
 
+    @ExtendWith({ RepositoryManagementTestExecutionListener.class,
+                  ArtifactManagementTestExecutionListener.class })
+    @Test
+    public void testConditionalFetch(@MavenRepository(repositoryId = REPOSITORY_RELEASES_1)
+                                     Repository repository,
+                                     @MavenTestArtifact(repositoryId = REPOSITORY_RELEASES_1,
+                                                        id = "org.carlspring.strongbox.browse:conditional-fetch",
+                                                        versions = "1.0")
+                                     Path artifactPath)
+    {
+        RootRepositoryPath repositoryPath = repositoryPathResolver.resolve(repository);
+        String url = getContextBaseUrl() + "/storages/" + STORAGE0 + "/" + REPOSITORY_RELEASES_1 + "/" +
+                     repositoryPath.relativize(artifactPath).toString();
+
+        MockMvcResponse response = mockMvc.when().get(url).thenReturn();
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK.value());
+
+        String etag = response.getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isEqualTo(String.format("\"%s\"", response.getHeader("Checksum-SHA1")));
+
+        mockMvc.header(HttpHeaders.IF_NONE_MATCH, etag)
+               .when()
+               .get(url)
+               .then()
+               .statusCode(HttpStatus.NOT_MODIFIED.value());
+
+        mockMvc.header(HttpHeaders.IF_MODIFIED_SINCE, response.getHeader(HttpHeaders.LAST_MODIFIED))
+               .when()
+               .get(url)
+               .then()
+               .statusCode(HttpStatus.NOT_MODIFIED.value());
+
+        mockMvc.header(HttpHeaders.IF_NONE_MATCH, "\"0000000000000000000000000000000000000000\"")
+               .when()
+               .get(url)
+               .then()
+               .statusCode(HttpStatus.OK.value());
+    }
+
     private void assertHeadersEquals(Headers h1,
                                      Headers h2)
     {
@@ -1110,6 +1151,11 @@ public class MavenArtifactControllerTest
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.PARTIAL_CONTENT.value());
         assertThat(response.getHeader(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
         assertThat(response.getContentType()).isEqualTo(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+
+        byte[] pom = Files.readAllBytes(getPomPath(artifactPath));
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 100-199/" + pom.length);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_LENGTH)).isEqualTo("100");
+        assertThat(response.asByteArray()).isEqualTo(Arrays.copyOfRange(pom, 100, 200));
     }
 
     @ExtendWith({ RepositoryManagementTestExecutionListener.class,
@@ -1154,6 +1200,24 @@ public class MavenArtifactControllerTest
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.PARTIAL_CONTENT.value());
         assertThat(response.getHeader(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
         assertThat(response.getContentType()).isEqualTo("multipart/byteranges; boundary=" + MULTIPART_BOUNDARY);
+
+        byte[] pom = Files.readAllBytes(getPomPath(artifactPath));
+        byte[] body = response.asByteArray();
+        assertThat(response.getHeader(HttpHeaders.CONTENT_LENGTH)).isEqualTo(String.valueOf(body.length));
+
+        // Byte preserving, so that the parts can be looked up in the body.
+        String bodyString = new String(body, StandardCharsets.ISO_8859_1);
+        assertThat(bodyString).endsWith("--" + MULTIPART_BOUNDARY + "--\r\n");
+        for (int[] range : new int[][]{ { 0, 29 }, { 200, 249 }, { 300, 309 } })
+        {
+            String part = String.format("%s: bytes %d-%d/%d\r\n\r\n",
+                                        HttpHeaders.CONTENT_RANGE,
+                                        range[0],
+                                        range[1],
+                                        pom.length)
+                          + new String(Arrays.copyOfRange(pom, range[0], range[1] + 1), StandardCharsets.ISO_8859_1);
+            assertThat(bodyString).contains(part);
+        }
     }
 
     @ExtendWith({ RepositoryManagementTestExecutionListener.class,
@@ -1178,6 +1242,12 @@ public class MavenArtifactControllerTest
         assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).startsWith("bytes */");
     }
 
+    private RepositoryPath getPomPath(Path artifactPath)
+    {
+        return (RepositoryPath) artifactPath.resolveSibling(artifactPath.getFileName().toString().replace(".jar", ".pom"))
+                                            .normalize();
+    }
+
     private MockMvcResponse getMockMvcResponseForPartialDownload(String byteRanges,
                                                                  Repository repository,
                                                                  Path artifactPath)
@@ -1189,9 +1259,7 @@ public class MavenArtifactControllerTest
 
         String url = getContextBaseUrl() + "/storages/{storageId}/{repositoryId}/{artifactPath}";
 
-        RepositoryPath artifactRepositoryPath = (RepositoryPath) artifactPath.resolveSibling(
-                artifactPath.getFileName().toString().replace(".jar", ".pom")).normalize();
-        String artifactRepositoryPathStr = RepositoryFiles.relativizePath(artifactRepositoryPath);
+        String artifactRepositoryPathStr = RepositoryFiles.relativizePath(getPomPath(artifactPath));
 
         // When
         return mockMvc.header(HttpHeaders.RANGE, "bytes=" + byteRanges)
@@ -7,6 +7,7 @@ import org.carlspring.strongbox.config.IntegrationTest;
 import org.carlspring.strongbox.providers.io.RepositoryFiles;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
 import org.carlspring.strongbox.providers.layout.NpmLayoutProvider;
+import org.carlspring.strongbox.providers.layout.NpmPackageFeedService;
 import org.carlspring.strongbox.rest.common.NpmRestAssuredBaseTest;
 import org.carlspring.strongbox.storage.repository.Repository;
 import org.carlspring.strongbox.testing.artifact.ArtifactManagementTestExecutionListener;
@@ -29,8 +30,11 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.carlspring.strongbox.artifact.generator.ArtifactGenerator.DEFAULT_BYTES_SIZE;
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
 
 /**
  * @author Pablo Tirado
@@ -156,6 +160,106 @@ public class NpmArtifactControllerTest
                .statusCode(HttpStatus.OK.value());
     }
 
+    @ExtendWith({ RepositoryManagementTestExecutionListener.class,
+                  ArtifactManagementTestExecutionListener.class })
+    @Test
+    public void testViewMaterializedPackageFeed(@NpmRepository(repositoryId = REPOSITORY_RELEASES)
+                                                        Repository repository,
+                                                @NpmTestArtifact(id = "npm-test-feed",
+                                                        versions = "1.0.0",
+                                                        scope = "@carlspring")
+                                                        Path packagePath,
+                                                @NpmTestArtifact(id = "npm-test-feed",
+                                                        versions = "1.0.1",
+                                                        scope = "@carlspring")
+                                                        Path nextPackagePath)
+            throws Exception
+    {
+        final String storageId = repository.getStorage().getId();
+        final String repositoryId = repository.getId();
+
+        NpmArtifactCoordinates coordinates = NpmArtifactCoordinates.of("@carlspring/npm-test-feed", "1.0.0");
+
+        Path publishJsonPath = packagePath.resolveSibling("publish.json");
+        byte[] publishJsonContent = Files.readAllBytes(publishJsonPath);
+
+        String url = getContextBaseUrl() + "/storages/{storageId}/{repositoryId}/{artifactId}";
+        mockMvc.contentType(MediaType.APPLICATION_JSON_VALUE)
+               .body(publishJsonContent)
+               .when()
+               .put(url, storageId, repositoryId, coordinates.getId())
+               .then()
+               .statusCode(HttpStatus.OK.value());
+
+        String etag = mockMvc.when()
+                             .get(url, storageId, repositoryId, coordinates.getId())
+                             .then()
+                             .statusCode(HttpStatus.OK.value())
+                             .header(HttpHeaders.ETAG, notNullValue())
+                             .body("versions.'1.0.0'.version", equalTo("1.0.0"))
+                             .extract()
+                             .header(HttpHeaders.ETAG);
+
+        // Not modified
+        mockMvc.header(HttpHeaders.IF_NONE_MATCH, etag)
+               .when()
+               .get(url, storageId, repositoryId, coordinates.getId())
+               .then()
+               .statusCode(HttpStatus.NOT_MODIFIED.value());
+
+        // Abbreviated
+        mockMvc.accept(NpmPackageFeedService.ABBREVIATED_PACKAGE_FEED_MEDIA_TYPE)
+               .when()
+               .get(url, storageId, repositoryId, coordinates.getId())
+               .then()
+               .statusCode(HttpStatus.OK.value())
+               .contentType(NpmPackageFeedService.ABBREVIATED_PACKAGE_FEED_MEDIA_TYPE)
+               .body("versions.'1.0.0'.dist.tarball", notNullValue())
+               .body("versions.'1.0.0'._id", nullValue());
+
+        // Publishing the next version invalidates the materialized packument.
+        mockMvc.contentType(MediaType.APPLICATION_JSON_VALUE)
+               .body(Files.readAllBytes(nextPackagePath.resolveSibling("publish.json")))
+               .when()
+               .put(url, storageId, repositoryId, coordinates.getId())
+               .then()
+               .statusCode(HttpStatus.OK.value());
+
+        String nextEtag = mockMvc.when()
+                                 .get(url, storageId, repositoryId, coordinates.getId())
+                                 .then()
+                                 .statusCode(HttpStatus.OK.value())
+                                 .body("versions.'1.0.0'.version", equalTo("1.0.0"))
+                                 .body("versions.'1.0.1'.version", equalTo("1.0.1"))
+                                 .extract()
+                                 .header(HttpHeaders.ETAG);
+
+        assertThat(nextEtag).isNotEqualTo(etag);
+
+        mockMvc.header(HttpHeaders.IF_NONE_MATCH, etag)
+               .when()
+               .get(url, storageId, repositoryId, coordinates.getId())
+               .then()
+               .statusCode(HttpStatus.OK.value());
+
+        // So does unpublishing it.
+        String unpublishUrl = getContextBaseUrl() + "/storages/{storageId}/{repositoryId}/{packageScope}/{packageName}"
+                              + "/-/{tarballName}/-rev/{rev}";
+        mockMvc.contentType(MediaType.APPLICATION_JSON_VALUE)
+               .when()
+               .delete(unpublishUrl, storageId, repositoryId, "@carlspring", "npm-test-feed",
+                       "npm-test-feed-1.0.1.tgz", "0-0000000000")
+               .then()
+               .statusCode(HttpStatus.OK.value());
+
+        mockMvc.when()
+               .get(url, storageId, repositoryId, coordinates.getId())
+               .then()
+               .statusCode(HttpStatus.OK.value())
+               .body("versions.'1.0.0'.version", equalTo("1.0.0"))
+               .body("versions.'1.0.1'", nullValue());
+    }
+
     @ExtendWith({ RepositoryManagementTestExecutionListener.class,
                   ArtifactManagementTestExecutionListener.class })
     @Test
@@ -63,6 +63,8 @@ public class NugetArtifactControllerTest extends NugetRestAssuredBaseTest
 
     private static final String REPOSITORY_RELEASES_3 = "nuget-test-releases-nact-3";
 
+    private static final String REPOSITORY_RELEASES_4 = "nuget-test-releases-nact-4";
+
     @Inject
     private ArtifactEntryService artifactEntryService;
 
@@ -355,6 +357,48 @@ public class NugetArtifactControllerTest extends NugetRestAssuredBaseTest
                .body("feed.entry[0].title", equalTo(coordinates.getId()));
     }
 
+    @ExtendWith({ RepositoryManagementTestExecutionListener.class,
+                  ArtifactManagementTestExecutionListener.class })
+    @Test
+    public void testPackageSearchOrderBy(@NugetRepository(storageId = STORAGE_ID,
+                                                          repositoryId = REPOSITORY_RELEASES_4)
+                                         Repository repository,
+                                         @NugetTestArtifact(storageId = STORAGE_ID,
+                                                            repositoryId = REPOSITORY_RELEASES_4,
+                                                            id = "Org.Carlspring.Strongbox.Nuget.Test.OrderBy",
+                                                            versions = { "1.0.0",
+                                                                         "1.0.1",
+                                                                         "1.0.2" })
+                                         List<Path> packagePaths)
+    {
+        final String storageId = repository.getStorage().getId();
+        final String repositoryId = repository.getId();
+
+        String url = getContextBaseUrl() +
+                     "/storages/{storageId}/{repositoryId}/Search()?$orderby={orderBy}&$skip=0&$top=30&searchTerm={searchTerm}&targetFramework=";
+        mockMvc.header(HttpHeaders.USER_AGENT, "NuGet/*")
+               .when()
+               .get(url, storageId, repositoryId, "Version desc", "Test.OrderBy")
+               .then()
+               .statusCode(HttpStatus.OK.value())
+               .and()
+               .assertThat()
+               .body("feed.entry.size()", equalTo(3))
+               .and()
+               .assertThat()
+               .body("feed.entry[0].properties.Version", equalTo("1.0.2"));
+
+        // Not supported, so the feed is ordered by `Id` instead.
+        mockMvc.header(HttpHeaders.USER_AGENT, "NuGet/*")
+               .when()
+               .get(url, storageId, repositoryId, "concat(Title,Id) sideways", "Test.OrderBy")
+               .then()
+               .statusCode(HttpStatus.OK.value())
+               .and()
+               .assertThat()
+               .body("feed.entry.size()", equalTo(3));
+    }
+
     @ExtendWith({ RepositoryManagementTestExecutionListener.class,
                   ArtifactManagementTestExecutionListener.class })
     @Test
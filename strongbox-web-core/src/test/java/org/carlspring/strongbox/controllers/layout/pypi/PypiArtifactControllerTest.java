@@ -206,6 +206,85 @@ public class PypiArtifactControllerTest extends PypiRestAssuredBaseTest
 
     }
 
+    @Test
+    @ExtendWith({ RepositoryManagementTestExecutionListener.class,
+                  ArtifactManagementTestExecutionListener.class })
+    public void testBrowseMaterializedSimpleIndex(@PypiTestRepository(repositoryId = REPOSITORY_RELEASES, storageId = REPOSITORY_STORAGE) Repository repository,
+                                                  @PypiTestArtifact(id = "hello_world_pypi", versions = "1.0") Path packagePath,
+                                                  @PypiTestArtifact(id = "hello_world_pypi", versions = "2.0") Path nextPackagePath)
+    {
+        final String storageId = repository.getStorage().getId();
+        final String repositoryId = repository.getId();
+
+        uploadPackage(storageId, repositoryId, packagePath);
+
+        final String url = getContextBaseUrl() + "/storages/{storageId}/{repositoryId}/simple/{packageName}/";
+
+        String etag = mockMvc.when()
+                             .get(url, storageId, repositoryId, "hello_world_pypi")
+                             .then()
+                             .log()
+                             .all()
+                             .statusCode(HttpStatus.OK.value())
+                             .contentType(ContentType.HTML)
+                             .header(HttpHeaders.ETAG, Matchers.notNullValue())
+                             .body(Matchers.containsString("<title>Links for hello_world_pypi</title>"),
+                                   Matchers.containsString("#sha256="))
+                             .extract()
+                             .header(HttpHeaders.ETAG);
+
+        mockMvc.header(HttpHeaders.IF_NONE_MATCH, etag)
+               .when()
+               .get(url, storageId, repositoryId, "hello_world_pypi")
+               .then()
+               .statusCode(HttpStatus.NOT_MODIFIED.value());
+
+        mockMvc.when()
+               .get(getContextBaseUrl() + "/storages/{storageId}/{repositoryId}/simple/", storageId, repositoryId)
+               .then()
+               .log()
+               .all()
+               .statusCode(HttpStatus.OK.value())
+               .contentType(ContentType.HTML)
+               .body(Matchers.containsString("/simple/hello_world_pypi/\">hello_world_pypi</a>"));
+
+        // Uploading the next version invalidates the materialized page.
+        uploadPackage(storageId, repositoryId, nextPackagePath);
+
+        String nextEtag = mockMvc.when()
+                                 .get(url, storageId, repositoryId, "hello_world_pypi")
+                                 .then()
+                                 .statusCode(HttpStatus.OK.value())
+                                 .body(Matchers.containsString(packagePath.getFileName().toString()),
+                                       Matchers.containsString(nextPackagePath.getFileName().toString()))
+                                 .extract()
+                                 .header(HttpHeaders.ETAG);
+
+        assertThat(nextEtag).isNotEqualTo(etag);
+
+        mockMvc.header(HttpHeaders.IF_NONE_MATCH, etag)
+               .when()
+               .get(url, storageId, repositoryId, "hello_world_pypi")
+               .then()
+               .statusCode(HttpStatus.OK.value());
+    }
+
+    private void uploadPackage(String storageId,
+                               String repositoryId,
+                               Path packagePath)
+    {
+        mockMvc.contentType(MediaType.MULTIPART_FORM_DATA_VALUE)
+               .multiPart("filetype", "sdist")
+               .multiPart(":action", "file_upload")
+               .multiPart("name", "hello_world_pypi")
+               .multiPart("metadata_version", "1.0")
+               .multiPart("content", packagePath.toFile())
+               .when()
+               .post(getContextBaseUrl() + "/storages/{storageId}/{repositoryId}", storageId, repositoryId)
+               .then()
+               .statusCode(HttpStatus.OK.value());
+    }
+
     @Test
     @ExtendWith({ RepositoryManagementTestExecutionListener.class,
                   ArtifactManagementTestExecutionListener.class })
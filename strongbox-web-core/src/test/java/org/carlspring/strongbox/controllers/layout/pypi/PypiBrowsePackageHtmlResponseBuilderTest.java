@@ -15,10 +15,13 @@ import org.carlspring.strongbox.testing.storage.repository.RepositoryManagementT
 import javax.inject.Inject;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
+import org.apache.commons.codec.digest.DigestUtils;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
@@ -70,7 +73,8 @@ public class PypiBrowsePackageHtmlResponseBuilderTest
         PypiArtifactCoordinates artifactCoordinates = (PypiArtifactCoordinates) RepositoryFiles.readCoordinates((RepositoryPath) packagePath.normalize());
 
         String links = "<a href=\"" + "/storages/" + repository.getStorage().getId() + "/" + repository.getId() +
-                       "/packages/" + artifactCoordinates.buildWheelPackageFileName() + "\">" +
+                       "/packages/" + artifactCoordinates.buildWheelPackageFileName() +
+                       "#sha256=" + DigestUtils.sha256Hex(Files.readAllBytes(packagePath.normalize())) + "\">" +
                        artifactCoordinates.buildWheelPackageFileName() + "</a><br>\n";
 
         String expectedHtmlResponse = "<html>\n" +
@@ -118,7 +122,8 @@ public class PypiBrowsePackageHtmlResponseBuilderTest
             packageName = artifactCoordinates.getId();
 
             links += "<a href=\"" + "/storages/" + repository.getStorage().getId() + "/" + repository.getId() +
-                     "/packages/" + artifactCoordinates.buildWheelPackageFileName() + "\">" +
+                     "/packages/" + artifactCoordinates.buildWheelPackageFileName() +
+                     "#sha256=" + DigestUtils.sha256Hex(Files.readAllBytes(path.normalize())) + "\">" +
                      artifactCoordinates.buildWheelPackageFileName() + "</a><br>\n";
         }
 
@@ -136,4 +141,30 @@ public class PypiBrowsePackageHtmlResponseBuilderTest
 
         assertThat(htmlResponse).isNotBlank().isEqualTo(expectedHtmlResponse);
     }
+
+    @Test
+    @ExtendWith(RepositoryManagementTestExecutionListener.class)
+    public void testRootPage(@PypiTestRepository(repositoryId = REPOSITORY_RELEASES,
+                                                 storageId = STORAGE_PYPI)
+                             Repository repository)
+    {
+        String expectedHtmlResponse = "<html>\n" +
+                                      "        <head>\n" +
+                                      "            <title>Simple Index</title>\n" +
+                                      "        </head>\n" +
+                                      "        <body>\n" +
+                                      "                   " +
+                                      "<a href=\"/storages/" + STORAGE_PYPI + "/" + REPOSITORY_RELEASES +
+                                      "/simple/hello_world/\">hello_world</a><br>\n" +
+                                      "<a href=\"/storages/" + STORAGE_PYPI + "/" + REPOSITORY_RELEASES +
+                                      "/simple/hello_world_pypi/\">hello_world_pypi</a><br>\n" +
+                                      "        </body>\n" +
+                                      "</html>";
+
+        String htmlResponse = htmlResponseBuilder.getRootHtmlResponse(repository,
+                                                                      Arrays.asList("hello_world", "hello_world_pypi"));
+
+        assertThat(htmlResponse).isEqualTo(expectedHtmlResponse);
+    }
+
 }
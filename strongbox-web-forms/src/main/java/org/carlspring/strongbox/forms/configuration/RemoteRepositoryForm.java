@@ -2,6 +2,7 @@ package org.carlspring.strongbox.forms.configuration;
 
 import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
 import javax.validation.constraints.PositiveOrZero;
 
 /**
@@ -29,6 +30,9 @@ public class RemoteRepositoryForm
     @PositiveOrZero(message = "The checkIntervalSeconds must be greater, or equal to zero.")
     private Integer checkIntervalSeconds;
 
+    @Positive(message = "The cacheQuotaInBytes must be greater than zero.")
+    private Long cacheQuotaInBytes;
+
     private boolean allowsDirectoryBrowsing = true;
 
     private boolean autoImportRemoteSSLCertificate;
@@ -83,6 +87,16 @@ public class RemoteRepositoryForm
         this.checkIntervalSeconds = checkIntervalSeconds;
     }
 
+    public Long getCacheQuotaInBytes()
+    {
+        return cacheQuotaInBytes;
+    }
+
+    public void setCacheQuotaInBytes(Long cacheQuotaInBytes)
+    {
+        this.cacheQuotaInBytes = cacheQuotaInBytes;
+    }
+
     public boolean isAllowsDirectoryBrowsing()
     {
         return allowsDirectoryBrowsing;